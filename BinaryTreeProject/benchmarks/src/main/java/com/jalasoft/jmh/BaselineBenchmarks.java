@@ -0,0 +1,81 @@
+package com.jalasoft.jmh;
+
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * The tree operations that already were in the baseline commit, written against its API only, so
+ * the same jar runs on the baseline and on the current library (mvn -P baseline package, see the
+ * README). Together with CollectionBenchmarks they are the numbers the performance work is
+ * compared with.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+public class BaselineBenchmarks {
+
+    @Benchmark
+    public IList<Integer> preorder(BaselineState state) {
+        return state.tree.preorder();
+    }
+
+    @Benchmark
+    public IList<Integer> inorder(BaselineState state) {
+        return state.tree.inorder();
+    }
+
+    @Benchmark
+    public IList<Integer> postorder(BaselineState state) {
+        return state.tree.postorder();
+    }
+
+    @Benchmark
+    public IList<Integer> levelorder(BaselineState state) {
+        return state.tree.levelorder();
+    }
+
+    @Benchmark
+    public Integer size(BaselineState state) {
+        return state.tree.size();
+    }
+
+    @Benchmark
+    public Integer height(BaselineState state) {
+        return state.tree.height();
+    }
+
+    @Benchmark
+    public Integer leaves(BaselineState state) {
+        return state.tree.leaves();
+    }
+
+    @Benchmark
+    public Boolean isBalanced(BaselineState state) {
+        return state.tree.isBalanced();
+    }
+
+    @Benchmark
+    public IBinaryTree<Integer> deepCopy(BaselineState state) {
+        return state.tree.deepCopy();
+    }
+
+    @Benchmark
+    public boolean treeEquals(BaselineState state) {
+        return state.tree.equals(state.twin);
+    }
+
+    @Benchmark
+    public int treeHashCode(BaselineState state) {
+        return state.tree.hashCode();
+    }
+}
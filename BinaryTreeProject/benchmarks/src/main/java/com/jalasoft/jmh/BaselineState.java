@@ -0,0 +1,76 @@
+package com.jalasoft.jmh;
+
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * The trees of BaselineBenchmarks, built with the BinaryNode constructor alone since the baseline
+ * has no TreeShapes. The nodes are the ones TreeShapes.COMPLETE and TreeShapes.RANDOM build, with
+ * the same seed; the skewed shapes are left out because the baseline metrics recurse as deep as
+ * the tree. twin is a second tree with the same shape and elements.
+ */
+@State(Scope.Benchmark)
+public class BaselineState {
+
+    private static final long SEED = 42L;
+
+    @Param({"COMPLETE", "RANDOM"})
+    public String shape;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    BinaryTree<Integer> tree;
+    BinaryTree<Integer> twin;
+
+    @Setup(Level.Trial)
+    public void buildTrees() {
+        this.tree = this.build();
+        this.twin = this.build();
+    }
+
+    private BinaryTree<Integer> build() {
+        BinaryTree<Integer> tree = new BinaryTree<>(-1);
+        if (this.shape.equals("COMPLETE")) {
+            tree.getRoot().setLeft(complete(this.size - 1));
+        } else {
+            tree.getRoot().setLeft(random(new Random(SEED), 0, this.size - 1));
+        }
+        return tree;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BinaryNode<Integer> complete(int size) {
+        BinaryNode<Integer>[] nodes = (BinaryNode<Integer>[]) new BinaryNode<?>[size];
+        for (int i = size - 1; i >= 0; i--) {
+            int left = 2 * i + 1;
+            int right = left + 1;
+            nodes[i] = new BinaryNode<>(i,
+                    left < size ? nodes[left] : null,
+                    right < size ? nodes[right] : null);
+            if (left < size) {
+                nodes[left] = null;
+            }
+            if (right < size) {
+                nodes[right] = null;
+            }
+        }
+        return size == 0 ? null : nodes[0];
+    }
+
+    private static BinaryNode<Integer> random(Random random, int first, int size) {
+        if (size == 0) {
+            return null;
+        }
+        int leftSize = random.nextInt(size);
+        BinaryNode<Integer> left = random(random, first, leftSize);
+        BinaryNode<Integer> right = random(random, first + leftSize + 1, size - leftSize - 1);
+        return new BinaryNode<>(first + leftSize, left, right);
+    }
+}
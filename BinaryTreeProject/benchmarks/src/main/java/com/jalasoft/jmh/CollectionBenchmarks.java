@@ -0,0 +1,136 @@
+package com.jalasoft.jmh;
+
+import com.jalasoft.main.LinkedList;
+import com.jalasoft.main.LinkedQueue;
+import com.jalasoft.main.LinkedStack;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * LinkedList, LinkedQueue and LinkedStack holding size elements: filling one from empty, the
+ * O(1) operations at the ends of a full one, and the ones that walk the nodes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+public class CollectionBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Collections {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        LinkedList<Integer> list;
+        LinkedQueue<Integer> queue;
+        LinkedStack<Integer> stack;
+
+        @Setup(Level.Trial)
+        public void fill() {
+            this.list = new LinkedList<>();
+            this.queue = new LinkedQueue<>();
+            this.stack = new LinkedStack<>();
+            for (int i = 0; i < this.size; i++) {
+                this.list.addLast(i);
+                this.queue.enqueue(i);
+                this.stack.push(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public LinkedList<Integer> listAddLast(Collections state) {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < state.size; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Integer listAddFirstRemoveFirst(Collections state) {
+        state.list.addFirst(-1);
+        Integer first = state.list.getFirst();
+        state.list.removeFirst();
+        return first;
+    }
+
+    @Benchmark
+    public Integer listAddLastRemoveLast(Collections state) {
+        state.list.addLast(-1);
+        Integer last = state.list.getLast();
+        state.list.removeLast();
+        return last;
+    }
+
+    @Benchmark
+    public Integer listGetMiddle(Collections state) {
+        return state.list.get(state.size / 2);
+    }
+
+    @Benchmark
+    public Boolean listContainsMissing(Collections state) {
+        return state.list.contains(-1);
+    }
+
+    @Benchmark
+    public void listIterate(Collections state, Blackhole blackhole) {
+        for (Integer elem : state.list) {
+            blackhole.consume(elem);
+        }
+    }
+
+    @Benchmark
+    public LinkedQueue<Integer> queueFillAndDrain(Collections state) {
+        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        for (int i = 0; i < state.size; i++) {
+            queue.enqueue(i);
+        }
+        while (!queue.isEmpty()) {
+            queue.dequeue();
+        }
+        return queue;
+    }
+
+    @Benchmark
+    public Integer queueEnqueueDequeue(Collections state) {
+        state.queue.enqueue(-1);
+        Integer front = state.queue.front();
+        state.queue.dequeue();
+        return front;
+    }
+
+    @Benchmark
+    public LinkedStack<Integer> stackFillAndDrain(Collections state) {
+        LinkedStack<Integer> stack = new LinkedStack<>();
+        for (int i = 0; i < state.size; i++) {
+            stack.push(i);
+        }
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+        return stack;
+    }
+
+    @Benchmark
+    public Integer stackPushPop(Collections state) {
+        state.stack.push(-1);
+        Integer top = state.stack.peek();
+        state.stack.pop();
+        return top;
+    }
+}
@@ -0,0 +1,34 @@
+package com.jalasoft.jmh;
+
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.CopyStrategies;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * deepCopy sharing the elements and with the default strategy, which for Integer elements also
+ * shares them after checking their class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+public class CopyBenchmarks {
+
+    @Benchmark
+    public IBinaryTree<Integer> deepCopyShare(TreeState state) {
+        return state.tree.deepCopy(CopyStrategies.share());
+    }
+
+    @Benchmark
+    public IBinaryTree<Integer> deepCopy(TreeState state) {
+        return state.tree.deepCopy();
+    }
+}
@@ -0,0 +1,52 @@
+package com.jalasoft.jmh;
+
+import com.jalasoft.main.BinaryTree;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * equals against a tree built apart with the same shape and elements, which has to visit every
+ * node, and hashCode from the cache of the root and after a write to the deepest leaf.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+public class EqualityBenchmarks {
+
+    public static class TwinState extends TreeState {
+
+        BinaryTree<Integer> twin;
+
+        @Setup(Level.Trial)
+        public void buildTwin() {
+            this.twin = this.shape.tree(this.size, SEED);
+            this.twin.size();
+        }
+    }
+
+    @Benchmark
+    public boolean treeEquals(TwinState state) {
+        return state.tree.equals(state.twin);
+    }
+
+    @Benchmark
+    public int treeHashCode(TreeState state) {
+        return state.tree.hashCode();
+    }
+
+    @Benchmark
+    public int treeHashCodeAfterWrite(TreeState state) {
+        state.leaf.setElem(state.leaf.getElem());
+        return state.tree.hashCode();
+    }
+}
@@ -0,0 +1,54 @@
+package com.jalasoft.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * The metrics read from the caches of the nodes, and read again after a write to the deepest
+ * leaf, which has to recompute the whole path from that leaf to the root.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+public class MetricBenchmarks {
+
+    @Benchmark
+    public Integer size(TreeState state) {
+        return state.tree.size();
+    }
+
+    @Benchmark
+    public Integer height(TreeState state) {
+        return state.tree.height();
+    }
+
+    @Benchmark
+    public Integer leaves(TreeState state) {
+        return state.tree.leaves();
+    }
+
+    @Benchmark
+    public Boolean isBalanced(TreeState state) {
+        return state.tree.isBalanced();
+    }
+
+    @Benchmark
+    public Integer sizeAfterWrite(TreeState state) {
+        state.leaf.setElem(state.leaf.getElem());
+        return state.tree.size();
+    }
+
+    @Benchmark
+    public Boolean isBalancedAfterWrite(TreeState state) {
+        state.leaf.setElem(state.leaf.getElem());
+        return state.tree.isBalanced();
+    }
+}
@@ -0,0 +1,80 @@
+package com.jalasoft.jmh;
+
+import com.jalasoft.interfaces.IList;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * The four traversals as lists and as iterators, and the two Morris traversals.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+public class TraversalBenchmarks {
+
+    @Benchmark
+    public IList<Integer> preorder(TreeState state) {
+        return state.tree.preorder();
+    }
+
+    @Benchmark
+    public IList<Integer> inorder(TreeState state) {
+        return state.tree.inorder();
+    }
+
+    @Benchmark
+    public IList<Integer> postorder(TreeState state) {
+        return state.tree.postorder();
+    }
+
+    @Benchmark
+    public IList<Integer> levelorder(TreeState state) {
+        return state.tree.levelorder();
+    }
+
+    @Benchmark
+    public void preorderIterator(TreeState state, Blackhole blackhole) {
+        consume(state.tree.preorderIterator(), blackhole);
+    }
+
+    @Benchmark
+    public void inorderIterator(TreeState state, Blackhole blackhole) {
+        consume(state.tree.inorderIterator(), blackhole);
+    }
+
+    @Benchmark
+    public void postorderIterator(TreeState state, Blackhole blackhole) {
+        consume(state.tree.postorderIterator(), blackhole);
+    }
+
+    @Benchmark
+    public void levelorderIterator(TreeState state, Blackhole blackhole) {
+        consume(state.tree.levelorderIterator(), blackhole);
+    }
+
+    @Benchmark
+    public void morrisInorder(TreeState state, Blackhole blackhole) {
+        state.tree.morrisInorder(blackhole::consume);
+    }
+
+    @Benchmark
+    public void morrisPreorder(TreeState state, Blackhole blackhole) {
+        state.tree.morrisPreorder(blackhole::consume);
+    }
+
+    private static void consume(Iterator<Integer> iterator, Blackhole blackhole) {
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
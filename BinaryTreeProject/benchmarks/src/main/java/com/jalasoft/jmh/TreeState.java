@@ -0,0 +1,42 @@
+package com.jalasoft.jmh;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * A tree of every shape and size, built once per trial with its caches up to date. leaf is the
+ * leaf reached going left whenever possible, the deepest one for the skewed and zigzag shapes:
+ * writing to it dirties the longest path a write can.
+ */
+@State(Scope.Benchmark)
+public class TreeState {
+
+    static final long SEED = 42L;
+
+    @Param({"COMPLETE", "RANDOM", "LEFT_SKEWED", "ZIGZAG"})
+    public TreeShapes shape;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    BinaryTree<Integer> tree;
+    BinaryNode<Integer> leaf;
+
+    @Setup(Level.Trial)
+    public void buildTree() {
+        this.tree = this.shape.tree(this.size, SEED);
+        this.tree.size();
+
+        BinaryNode<Integer> node = this.tree.getRoot();
+        while (node.getLeft() != null || node.getRight() != null) {
+            node = node.getLeft() != null ? node.getLeft() : node.getRight();
+        }
+        this.leaf = node;
+    }
+}
@@ -4,56 +4,99 @@ import com.jalasoft.integration.exceptions.ContractViolationException;
 
 public final class Verification
 {
-	
+
 	public static final String PRECONDITION_ERROR = "Precondicion Fallida.";
 	public static final String POSTCONDITION_ERROR = "Postcondicion Fallida.";
 	public static final String CLASS_INVARIANT_ERROR = "Invariante de Clase Fallido.";
 	public static final String CHECK_ERROR = "Asercion Fallida.";
 
+	public static final String LEVEL_PROPERTY = "com.jalasoft.verification.level";
+
+	public enum Level {
+		OFF,
+		CHEAP,
+		FULL
+	}
+
+	private static volatile Level level = levelFromProperty(System.getProperty(LEVEL_PROPERTY));
+
+	private Verification() {
+	}
+
+	public static Level getLevel() {
+		return level;
+	}
+
+	public static void setLevel(Level newLevel) {
+		if (newLevel == null) {
+			throw new IllegalArgumentException("Verification level must not be null");
+		}
+		level = newLevel;
+	}
+
+	public static boolean isEnabled(Level required) {
+		return level.compareTo(required) >= 0;
+	}
+
+	public static boolean isFull() {
+		return level == Level.FULL;
+	}
+
+	static Level levelFromProperty(String value) {
+		if (value == null || value.isBlank()) {
+			return Level.CHEAP;
+		}
+		try {
+			return Level.valueOf(value.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return Level.CHEAP;
+		}
+	}
+
 	public static void require(boolean condition) {
-		if (!condition) {
+		if (!condition && level != Level.OFF) {
 			throw new ContractViolationException(PRECONDITION_ERROR);
 		}
 	}
-	
+
 	public static void require(boolean condition, String description) {
-		if (!condition) {
+		if (!condition && level != Level.OFF) {
 			throw new ContractViolationException(PRECONDITION_ERROR + description);
 		}
 	}
-	
+
 	public static void ensure(boolean condition) {
-		if (!condition) {
+		if (!condition && level == Level.FULL) {
 			throw new ContractViolationException(POSTCONDITION_ERROR);
 		}
 	}
-	
+
 	public static void ensure(boolean condition, String description) {
-		if (!condition) {
+		if (!condition && level == Level.FULL) {
 			throw new ContractViolationException(POSTCONDITION_ERROR + description);
 		}
 	}
-	
+
 	public static void invariant(boolean condition) {
-		if (!condition) {
+		if (!condition && level == Level.FULL) {
 			throw new ContractViolationException(CLASS_INVARIANT_ERROR);
 		}
 	}
-	
+
 	public static void invariant(boolean condition, String description) {
-		if (!condition) {
+		if (!condition && level == Level.FULL) {
 			throw new ContractViolationException(CLASS_INVARIANT_ERROR + description);
 		}
 	}
-	
+
 	public static void check(boolean condition) {
-		if (!condition) {
+		if (!condition && level == Level.FULL) {
 			throw new ContractViolationException(CHECK_ERROR);
 		}
 	}
-	
+
 	public static void check(boolean condition, String description) {
-		if (!condition) {
+		if (!condition && level == Level.FULL) {
 			throw new ContractViolationException(CHECK_ERROR + description);
 		}
 	}
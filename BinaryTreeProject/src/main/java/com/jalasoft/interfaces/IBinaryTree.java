@@ -1,6 +1,15 @@
 package com.jalasoft.interfaces;
 
 import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.CopyStrategies;
+import com.jalasoft.main.TreeMerge;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface IBinaryTree<T> {
 
@@ -30,7 +39,51 @@ public interface IBinaryTree<T> {
 
     IList<T> levelorder();
 
-    IList<T> mergetree();
+    Iterator<T> preorderIterator();
 
-    IBinaryTree<T> deepCopy();
+    Iterator<T> inorderIterator();
+
+    Iterator<T> postorderIterator();
+
+    Iterator<T> levelorderIterator();
+
+    default Iterable<T> preorderView() {
+        return this::preorderIterator;
+    }
+
+    default Iterable<T> inorderView() {
+        return this::inorderIterator;
+    }
+
+    default Iterable<T> postorderView() {
+        return this::postorderIterator;
+    }
+
+    default Iterable<T> levelorderView() {
+        return this::levelorderIterator;
+    }
+
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(inorderIterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner, TreeMerge.Mode mode);
+
+    default IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner) {
+        return mergetree(other, combiner, TreeMerge.Mode.COPY);
+    }
+
+    default IBinaryTree<T> deepCopy() {
+        return deepCopy(CopyStrategies.deep());
+    }
+
+    IBinaryTree<T> deepCopy(UnaryOperator<T> copier);
 }
\ No newline at end of file
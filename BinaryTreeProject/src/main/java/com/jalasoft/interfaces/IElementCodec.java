@@ -0,0 +1,16 @@
+package com.jalasoft.interfaces;
+
+import java.nio.ByteBuffer;
+
+public interface IElementCodec<T> {
+
+    int VARIABLE_SIZE = -1;
+
+    int fixedSize();
+
+    int sizeOf(T elem);
+
+    void write(T elem, ByteBuffer target);
+
+    T read(ByteBuffer source, int length);
+}
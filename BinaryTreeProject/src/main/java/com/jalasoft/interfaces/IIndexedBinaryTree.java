@@ -0,0 +1,16 @@
+package com.jalasoft.interfaces;
+
+public interface IIndexedBinaryTree<T> extends IBinaryTree<T> {
+
+    int NIL = -1;
+
+    int root();
+
+    boolean isNode(int node);
+
+    int left(int node);
+
+    int right(int node);
+
+    T elem(int node);
+}
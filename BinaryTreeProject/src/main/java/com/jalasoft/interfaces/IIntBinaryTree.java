@@ -0,0 +1,42 @@
+package com.jalasoft.interfaces;
+
+import com.jalasoft.main.IntBinaryNode;
+
+public interface IIntBinaryTree {
+
+    IntBinaryNode getRoot();
+
+    IntBinaryNode getLeftChild();
+
+    IntBinaryNode getRightChild();
+
+    boolean isEmpty();
+
+    void makeEmpty();
+
+    boolean isBalanced();
+
+    int height();
+
+    int size();
+
+    int leaves();
+
+    IIntList preorder();
+
+    IIntList inorder();
+
+    IIntList postorder();
+
+    IIntList levelorder();
+
+    int[] preorderArray();
+
+    int[] inorderArray();
+
+    int[] postorderArray();
+
+    int[] levelorderArray();
+
+    IIntBinaryTree deepCopy();
+}
@@ -0,0 +1,49 @@
+package com.jalasoft.interfaces;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+public interface IIntList {
+
+    void addFirst(final int elem);
+
+    void addLast(final int elem);
+
+    int getFirst();
+
+    int getLast();
+
+    void removeFirst();
+
+    void removeLast();
+
+    boolean contains(final int elem);
+
+    void removeElement(final int elem);
+
+    void clear();
+
+    int get(int index);
+
+    void set(int index, final int elem);
+
+    void add(int index, final int elem);
+
+    void removeAt(int index);
+
+    int indexOf(final int elem);
+
+    int lastIndexOf(final int elem);
+
+    boolean isEmpty();
+
+    int size();
+
+    int[] toArray();
+
+    PrimitiveIterator.OfInt iterator();
+
+    IntStream stream();
+
+    IIntList deepCopy();
+}
@@ -0,0 +1,16 @@
+package com.jalasoft.interfaces;
+
+public interface IIntQueue {
+
+    void enqueue(final int elem);
+
+    void dequeue();
+
+    int front();
+
+    boolean isEmpty();
+
+    int size();
+
+    IIntQueue deepCopy();
+}
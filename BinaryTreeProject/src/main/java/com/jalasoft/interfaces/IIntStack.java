@@ -0,0 +1,16 @@
+package com.jalasoft.interfaces;
+
+public interface IIntStack {
+
+    void push(final int elem);
+
+    void pop();
+
+    int peek();
+
+    boolean isEmpty();
+
+    int size();
+
+    IIntStack deepCopy();
+}
@@ -1,5 +1,10 @@
 package com.jalasoft.interfaces;
 
+import com.jalasoft.main.CopyStrategies;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface IList<T> extends Iterable<T> {
 
     void addFirst(final T elem);
@@ -36,5 +41,17 @@ public interface IList<T> extends Iterable<T> {
 
     Integer size();
 
-    IList<T> deepCopy();
+    default IList<T> deepCopy() {
+        return deepCopy(CopyStrategies.deep());
+    }
+
+    IList<T> deepCopy(UnaryOperator<T> copier);
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
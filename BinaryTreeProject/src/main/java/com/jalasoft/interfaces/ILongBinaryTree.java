@@ -0,0 +1,42 @@
+package com.jalasoft.interfaces;
+
+import com.jalasoft.main.LongBinaryNode;
+
+public interface ILongBinaryTree {
+
+    LongBinaryNode getRoot();
+
+    LongBinaryNode getLeftChild();
+
+    LongBinaryNode getRightChild();
+
+    boolean isEmpty();
+
+    void makeEmpty();
+
+    boolean isBalanced();
+
+    int height();
+
+    int size();
+
+    int leaves();
+
+    ILongList preorder();
+
+    ILongList inorder();
+
+    ILongList postorder();
+
+    ILongList levelorder();
+
+    long[] preorderArray();
+
+    long[] inorderArray();
+
+    long[] postorderArray();
+
+    long[] levelorderArray();
+
+    ILongBinaryTree deepCopy();
+}
@@ -0,0 +1,49 @@
+package com.jalasoft.interfaces;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+public interface ILongList {
+
+    void addFirst(final long elem);
+
+    void addLast(final long elem);
+
+    long getFirst();
+
+    long getLast();
+
+    void removeFirst();
+
+    void removeLast();
+
+    boolean contains(final long elem);
+
+    void removeElement(final long elem);
+
+    void clear();
+
+    long get(int index);
+
+    void set(int index, final long elem);
+
+    void add(int index, final long elem);
+
+    void removeAt(int index);
+
+    int indexOf(final long elem);
+
+    int lastIndexOf(final long elem);
+
+    boolean isEmpty();
+
+    int size();
+
+    long[] toArray();
+
+    PrimitiveIterator.OfLong iterator();
+
+    LongStream stream();
+
+    ILongList deepCopy();
+}
@@ -0,0 +1,16 @@
+package com.jalasoft.interfaces;
+
+public interface ILongQueue {
+
+    void enqueue(final long elem);
+
+    void dequeue();
+
+    long front();
+
+    boolean isEmpty();
+
+    int size();
+
+    ILongQueue deepCopy();
+}
@@ -0,0 +1,16 @@
+package com.jalasoft.interfaces;
+
+public interface ILongStack {
+
+    void push(final long elem);
+
+    void pop();
+
+    long peek();
+
+    boolean isEmpty();
+
+    int size();
+
+    ILongStack deepCopy();
+}
@@ -1,5 +1,8 @@
 package com.jalasoft.interfaces;
 
+import com.jalasoft.main.CopyStrategies;
+import java.util.function.UnaryOperator;
+
 public interface IQueue<T> {
   
     void enqueue(final T elem);
@@ -12,5 +15,9 @@ public interface IQueue<T> {
 
     Integer size();
 
-    IQueue<T> deepCopy();
+    default IQueue<T> deepCopy() {
+        return deepCopy(CopyStrategies.deep());
+    }
+
+    IQueue<T> deepCopy(UnaryOperator<T> copier);
 }
@@ -1,5 +1,8 @@
 package com.jalasoft.interfaces;
 
+import com.jalasoft.main.CopyStrategies;
+import java.util.function.UnaryOperator;
+
 public interface IStack<T> {
 	
     void push(final T elem);
@@ -12,5 +15,9 @@ public interface IStack<T> {
 
     Integer size();
 
-    IStack<T> deepCopy();
+    default IStack<T> deepCopy() {
+        return deepCopy(CopyStrategies.deep());
+    }
+
+    IStack<T> deepCopy(UnaryOperator<T> copier);
 }
\ No newline at end of file
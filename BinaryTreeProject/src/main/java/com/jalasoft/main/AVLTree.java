@@ -0,0 +1,427 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/*
+ * An ordered BinaryTree without duplicates, kept AVL balanced so the height stays under
+ * 1.44 log2(n) and every traversal inherited from BinaryTree runs on a shallow tree. The heights
+ * used to rebalance are the ones each BinaryNode already caches: only the nodes on the path of an
+ * insert or a delete are dirty, so reading them back costs O(log n). The tree remembers
+ * getModCount() after each of its own operations: a change made any other way, through the nodes
+ * returned by getRoot() or by a mutator of BinaryTree, may have broken the order, and the next
+ * operation throws a ConcurrentModificationException.
+ */
+public class AVLTree<T> extends BinaryTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private long expectedModCount;
+
+    @SuppressWarnings("unchecked")
+    public AVLTree() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    public AVLTree(final Comparator<? super T> comparator) {
+        super();
+        Verification.require(comparator != null);
+        this.comparator = comparator;
+        this.expectedModCount = this.getModCount();
+    }
+
+    public Comparator<? super T> getComparator() {
+        return this.comparator;
+    }
+
+    public boolean insert(final T elem) {
+        Verification.require(elem != null);
+        this.checkNotChanged();
+        BinaryNode<T> node = this.getRoot();
+        if (node == null) {
+            this.setRoot(new BinaryNode<>(elem, null, null));
+            this.expectedModCount = this.getModCount();
+            return true;
+        }
+
+        while (true) {
+            int cmp = this.comparator.compare(elem, node.getElem());
+            if (cmp == 0) {
+                return false;
+            }
+            BinaryNode<T> next = cmp < 0 ? node.getLeft() : node.getRight();
+            if (next == null) {
+                break;
+            }
+            node = next;
+        }
+
+        if (this.comparator.compare(elem, node.getElem()) < 0) {
+            node.setLeft(new BinaryNode<>(elem, null, null));
+        } else {
+            node.setRight(new BinaryNode<>(elem, null, null));
+        }
+        this.setRoot(rebalance(node));
+        this.expectedModCount = this.getModCount();
+
+        if (Verification.isFull()) {
+            Verification.ensure(this.isBalanced() && this.contains(elem));
+        }
+        return true;
+    }
+
+    public boolean delete(final T elem) {
+        Verification.require(elem != null);
+        this.checkNotChanged();
+        BinaryNode<T> node = this.find(elem);
+        if (node == null) {
+            return false;
+        }
+
+        if (node.getLeft() != null && node.getRight() != null) {
+            BinaryNode<T> successor = node.getRight();
+            while (successor.getLeft() != null) {
+                successor = successor.getLeft();
+            }
+            node.setElem(successor.getElem());
+            node = successor;
+        }
+
+        BinaryNode<T> child = node.getLeft() != null ? node.getLeft() : node.getRight();
+        BinaryNode<T> parent = node.getParent();
+        node.setLeft(null);
+        node.setRight(null);
+
+        if (parent == null) {
+            this.setRoot(child);
+        } else {
+            replaceChild(parent, node, child);
+            this.setRoot(rebalance(parent));
+        }
+        this.expectedModCount = this.getModCount();
+
+        if (Verification.isFull()) {
+            Verification.ensure(this.isBalanced() && !this.contains(elem));
+        }
+        return true;
+    }
+
+    public boolean contains(final T elem) {
+        Verification.require(elem != null);
+        this.checkNotChanged();
+        return this.find(elem) != null;
+    }
+
+    public T floor(final T elem) {
+        Verification.require(elem != null);
+        this.checkNotChanged();
+        BinaryNode<T> node = this.getRoot();
+        T floor = null;
+
+        while (node != null) {
+            int cmp = this.comparator.compare(elem, node.getElem());
+            if (cmp == 0) {
+                return node.getElem();
+            } else if (cmp < 0) {
+                node = node.getLeft();
+            } else {
+                floor = node.getElem();
+                node = node.getRight();
+            }
+        }
+        return floor;
+    }
+
+    public T ceiling(final T elem) {
+        Verification.require(elem != null);
+        this.checkNotChanged();
+        BinaryNode<T> node = this.getRoot();
+        T ceiling = null;
+
+        while (node != null) {
+            int cmp = this.comparator.compare(elem, node.getElem());
+            if (cmp == 0) {
+                return node.getElem();
+            } else if (cmp > 0) {
+                node = node.getRight();
+            } else {
+                ceiling = node.getElem();
+                node = node.getLeft();
+            }
+        }
+        return ceiling;
+    }
+
+    public T first() {
+        Verification.require(!isEmpty());
+        this.checkNotChanged();
+        BinaryNode<T> node = this.getRoot();
+        while (node.getLeft() != null) {
+            node = node.getLeft();
+        }
+        return node.getElem();
+    }
+
+    public T last() {
+        Verification.require(!isEmpty());
+        this.checkNotChanged();
+        BinaryNode<T> node = this.getRoot();
+        while (node.getRight() != null) {
+            node = node.getRight();
+        }
+        return node.getElem();
+    }
+
+    public Iterator<T> range(final T lo, final T hi) {
+        Verification.require(lo != null && hi != null);
+        this.checkNotChanged();
+        return new RangeIterator(lo, hi);
+    }
+
+    public Iterable<T> rangeView(final T lo, final T hi) {
+        Verification.require(lo != null && hi != null);
+        return () -> this.range(lo, hi);
+    }
+
+    @Override
+    public void makeEmpty() {
+        super.makeEmpty();
+        this.expectedModCount = this.getModCount();
+    }
+
+    /*
+     * COPY is the position-wise merge of BinaryTree and gives a BinaryTree, which is not ordered.
+     * IN_PLACE keeps this tree ordered instead: the elements of other are inserted and one found in
+     * both trees becomes combiner(elem, otherElem), which must compare equal to elem. The merge is
+     * built on a copy of the nodes, so a combiner that breaks the order leaves both trees as they
+     * were; other is emptied only once the copy replaces the nodes of this tree.
+     */
+    @Override
+    public IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner, TreeMerge.Mode mode) {
+        if (mode != TreeMerge.Mode.IN_PLACE) {
+            return super.mergetree(other, combiner, mode);
+        }
+        Verification.require(other != null && combiner != null && other != this);
+        this.checkNotChanged();
+
+        AVLTree<T> merged = (AVLTree<T>) this.deepCopy(CopyStrategies.share());
+        for (T elem : other.inorder()) {
+            BinaryNode<T> node = merged.find(elem);
+            if (node == null) {
+                merged.insert(elem);
+            } else {
+                T combined = combiner.apply(node.getElem(), elem);
+                Verification.require(combined != null && this.comparator.compare(combined, node.getElem()) == 0,
+                        "The combiner changed the order");
+                node.setElem(combined);
+                merged.expectedModCount = merged.getModCount();
+            }
+        }
+
+        other.makeEmpty();
+        BinaryNode<T> root = merged.getRoot();
+        merged.makeEmpty();
+        this.setRoot(root);
+        this.expectedModCount = this.getModCount();
+        return this;
+    }
+
+    /*
+     * The patch is applied to a copy of the nodes, which replaces them only if it is still ordered
+     * and balanced.
+     */
+    @Override
+    public void apply(TreeDiff.Patch<T> patch) {
+        Verification.require(patch != null);
+        this.checkNotChanged();
+
+        BinaryTree<T> patched = new BinaryTree<>();
+        patched.setRoot(copyNodes(this.getRoot(), CopyStrategies.share()));
+        patched.apply(patch);
+        Verification.require(patched.isBalanced() && this.isOrdered(patched.getRoot()),
+                "The patch breaks the order of the tree");
+
+        BinaryNode<T> root = patched.getRoot();
+        patched.makeEmpty();
+        this.setRoot(root);
+        this.expectedModCount = this.getModCount();
+    }
+
+    /*
+     * The copier must keep the order of the elements, the copy is not sorted again.
+     */
+    @Override
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+
+        AVLTree<T> deepCopy = new AVLTree<>(this.comparator);
+        deepCopy.setRoot(copyNodes(this.getRoot(), copier));
+        deepCopy.setTraversalMode(this.getTraversalMode());
+        deepCopy.expectedModCount = deepCopy.getModCount();
+
+        if (Verification.isFull()) {
+            Verification.ensure(deepCopy.size().equals(this.size()));
+        }
+        return deepCopy;
+    }
+
+    private void checkNotChanged() {
+        if (this.getModCount() != this.expectedModCount) {
+            throw new ConcurrentModificationException("The tree was changed outside of AVLTree");
+        }
+    }
+
+    private boolean isOrdered(BinaryNode<T> root) {
+        ArrayStack<BinaryNode<T>> stack = new ArrayStack<>();
+        BinaryNode<T> curr = root;
+        T previous = null;
+
+        while (curr != null || !stack.isEmpty()) {
+            while (curr != null) {
+                stack.push(curr);
+                curr = curr.getLeft();
+            }
+            curr = stack.peek();
+            stack.pop();
+            T elem = curr.getElem();
+            if (elem == null || (previous != null && this.comparator.compare(previous, elem) >= 0)) {
+                return false;
+            }
+            previous = elem;
+            curr = curr.getRight();
+        }
+        return true;
+    }
+
+    private BinaryNode<T> find(T elem) {
+        BinaryNode<T> node = this.getRoot();
+        while (node != null) {
+            int cmp = this.comparator.compare(elem, node.getElem());
+            if (cmp == 0) {
+                return node;
+            }
+            node = cmp < 0 ? node.getLeft() : node.getRight();
+        }
+        return null;
+    }
+
+    /*
+     * Walks from node up to the root restoring the balance of every node on the way and returns
+     * the root, which may have changed.
+     */
+    static <T> BinaryNode<T> rebalance(BinaryNode<T> node) {
+        BinaryNode<T> root = node;
+        while (node != null) {
+            int balance = height(node.getLeft()) - height(node.getRight());
+
+            if (balance > 1) {
+                BinaryNode<T> left = node.getLeft();
+                if (height(left.getLeft()) < height(left.getRight())) {
+                    rotateLeft(left);
+                }
+                node = rotateRight(node);
+            } else if (balance < -1) {
+                BinaryNode<T> right = node.getRight();
+                if (height(right.getRight()) < height(right.getLeft())) {
+                    rotateRight(right);
+                }
+                node = rotateLeft(node);
+            }
+
+            root = node;
+            node = node.getParent();
+        }
+        return root;
+    }
+
+    private static int height(BinaryNode<?> node) {
+        return node == null ? 0 : node.getHeight();
+    }
+
+    /*
+     * Both rotations hang the new subtree root where the old one was and return it; when the old
+     * one was the root of the tree the caller has to setRoot it. Every node is unlinked before it
+     * hangs from its new parent.
+     */
+    static <T> BinaryNode<T> rotateLeft(BinaryNode<T> node) {
+        BinaryNode<T> parent = node.getParent();
+        BinaryNode<T> pivot = node.getRight();
+        BinaryNode<T> inner = pivot.getLeft();
+
+        pivot.setLeft(null);
+        node.setRight(inner);
+        replaceChild(parent, node, pivot);
+        pivot.setLeft(node);
+        return pivot;
+    }
+
+    static <T> BinaryNode<T> rotateRight(BinaryNode<T> node) {
+        BinaryNode<T> parent = node.getParent();
+        BinaryNode<T> pivot = node.getLeft();
+        BinaryNode<T> inner = pivot.getRight();
+
+        pivot.setRight(null);
+        node.setLeft(inner);
+        replaceChild(parent, node, pivot);
+        pivot.setRight(node);
+        return pivot;
+    }
+
+    private static <T> void replaceChild(BinaryNode<T> parent, BinaryNode<T> oldChild, BinaryNode<T> newChild) {
+        if (parent == null) {
+            return;
+        }
+        if (parent.getLeft() == oldChild) {
+            parent.setLeft(newChild);
+        } else {
+            parent.setRight(newChild);
+        }
+    }
+
+    private final class RangeIterator implements Iterator<T> {
+
+        private final ArrayStack<BinaryNode<T>> stack;
+        private final T hi;
+
+        private RangeIterator(final T lo, final T hi) {
+            this.stack = new ArrayStack<>();
+            this.hi = hi;
+
+            BinaryNode<T> node = AVLTree.this.getRoot();
+            while (node != null) {
+                if (AVLTree.this.comparator.compare(node.getElem(), lo) < 0) {
+                    node = node.getRight();
+                } else {
+                    this.stack.push(node);
+                    node = node.getLeft();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty() && AVLTree.this.comparator.compare(this.stack.peek().getElem(), this.hi) <= 0;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            BinaryNode<T> curr = this.stack.peek();
+            this.stack.pop();
+
+            BinaryNode<T> node = curr.getRight();
+            while (node != null) {
+                this.stack.push(node);
+                node = node.getLeft();
+            }
+            return curr.getElem();
+        }
+    }
+}
@@ -0,0 +1,603 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IIndexedBinaryTree;
+import com.jalasoft.interfaces.IIntQueue;
+import com.jalasoft.interfaces.IIntStack;
+import com.jalasoft.interfaces.IList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/*
+ * Traversals, metrics and iterators written once against root(), left(), right() and elem(), so a
+ * subclass only decides where the nodes live. The bulk walks keep node indices on plain int arrays
+ * and read through the unchecked leftOf/rightOf/elemOf, the lazy iterators use an IntStack or an
+ * IntQueue. There are no node objects, so getRoot() and its siblings are not supported; the code
+ * written against BinaryNode (ParallelTreeOps, TreeMerge, mergetree, ConcurrentBinaryTree) checks
+ * for an IIndexedBinaryTree and goes through root(), left() and right() instead.
+ */
+public abstract class AbstractIndexedBinaryTree<T> implements IIndexedBinaryTree<T> {
+
+    private static final int HEIGHT = 0;
+    private static final int LEAVES = 1;
+    private static final int BALANCE = 2;
+
+    @Override
+    public BinaryNode<T> getRoot() {
+        throw new UnsupportedOperationException("Nodes are indices, use root()");
+    }
+
+    @Override
+    public BinaryNode<T> getLeftChild() {
+        throw new UnsupportedOperationException("Nodes are indices, use left(root())");
+    }
+
+    @Override
+    public BinaryNode<T> getRightChild() {
+        throw new UnsupportedOperationException("Nodes are indices, use right(root())");
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        return this.root() == NIL;
+    }
+
+    @Override
+    public Boolean isBalanced() {
+        return this.measure(BALANCE) >= 0;
+    }
+
+    @Override
+    public Integer height() {
+        Integer result = this.measure(HEIGHT);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    @Override
+    public Integer leaves() {
+        Integer result = this.measure(LEAVES);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    @Override
+    public int left(int node) {
+        Verification.require(this.isNode(node));
+        return this.leftOf(node);
+    }
+
+    @Override
+    public int right(int node) {
+        Verification.require(this.isNode(node));
+        return this.rightOf(node);
+    }
+
+    @Override
+    public T elem(int node) {
+        Verification.require(this.isNode(node));
+        return this.elemOf(node);
+    }
+
+    abstract int leftOf(int node);
+
+    abstract int rightOf(int node);
+
+    abstract T elemOf(int node);
+
+    /*
+     * The mutators mergetree goes through, a read only tree leaves them unsupported.
+     */
+    int insertRoot(T elem) {
+        throw new UnsupportedOperationException("The tree is read only");
+    }
+
+    int insertChild(int parent, boolean left, T elem) {
+        throw new UnsupportedOperationException("The tree is read only");
+    }
+
+    void replaceElem(int node, T elem) {
+        throw new UnsupportedOperationException("The tree is read only");
+    }
+
+    @Override
+    public IList<T> preorder() {
+        IList<T> preorder = new ArrayList<>(this.size());
+        int[] stack = new int[16];
+        int top = 0;
+
+        if (this.root() != NIL) {
+            stack[top++] = this.root();
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            preorder.addLast(this.elemOf(node));
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (this.rightOf(node) != NIL) {
+                stack[top++] = this.rightOf(node);
+            }
+            if (this.leftOf(node) != NIL) {
+                stack[top++] = this.leftOf(node);
+            }
+        }
+
+        Verification.ensure(preorder.size().equals(this.size()));
+        return preorder;
+    }
+
+    @Override
+    public IList<T> inorder() {
+        IList<T> inorder = new ArrayList<>(this.size());
+        int[] stack = new int[16];
+        int top = 0;
+        int curr = this.root();
+
+        while (curr != NIL || top > 0) {
+            while (curr != NIL) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = curr;
+                curr = this.leftOf(curr);
+            }
+            curr = stack[--top];
+            inorder.addLast(this.elemOf(curr));
+            curr = this.rightOf(curr);
+        }
+
+        Verification.ensure(inorder.size().equals(this.size()));
+        return inorder;
+    }
+
+    @Override
+    public IList<T> postorder() {
+        IList<T> postorder = new ArrayList<>(this.size());
+        int[] stack = new int[16];
+        int top = 0;
+        int curr = this.root();
+        int lastVisited = NIL;
+
+        while (curr != NIL || top > 0) {
+            if (curr != NIL) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = curr;
+                curr = this.leftOf(curr);
+            } else {
+                int peek = stack[top - 1];
+                if (this.rightOf(peek) != NIL && this.rightOf(peek) != lastVisited) {
+                    curr = this.rightOf(peek);
+                } else {
+                    postorder.addLast(this.elemOf(peek));
+                    lastVisited = stack[--top];
+                }
+            }
+        }
+
+        Verification.ensure(postorder.size().equals(this.size()));
+        return postorder;
+    }
+
+    @Override
+    public IList<T> levelorder() {
+        int size = this.size();
+        IList<T> levelorder = new ArrayList<>(size);
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+
+        if (this.root() != NIL) {
+            queue[tail++] = this.root();
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            levelorder.addLast(this.elemOf(node));
+            if (this.leftOf(node) != NIL) {
+                queue[tail++] = this.leftOf(node);
+            }
+            if (this.rightOf(node) != NIL) {
+                queue[tail++] = this.rightOf(node);
+            }
+        }
+
+        Verification.ensure(levelorder.size().equals(size));
+        return levelorder;
+    }
+
+    @Override
+    public Iterator<T> preorderIterator() {
+        return new PreorderIterator();
+    }
+
+    @Override
+    public Iterator<T> inorderIterator() {
+        return new InorderIterator();
+    }
+
+    @Override
+    public Iterator<T> postorderIterator() {
+        return new PostorderIterator();
+    }
+
+    @Override
+    public Iterator<T> levelorderIterator() {
+        return new LevelorderIterator();
+    }
+
+    /*
+     * The position-wise merge of TreeMerge, written against the indices: IN_PLACE adds the nodes
+     * of other to this tree and empties other, COPY merges into a deepCopy that shares the
+     * elements, so a mapped tree gives an OffHeapBinaryTree.
+     */
+    @Override
+    public IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner, TreeMerge.Mode mode) {
+        Verification.require(other != null && combiner != null && mode != null);
+
+        if (mode == TreeMerge.Mode.IN_PLACE) {
+            Verification.require(other != this);
+            BinaryNode<T> nodes = BinaryTree.nodesOf(other);
+            other.makeEmpty();
+            this.mergeNodes(nodes, combiner);
+            return this;
+        }
+
+        AbstractIndexedBinaryTree<T> merged = (AbstractIndexedBinaryTree<T>) this.deepCopy(CopyStrategies.share());
+        merged.mergeNodes(BinaryTree.nodesOf(other), combiner);
+        return merged;
+    }
+
+    private void mergeNodes(BinaryNode<T> other, BinaryOperator<T> combiner) {
+        if (other == null) {
+            return;
+        }
+        if (this.root() == NIL) {
+            this.graft(NIL, false, other);
+            return;
+        }
+
+        IIntStack nodes = new IntStack();
+        ArrayStack<BinaryNode<T>> others = new ArrayStack<>();
+        nodes.push(this.root());
+        others.push(other);
+
+        while (!nodes.isEmpty()) {
+            int node = nodes.peek();
+            BinaryNode<T> that = others.peek();
+            nodes.pop();
+            others.pop();
+
+            this.replaceElem(node, combiner.apply(this.elemOf(node), that.getElem()));
+            if (that.getRight() != null) {
+                if (this.rightOf(node) == NIL) {
+                    this.graft(node, false, that.getRight());
+                } else {
+                    nodes.push(this.rightOf(node));
+                    others.push(that.getRight());
+                }
+            }
+            if (that.getLeft() != null) {
+                if (this.leftOf(node) == NIL) {
+                    this.graft(node, true, that.getLeft());
+                } else {
+                    nodes.push(this.leftOf(node));
+                    others.push(that.getLeft());
+                }
+            }
+        }
+    }
+
+    /*
+     * Copies subtree to the given side of parent, or as the root when parent is NIL.
+     */
+    private void graft(int parent, boolean left, BinaryNode<T> subtree) {
+        IIntStack slots = new IntStack();
+        ArrayStack<BinaryNode<T>> nodes = new ArrayStack<>();
+        slots.push(parent == NIL ? this.insertRoot(subtree.getElem())
+                                 : this.insertChild(parent, left, subtree.getElem()));
+        nodes.push(subtree);
+
+        while (!nodes.isEmpty()) {
+            BinaryNode<T> node = nodes.peek();
+            int slot = slots.peek();
+            nodes.pop();
+            slots.pop();
+
+            if (node.getRight() != null) {
+                nodes.push(node.getRight());
+                slots.push(this.insertChild(slot, false, node.getRight().getElem()));
+            }
+            if (node.getLeft() != null) {
+                nodes.push(node.getLeft());
+                slots.push(this.insertChild(slot, true, node.getLeft().getElem()));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (T elem: this.levelorderView()) {
+            string.append(elem).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        AbstractIndexedBinaryTree<?> that = (AbstractIndexedBinaryTree<?>) otherObject;
+        if (!Objects.equals(this.size(), that.size()))
+            return false;
+
+        int[] firsts = new int[16];
+        int[] seconds = new int[16];
+        int top = 0;
+
+        firsts[top] = this.root();
+        seconds[top++] = that.root();
+        while (top > 0) {
+            int a = firsts[--top];
+            int b = seconds[top];
+            if (a == NIL && b == NIL) {
+                continue;
+            }
+            if (a == NIL || b == NIL || !Objects.equals(this.elemOf(a), that.elemOf(b))) {
+                return false;
+            }
+            if (top + 2 > firsts.length) {
+                firsts = Arrays.copyOf(firsts, firsts.length * 2);
+                seconds = Arrays.copyOf(seconds, seconds.length * 2);
+            }
+            firsts[top] = this.rightOf(a);
+            seconds[top++] = that.rightOf(b);
+            firsts[top] = this.leftOf(a);
+            seconds[top++] = that.leftOf(b);
+        }
+        return true;
+    }
+
+    /*
+     * Hashes the preorder with a mark for every missing child, so trees with the same elements in
+     * another shape hash differently, as equals tells them apart.
+     */
+    @Override
+    public int hashCode() {
+        int[] stack = new int[16];
+        int top = 0;
+        int result = 1;
+
+        stack[top++] = this.root();
+        while (top > 0) {
+            int node = stack[--top];
+            if (node == NIL) {
+                result = 31 * result;
+                continue;
+            }
+            result = 31 * result + 2 * Objects.hashCode(this.elemOf(node)) + 1;
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top++] = this.rightOf(node);
+            stack[top++] = this.leftOf(node);
+        }
+        return result;
+    }
+
+    private int measure(int metric) {
+        if (this.root() == NIL) {
+            return 0;
+        }
+        int[] nodes = new int[16];
+        int[] values = new int[16];
+        int nodeCount = 0;
+        int valueCount = 0;
+        int curr = this.root();
+        int lastVisited = NIL;
+
+        while (nodeCount > 0 || curr != NIL) {
+            if (curr != NIL) {
+                if (nodeCount == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                }
+                nodes[nodeCount++] = curr;
+                curr = this.leftOf(curr);
+            } else {
+                int top = nodes[nodeCount - 1];
+                int left = this.leftOf(top);
+                int right = this.rightOf(top);
+
+                if (right != NIL && right != lastVisited) {
+                    curr = right;
+                } else {
+                    nodeCount--;
+                    int rightValue = right != NIL ? values[--valueCount] : 0;
+                    int leftValue = left != NIL ? values[--valueCount] : 0;
+
+                    if (valueCount == values.length) {
+                        values = Arrays.copyOf(values, valueCount * 2);
+                    }
+                    values[valueCount++] = combine(metric, left == NIL && right == NIL, leftValue, rightValue);
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return values[0];
+    }
+
+    private static int combine(int metric, boolean leaf, int left, int right) {
+        switch (metric) {
+            case HEIGHT:
+                return 1 + Math.max(left, right);
+            case LEAVES:
+                return leaf ? 1 : left + right;
+            default:
+                if (left < 0 || right < 0 || Math.abs(left - right) > 1) {
+                    return -1;
+                }
+                return 1 + Math.max(left, right);
+        }
+    }
+
+    private class PreorderIterator implements Iterator<T> {
+
+        private final IIntStack stack;
+
+        public PreorderIterator() {
+            this.stack = new IntStack();
+            if (AbstractIndexedBinaryTree.this.root() != NIL) {
+                this.stack.push(AbstractIndexedBinaryTree.this.root());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            int node = this.stack.peek();
+            this.stack.pop();
+
+            int right = AbstractIndexedBinaryTree.this.rightOf(node);
+            if (right != NIL) {
+                this.stack.push(right);
+            }
+            int left = AbstractIndexedBinaryTree.this.leftOf(node);
+            if (left != NIL) {
+                this.stack.push(left);
+            }
+            return AbstractIndexedBinaryTree.this.elemOf(node);
+        }
+    }
+
+    private class InorderIterator implements Iterator<T> {
+
+        private final IIntStack stack;
+
+        public InorderIterator() {
+            this.stack = new IntStack();
+            this.pushLeftPath(AbstractIndexedBinaryTree.this.root());
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            int node = this.stack.peek();
+            this.stack.pop();
+            this.pushLeftPath(AbstractIndexedBinaryTree.this.rightOf(node));
+            return AbstractIndexedBinaryTree.this.elemOf(node);
+        }
+
+        private void pushLeftPath(int node) {
+            while (node != NIL) {
+                this.stack.push(node);
+                node = AbstractIndexedBinaryTree.this.leftOf(node);
+            }
+        }
+    }
+
+    private class PostorderIterator implements Iterator<T> {
+
+        private final IIntStack stack;
+        private int lastVisited;
+
+        public PostorderIterator() {
+            this.stack = new IntStack();
+            this.lastVisited = NIL;
+            this.pushLeftPath(AbstractIndexedBinaryTree.this.root());
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            int top = this.stack.peek();
+            int right = AbstractIndexedBinaryTree.this.rightOf(top);
+            while (right != NIL && right != this.lastVisited) {
+                this.pushLeftPath(right);
+                top = this.stack.peek();
+                right = AbstractIndexedBinaryTree.this.rightOf(top);
+            }
+            this.stack.pop();
+            this.lastVisited = top;
+            return AbstractIndexedBinaryTree.this.elemOf(top);
+        }
+
+        private void pushLeftPath(int node) {
+            while (node != NIL) {
+                this.stack.push(node);
+                node = AbstractIndexedBinaryTree.this.leftOf(node);
+            }
+        }
+    }
+
+    private class LevelorderIterator implements Iterator<T> {
+
+        private final IIntQueue queue;
+
+        public LevelorderIterator() {
+            this.queue = new IntQueue();
+            if (AbstractIndexedBinaryTree.this.root() != NIL) {
+                this.queue.enqueue(AbstractIndexedBinaryTree.this.root());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            int node = this.queue.front();
+            this.queue.dequeue();
+
+            int left = AbstractIndexedBinaryTree.this.leftOf(node);
+            if (left != NIL) {
+                this.queue.enqueue(left);
+            }
+            int right = AbstractIndexedBinaryTree.this.rightOf(node);
+            if (right != NIL) {
+                this.queue.enqueue(right);
+            }
+            return AbstractIndexedBinaryTree.this.elemOf(node);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IList;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.UnaryOperator;
+
+public class ArrayList<T> implements IList<T>, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private Object[] elems;
+    private int size;
+    private int modCount;
+
+    public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayList(Integer initialCapacity) {
+        Verification.require(initialCapacity != null && initialCapacity >= 0);
+
+        this.elems = new Object[initialCapacity];
+        this.size = 0;
+        this.modCount = 0;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void addFirst(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+        int oldSize = this.size;
+
+        this.insert(0, elem);
+
+        Verification.ensure((this.elems[0] == elem) && (this.size == (oldSize + 1)));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void addLast(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+        int oldSize = this.size;
+
+        if (this.size == this.elems.length) {
+            this.grow(this.size + 1);
+        }
+        this.elems[this.size++] = elem;
+        this.modCount++;
+
+        Verification.ensure((this.elems[this.size - 1] == elem) && (this.size == (oldSize + 1)));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public T getFirst() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+
+        T elem = this.elementAt(0);
+
+        Verification.invariant(checkInvariant());
+        return elem;
+    }
+
+    @Override
+    public T getLast() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+
+        T elem = this.elementAt(this.size - 1);
+
+        Verification.invariant(checkInvariant());
+        return elem;
+    }
+
+    @Override
+    public void removeFirst() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+        int oldSize = this.size;
+
+        this.delete(0);
+
+        Verification.ensure(this.size == oldSize - 1);
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void removeLast() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+        int oldSize = this.size;
+
+        this.elems[--this.size] = null;
+        this.modCount++;
+
+        Verification.ensure(this.size == oldSize - 1);
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public Boolean contains(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+
+        Boolean condition = this.find(elem) >= 0;
+
+        Verification.invariant(checkInvariant());
+        return condition;
+    }
+
+    @Override
+    public void remove(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+        int oldSize = this.size;
+
+        int index = this.find(elem);
+        if (index >= 0) {
+            this.delete(index);
+        }
+
+        Verification.ensure((index < 0 && this.size == oldSize) || (this.size == oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void clear() {
+        Verification.invariant(checkInvariant());
+
+        Arrays.fill(this.elems, 0, this.size, null);
+        this.size = 0;
+        this.modCount++;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public T get(Integer index) {
+        Verification.invariant(checkInvariant());
+        Verification.require(index != null && (index >= 0) && (index < this.size));
+
+        T elem = this.elementAt(index);
+
+        Verification.invariant(checkInvariant());
+        return elem;
+    }
+
+    @Override
+    public void set(Integer index, final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(index != null && (elem != null) && (index >= 0) && (index < this.size));
+        int oldSize = this.size;
+
+        this.elems[index] = elem;
+
+        Verification.ensure((this.elems[index] == elem) && (this.size == oldSize));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void add(Integer index, final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(index != null && (elem != null) && (index >= 0) && (index <= this.size));
+        int oldSize = this.size;
+
+        this.insert(index, elem);
+
+        Verification.ensure((this.size == (oldSize + 1)) && (this.elems[index] == elem));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void remove(Integer index) {
+        Verification.invariant(checkInvariant());
+        Verification.require(index != null && (index >= 0) && (index < this.size));
+        int oldSize = this.size;
+
+        this.delete(index);
+
+        Verification.ensure(this.size == (oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public Integer indexOf(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+
+        Integer index = this.find(elem);
+
+        Verification.invariant(checkInvariant());
+        return index;
+    }
+
+    @Override
+    public Integer lastIndexOf(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+
+        int index = this.size - 1;
+        while (index >= 0 && !this.elems[index].equals(elem)) {
+            index--;
+        }
+
+        Verification.invariant(checkInvariant());
+        return index;
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        Verification.invariant(checkInvariant());
+        return this.size == 0;
+    }
+
+    @Override
+    public Integer size() {
+        Verification.invariant(checkInvariant());
+        return this.size;
+    }
+
+    public void ensureCapacity(Integer minCapacity) {
+        Verification.require(minCapacity != null && minCapacity >= 0);
+
+        if (minCapacity > this.elems.length) {
+            this.grow(minCapacity);
+        }
+
+        Verification.ensure(this.elems.length >= minCapacity);
+        Verification.invariant(checkInvariant());
+    }
+
+    public void trimToSize() {
+        Verification.invariant(checkInvariant());
+
+        if (this.size < this.elems.length) {
+            this.elems = Arrays.copyOf(this.elems, this.size);
+            this.modCount++;
+        }
+
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public IList<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.invariant(checkInvariant());
+        Verification.require(copier != null);
+
+        ArrayList<T> deepCopy = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            T elem = copier.apply(this.elementAt(i));
+            Verification.require(elem != null, "The copier returned null");
+            deepCopy.elems[i] = elem;
+        }
+        deepCopy.size = this.size;
+
+        Verification.invariant(deepCopy.checkInvariant());
+        Verification.invariant(checkInvariant());
+        return deepCopy;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.elems, 0, this.size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (int i = 0; i < this.size; i++) {
+            string.append(this.elems[i]).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        ArrayList<T> that = (ArrayList<T>) otherObject;
+
+        if (this.size != that.size)
+            return false;
+
+        for (int i = 0; i < this.size; i++) {
+            if (!Objects.equals(this.elems[i], that.elems[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        Object[] array = new Object[this.size + 1];
+        array[0] = this.size;
+        System.arraycopy(this.elems, 0, array, 1, this.size);
+
+        return Objects.hash(array);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) this.elems[index];
+    }
+
+    private int find(T elem) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.elems[i].equals(elem)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int index, T elem) {
+        if (this.size == this.elems.length) {
+            this.grow(this.size + 1);
+        }
+        System.arraycopy(this.elems, index, this.elems, index + 1, this.size - index);
+        this.elems[index] = elem;
+        this.size++;
+        this.modCount++;
+    }
+
+    private void delete(int index) {
+        int moved = this.size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(this.elems, index + 1, this.elems, index, moved);
+        }
+        this.elems[--this.size] = null;
+        this.modCount++;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+        }
+        int oldCapacity = this.elems.length;
+        int newCapacity = oldCapacity + Math.max(oldCapacity >> 1, DEFAULT_CAPACITY);
+        if (newCapacity < minCapacity || newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = minCapacity;
+        }
+        this.elems = Arrays.copyOf(this.elems, newCapacity);
+    }
+
+    private boolean checkInvariant() {
+        if (!Verification.isFull()) {
+            return true;
+        }
+        if (this.size < 0 || this.size > this.elems.length) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.elems[i] == null) return false;
+        }
+        for (int i = this.size; i < this.elems.length; i++) {
+            if (this.elems[i] != null) return false;
+        }
+
+        return true;
+    }
+
+    private class ArrayListIterator implements Iterator<T> {
+
+        private int index;
+        private int lastReturned;
+        private int expectedModCount;
+
+        public ArrayListIterator() {
+            this.index = 0;
+            this.lastReturned = -1;
+            this.expectedModCount = ArrayList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.expectedModCount != ArrayList.this.modCount)
+                throw new ConcurrentModificationException();
+
+            return this.index < ArrayList.this.size;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            this.lastReturned = this.index;
+            this.index++;
+            return ArrayList.this.elementAt(this.lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (this.expectedModCount != ArrayList.this.modCount)
+                throw new ConcurrentModificationException();
+            if (this.lastReturned < 0)
+                throw new IllegalStateException();
+
+            ArrayList.this.remove((Integer) this.lastReturned);
+            this.index = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedModCount = ArrayList.this.modCount;
+        }
+    }
+}
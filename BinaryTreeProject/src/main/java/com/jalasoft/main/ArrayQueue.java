@@ -0,0 +1,190 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IQueue;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+public class ArrayQueue<T> implements IQueue<T>, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elems;
+    private int first;
+    private int size;
+
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayQueue(Integer initialCapacity) {
+        Verification.require(initialCapacity != null && initialCapacity >= 0);
+
+        this.elems = new Object[initialCapacity];
+        this.first = 0;
+        this.size = 0;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void enqueue(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+        int oldSize = this.size;
+
+        if (this.size == this.elems.length) {
+            this.grow();
+        }
+        this.elems[this.slot(this.size)] = elem;
+        this.size++;
+
+        Verification.ensure((!(this.size == 1) || (front() == elem)) && (this.size == (oldSize + 1)));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void dequeue() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+        int oldSize = this.size;
+
+        this.elems[this.first] = null;
+        this.first = this.slot(1);
+        this.size--;
+        if (this.size == 0) {
+            this.first = 0;
+        }
+
+        Verification.ensure(this.size == (oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T front() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+
+        T elem = (T) this.elems[this.first];
+
+        Verification.invariant(checkInvariant());
+        return elem;
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        Verification.invariant(checkInvariant());
+        return this.size == 0;
+    }
+
+    @Override
+    public Integer size() {
+        Verification.invariant(checkInvariant());
+        return this.size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IQueue<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.invariant(checkInvariant());
+        Verification.require(copier != null);
+
+        ArrayQueue<T> deepCopy = new ArrayQueue<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            T elem = copier.apply((T) this.elems[this.slot(i)]);
+            Verification.require(elem != null, "The copier returned null");
+            deepCopy.elems[i] = elem;
+        }
+        deepCopy.size = this.size;
+
+        Verification.invariant(deepCopy.checkInvariant());
+        Verification.invariant(checkInvariant());
+        return deepCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (int i = 0; i < this.size; i++) {
+            string.append(this.elems[this.slot(i)]).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null || this.getClass() != otherObject.getClass())
+            return false;
+
+        ArrayQueue<T> that = (ArrayQueue<T>) otherObject;
+
+        if (this.size != that.size) return false;
+
+        for (int i = 0; i < this.size; i++) {
+            if (!Objects.equals(this.elems[this.slot(i)], that.elems[that.slot(i)]))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        Object[] array = new Object[this.size + 1];
+        array[0] = this.size;
+
+        for (int i = 0; i < this.size; i++) {
+            array[i + 1] = this.elems[this.slot(i)];
+        }
+
+        return Objects.hash(array);
+    }
+
+    private int slot(int offset) {
+        int index = this.first + offset;
+        return index >= this.elems.length ? index - this.elems.length : index;
+    }
+
+    private void grow() {
+        Object[] grown = new Object[Math.max(DEFAULT_CAPACITY, this.elems.length * 2)];
+        int head = this.elems.length - this.first;
+
+        if (this.size <= head) {
+            System.arraycopy(this.elems, this.first, grown, 0, this.size);
+        } else {
+            System.arraycopy(this.elems, this.first, grown, 0, head);
+            System.arraycopy(this.elems, 0, grown, head, this.size - head);
+        }
+        this.elems = grown;
+        this.first = 0;
+    }
+
+    private boolean checkInvariant() {
+        if (!Verification.isFull()) {
+            return true;
+        }
+        if (this.size < 0 || this.size > this.elems.length) {
+            return false;
+        }
+        if (this.elems.length > 0 && (this.first < 0 || this.first >= this.elems.length)) {
+            return false;
+        }
+        for (int i = 0; i < this.elems.length; i++) {
+            int offset = i - this.first;
+            if (offset < 0) {
+                offset += this.elems.length;
+            }
+            if ((offset < this.size) != (this.elems[i] != null)) return false;
+        }
+
+        return true;
+    }
+}
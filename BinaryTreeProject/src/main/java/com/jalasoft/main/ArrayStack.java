@@ -0,0 +1,160 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IStack;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+public class ArrayStack<T> implements IStack<T>, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elems;
+    private int size;
+
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayStack(Integer initialCapacity) {
+        Verification.require(initialCapacity != null && initialCapacity >= 0);
+
+        this.elems = new Object[initialCapacity];
+        this.size = 0;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void push(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+        int oldSize = this.size;
+
+        if (this.size == this.elems.length) {
+            this.elems = Arrays.copyOf(this.elems, Math.max(DEFAULT_CAPACITY, this.size * 2));
+        }
+        this.elems[this.size++] = elem;
+
+        Verification.ensure((peek() == elem) && (this.size == oldSize + 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void pop() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+        int oldSize = this.size;
+
+        this.elems[--this.size] = null;
+
+        Verification.ensure(this.size == oldSize - 1);
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+
+        T elem = (T) this.elems[this.size - 1];
+
+        Verification.invariant(checkInvariant());
+        return elem;
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        Verification.invariant(checkInvariant());
+        return this.size == 0;
+    }
+
+    @Override
+    public Integer size() {
+        Verification.invariant(checkInvariant());
+        return this.size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (int i = this.size - 1; i >= 0; i--) {
+            string.append(this.elems[i]).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null || this.getClass() != otherObject.getClass())
+            return false;
+
+        ArrayStack<T> that = (ArrayStack<T>) otherObject;
+
+        if (this.size != that.size) return false;
+
+        for (int i = 0; i < this.size; i++) {
+            if (!Objects.equals(this.elems[i], that.elems[i]))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        Object[] array = new Object[this.size + 1];
+        array[0] = this.size;
+
+        for (int i = 1; i <= this.size; i++) {
+            array[i] = this.elems[this.size - i];
+        }
+
+        return Objects.hash(array);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IStack<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.invariant(checkInvariant());
+        Verification.require(copier != null);
+
+        ArrayStack<T> deepCopy = new ArrayStack<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            T elem = copier.apply((T) this.elems[i]);
+            Verification.require(elem != null, "The copier returned null");
+            deepCopy.elems[i] = elem;
+        }
+        deepCopy.size = this.size;
+
+        Verification.invariant(deepCopy.checkInvariant());
+        Verification.invariant(checkInvariant());
+        return deepCopy;
+    }
+
+    private boolean checkInvariant() {
+        if (!Verification.isFull()) {
+            return true;
+        }
+        if (this.size < 0 || this.size > this.elems.length) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.elems[i] == null) return false;
+        }
+        for (int i = this.size; i < this.elems.length; i++) {
+            if (this.elems[i] != null) return false;
+        }
+
+        return true;
+    }
+}
@@ -1,12 +1,36 @@
 package com.jalasoft.main;
 
+import com.jalasoft.integration.Verification;
 import java.io.Serializable;
+import java.util.Objects;
 
+/*
+ * Every node caches the size, height, leaves, balance and 64 bit structural hash of its subtree;
+ * the hash combines the hash of the element with the hashes of both children, so it tells shapes
+ * apart, and it only follows changes made through the setters, not changes inside an element. A
+ * mutation marks the node and its ancestors dirty (stopping at the first one that already is)
+ * and the next query recomputes only the dirty nodes, so a node hangs from a single parent:
+ * hanging one that still has another parent is a precondition failure, unlink it first. When
+ * the marking reaches a node without parent its version goes up: once the caches of a tree have
+ * been refreshed, the version of its root changes with the next mutation anywhere below it. A
+ * query on clean nodes writes nothing, so threads may read them together once the caches are up
+ * to date; the thread field belongs to a running Morris traversal and is null otherwise.
+ */
 public class BinaryNode<T> implements Serializable {
 
     private T elem;
     private BinaryNode<T> left;
     private BinaryNode<T> right;
+    private BinaryNode<T> parent;
+
+    private int size;
+    private int height;
+    private int leaves;
+    private boolean balanced;
+    private long hash;
+    private boolean dirty;
+    private int version;
+    private transient BinaryNode<T> thread;
 
     public BinaryNode() {
         this(null, null, null);
@@ -15,9 +39,17 @@ public class BinaryNode<T> implements Serializable {
     public BinaryNode(final T elem,
                         final BinaryNode<T> left,
                         final BinaryNode<T> right) {
+        this.requireFree(left);
+        this.requireFree(right);
         this.elem = elem;
         this.left = left;
         this.right = right;
+        this.attach(left);
+        this.attach(right);
+        this.dirty = (left != null && left.dirty) || (right != null && right.dirty);
+        if (!this.dirty) {
+            this.recompute();
+        }
     }
 
     public T getElem() {
@@ -25,7 +57,7 @@ public class BinaryNode<T> implements Serializable {
     }
 
     public void setElem(T elem) {
-        this.elem = elem;
+        this.setElem(elem, null);
     }
 
     public BinaryNode<T> getLeft() {
@@ -33,7 +65,7 @@ public class BinaryNode<T> implements Serializable {
     }
 
     public void setLeft(BinaryNode<T> left) {
-       this.left = left;
+        this.setLeft(left, null);
     }
 
     public BinaryNode<T> getRight() {
@@ -41,6 +73,186 @@ public class BinaryNode<T> implements Serializable {
     }
 
     public void setRight(BinaryNode<T> right) {
+        this.setRight(right, null);
+    }
+
+    /*
+     * The temporary link of a Morris traversal from the rightmost node of a left subtree back to
+     * its inorder successor, kept apart from left and right so readers never see it.
+     */
+    BinaryNode<T> getThread() {
+        return this.thread;
+    }
+
+    void setThread(BinaryNode<T> thread) {
+        this.thread = thread;
+    }
+
+    /*
+     * setElem, setLeft and setRight for builders that split a tree between threads: the ancestors
+     * are marked dirty only up to stop, which the task owning stop marks again for its own
+     * ancestors.
+     */
+    void setElem(T elem, BinaryNode<T> stop) {
+        this.elem = elem;
+        this.invalidate(stop);
+    }
+
+    void setLeft(BinaryNode<T> left, BinaryNode<T> stop) {
+        this.requireFree(left);
+        if (this.left != this.right) {
+            this.detach(this.left);
+        }
+        this.left = left;
+        this.attach(left);
+        this.invalidate(stop);
+    }
+
+    void setRight(BinaryNode<T> right, BinaryNode<T> stop) {
+        this.requireFree(right);
+        if (this.right != this.left) {
+            this.detach(this.right);
+        }
         this.right = right;
+        this.attach(right);
+        this.invalidate(stop);
+    }
+
+    /*
+     * Takes this node out of its parent, so it can hang from another one. The parent is marked
+     * dirty up to stop, as in setLeft and setRight.
+     */
+    void unlink(BinaryNode<T> stop) {
+        BinaryNode<T> parent = this.parent;
+        if (parent == null) {
+            return;
+        }
+        if (parent.left == this) {
+            parent.setLeft(null, stop);
+        }
+        if (parent.right == this) {
+            parent.setRight(null, stop);
+        }
+    }
+
+    boolean isDirty() {
+        return this.dirty;
+    }
+
+    int getVersion() {
+        return this.version;
+    }
+
+    public BinaryNode<T> getParent() {
+        return this.parent;
+    }
+
+    public int getSize() {
+        this.refresh();
+        return this.size;
+    }
+
+    public int getHeight() {
+        this.refresh();
+        return this.height;
+    }
+
+    public int getLeaves() {
+        this.refresh();
+        return this.leaves;
+    }
+
+    public boolean isBalanced() {
+        this.refresh();
+        return this.balanced;
+    }
+
+    public long getHash() {
+        this.refresh();
+        return this.hash;
+    }
+
+    private void requireFree(BinaryNode<T> child) {
+        Verification.require(child == null || child.parent == null || child.parent == this,
+                "The node already hangs from another parent");
+    }
+
+    private void attach(BinaryNode<T> child) {
+        if (child != null) {
+            child.parent = this;
+        }
+    }
+
+    private void detach(BinaryNode<T> child) {
+        if (child != null && child.parent == this) {
+            child.parent = null;
+        }
+    }
+
+    void invalidate(BinaryNode<T> stop) {
+        BinaryNode<T> node = this;
+        while (node != null && !node.dirty) {
+            node.dirty = true;
+            if (node.parent == null) {
+                node.version++;
+            }
+            node = node == stop ? null : node.parent;
+        }
+    }
+
+    private void refresh() {
+        BinaryNode<T> node = this;
+        while (this.dirty) {
+            if (node.left != null && node.left.dirty) {
+                node = node.left;
+            } else if (node.right != null && node.right.dirty) {
+                node = node.right;
+            } else {
+                node.recompute();
+                node.dirty = false;
+                if (node != this) {
+                    node = node.parent;
+                }
+            }
+        }
+    }
+
+    private void recompute() {
+        int leftSize = 0, leftHeight = 0, leftLeaves = 0;
+        long leftHash = 1;
+        int rightSize = 0, rightHeight = 0, rightLeaves = 0;
+        long rightHash = 2;
+        boolean childrenBalanced = true;
+
+        if (this.left != null) {
+            leftSize = this.left.size;
+            leftHeight = this.left.height;
+            leftLeaves = this.left.leaves;
+            leftHash = this.left.hash;
+            childrenBalanced = this.left.balanced;
+        }
+        if (this.right != null) {
+            rightSize = this.right.size;
+            rightHeight = this.right.height;
+            rightLeaves = this.right.leaves;
+            rightHash = this.right.hash;
+            childrenBalanced = childrenBalanced && this.right.balanced;
+        }
+
+        this.size = 1 + leftSize + rightSize;
+        this.height = 1 + Math.max(leftHeight, rightHeight);
+        this.leaves = (this.left == null && this.right == null) ? 1 : leftLeaves + rightLeaves;
+        this.balanced = childrenBalanced && Math.abs(leftHeight - rightHeight) <= 1;
+        this.hash = mix(31 * mix(31L * Objects.hashCode(this.elem) + leftHash) + rightHash);
+    }
+
+    /*
+     * The 64 bit finalizer of MurmurHash3, so a change anywhere below reaches every bit of the
+     * hash of the root.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+package com.jalasoft.main;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/*
+ * Splits a tree in inorder on its subtrees. The pending work is a stack of entries, the top one
+ * runs first: WHOLE is a full subtree, SELF_AND_RIGHT is a node followed by its right subtree and
+ * SELF is a single element. trySplit hands out everything but the bottom entry, expanding the
+ * bottom one first when that would leave a prefix too small to be worth a task.
+ */
+final class BinaryNodeSpliterator<T> implements Spliterator<T> {
+
+    private static final byte WHOLE = 0;
+    private static final byte SELF_AND_RIGHT = 1;
+    private static final byte SELF = 2;
+
+    private static final int MAX_EXPANSIONS = 8;
+    private static final int MIN_SPLIT_FRACTION = 8;
+
+    private BinaryNode<T>[] nodes;
+    private byte[] kinds;
+    private int count;
+    private long remaining;
+
+    BinaryNodeSpliterator(final BinaryNode<T> root) {
+        this(newNodes(8), new byte[8], 0, 0);
+        if (root != null) {
+            this.remaining = root.getSize();
+            this.push(root, WHOLE);
+        }
+    }
+
+    private BinaryNodeSpliterator(final BinaryNode<T>[] nodes, final byte[] kinds,
+                                  final int count, final long remaining) {
+        this.nodes = nodes;
+        this.kinds = kinds;
+        this.count = count;
+        this.remaining = remaining;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null)
+            throw new NullPointerException();
+
+        while (this.count > 0) {
+            int top = this.count - 1;
+            BinaryNode<T> node = this.nodes[top];
+
+            if (this.kinds[top] == WHOLE) {
+                this.kinds[top] = SELF_AND_RIGHT;
+                if (node.getLeft() != null) {
+                    this.push(node.getLeft(), WHOLE);
+                }
+                continue;
+            }
+
+            if (this.kinds[top] == SELF_AND_RIGHT && node.getRight() != null) {
+                this.nodes[top] = node.getRight();
+                this.kinds[top] = WHOLE;
+            } else {
+                this.nodes[top] = null;
+                this.count--;
+            }
+            this.remaining--;
+            action.accept(node.getElem());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (this.tryAdvance(action)) {
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        for (int expansions = 0; expansions <= MAX_EXPANSIONS; expansions++) {
+            if (this.count >= 2) {
+                long bottom = sizeOf(this.nodes[0], this.kinds[0]);
+                long prefix = this.remaining - bottom;
+
+                if (prefix * MIN_SPLIT_FRACTION >= this.remaining) {
+                    BinaryNodeSpliterator<T> split = new BinaryNodeSpliterator<>(
+                            Arrays.copyOfRange(this.nodes, 1, Math.max(this.count, 8)),
+                            Arrays.copyOfRange(this.kinds, 1, Math.max(this.count, 8)),
+                            this.count - 1, prefix);
+
+                    Arrays.fill(this.nodes, 1, this.count, null);
+                    this.count = 1;
+                    this.remaining = bottom;
+                    return split;
+                }
+            }
+            if (this.count == 0 || !this.expandBottom()) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+
+    private boolean expandBottom() {
+        BinaryNode<T> node = this.nodes[0];
+
+        if (this.kinds[0] == WHOLE) {
+            this.kinds[0] = SELF_AND_RIGHT;
+            if (node.getLeft() != null) {
+                this.insertAboveBottom(node.getLeft(), WHOLE);
+                return true;
+            }
+        }
+
+        if (this.kinds[0] == SELF_AND_RIGHT && node.getRight() != null) {
+            BinaryNode<T> right = node.getRight();
+            this.insertAboveBottom(node, SELF);
+            if (right.getLeft() != null) {
+                this.insertAboveBottom(right.getLeft(), WHOLE);
+            }
+            this.nodes[0] = right;
+            this.kinds[0] = SELF_AND_RIGHT;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void insertAboveBottom(BinaryNode<T> node, byte kind) {
+        this.ensureCapacity();
+        System.arraycopy(this.nodes, 1, this.nodes, 2, this.count - 1);
+        System.arraycopy(this.kinds, 1, this.kinds, 2, this.count - 1);
+        this.nodes[1] = node;
+        this.kinds[1] = kind;
+        this.count++;
+    }
+
+    private void push(BinaryNode<T> node, byte kind) {
+        this.ensureCapacity();
+        this.nodes[this.count] = node;
+        this.kinds[this.count] = kind;
+        this.count++;
+    }
+
+    private void ensureCapacity() {
+        if (this.count == this.nodes.length) {
+            this.nodes = Arrays.copyOf(this.nodes, this.count * 2);
+            this.kinds = Arrays.copyOf(this.kinds, this.count * 2);
+        }
+    }
+
+    private static long sizeOf(BinaryNode<?> node, byte kind) {
+        if (kind == WHOLE) {
+            return node.getSize();
+        } else if (kind == SELF_AND_RIGHT && node.getRight() != null) {
+            return 1L + node.getRight().getSize();
+        }
+        return 1L;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BinaryNode<T>[] newNodes(int capacity) {
+        return (BinaryNode<T>[]) new BinaryNode<?>[capacity];
+    }
+}
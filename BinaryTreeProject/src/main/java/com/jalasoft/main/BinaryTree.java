@@ -1,26 +1,44 @@
 package com.jalasoft.main;
 
 import com.jalasoft.integration.Verification;
-import com.jalasoft.interfaces.DeepCloneable;
 import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IElementCodec;
+import com.jalasoft.interfaces.IIndexedBinaryTree;
 import com.jalasoft.interfaces.IList;
 import com.jalasoft.interfaces.IQueue;
 import com.jalasoft.interfaces.IStack;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 
 public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
 
-    private BinaryNode<T> root;
+    static final int RECURSION_DEPTH_LIMIT = 1_000;
+
+    public enum TraversalMode {
+        DEFAULT,
+        MORRIS
+    }
 
-    private IList<T> preorder;
-    private IList<T> inorder;
-    private IList<T> postorder;
-    private IList<T> levelorder;
+    private BinaryNode<T> root;
+    private TraversalMode traversalMode;
+    private transient volatile boolean threaded;
+    private long modCount;
 
     public BinaryTree() {
         this.root = null;
+        this.traversalMode = TraversalMode.DEFAULT;
         
         Verification.ensure(isEmpty());
     }
@@ -29,6 +47,7 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
         Verification.require(rootItem != null);
     	
         this.root = new BinaryNode<>(rootItem, null, null);
+        this.traversalMode = TraversalMode.DEFAULT;
 
         Verification.ensure(!isEmpty() && root.getElem() == rootItem);
     }
@@ -53,120 +72,110 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
         return this.root.getRight();
     }
 
+    protected void setRoot(BinaryNode<T> root) {
+        this.checkNotThreaded();
+        Verification.require(root == null || root.getParent() == null);
+        this.replaceRoot(root);
+    }
+
+    /*
+     * Changes whenever the tree changes, through the tree or through any of its nodes: two equal
+     * readings mean nothing changed in between. Reading it brings the caches of the nodes up to
+     * date, which is what lets the next mutation below the root reach it.
+     */
+    public long getModCount() {
+        if (this.root == null) {
+            return this.modCount;
+        }
+        this.root.getSize();
+        return this.modCount + this.root.getVersion();
+    }
+
+    /*
+     * Keeps getModCount() growing by one when the root is replaced, whatever the version of the
+     * new root is.
+     */
+    private void replaceRoot(BinaryNode<T> root) {
+        long before = this.modCount + (this.root == null ? 0 : this.root.getVersion());
+        this.root = root;
+        this.modCount = before + 1 - (root == null ? 0 : root.getVersion());
+    }
+
     @Override
     public Boolean isEmpty() {
         Boolean condition = (this.root == null);
 
-        Verification.ensure(condition == (size() == 0));
+        if (Verification.isFull()) {
+            Verification.ensure(condition == (size() == 0));
+        }
         return condition;
     }
 
     @Override
     public void makeEmpty() {
-        this.root = null;
+        this.checkNotThreaded();
+        this.replaceRoot(null);
         Verification.ensure(isEmpty());
     }
 
     @Override
     public Boolean isBalanced() {
-        Boolean isBalanced = this.recIsBalanced(this.root);
+        Boolean isBalanced = this.root == null || this.root.isBalanced();
         return isBalanced;
     }
 
-    private Boolean recIsBalanced(BinaryNode<T> node) {
-        Integer lh;
-        Integer rh;
-
-        if (node == null)
-            return Boolean.TRUE;
-
-        lh = recHeight(node.getLeft());
-        rh = recHeight(node.getRight());
-
-        if (Math.abs(lh - rh) <= 1
-                && recIsBalanced(node.getLeft())
-                && recIsBalanced(node.getRight()))
-            return Boolean.TRUE;
-
-        return Boolean.FALSE;
-    }
-
     @Override
     public Integer height() {
-        Integer result = this.recHeight(this.root);
+        Integer result = this.root == null ? 0 : this.root.getHeight();
         Verification.ensure(result >= 0);
         return result;
     }
 
-    private Integer recHeight(BinaryNode<T> node) {
-        if (node == null) {
-           return 0;
-        } else {
-           return 1 + Math.max(this.recHeight(node.getLeft()), this.recHeight(node.getRight()));
-        }
-    }
-
     @Override
     public Integer size() {
-        Integer result = this.recSize(this.root);
+        Integer result = this.root == null ? 0 : this.root.getSize();
         Verification.ensure(result >= 0);
         return result;
     }
 
-    private Integer recSize(BinaryNode<T> node) {
-        if (node == null) {
-           return 0;
-        } else {
-            return 1 + this.recSize(node.getLeft()) + this.recSize(node.getRight());
-        }
-    }
-
     @Override
     public Integer leaves() {
-        Integer result = this.recLeaves(this.root);
+        Integer result = this.root == null ? 0 : this.root.getLeaves();
         Verification.ensure(result >= 0);
         return result;
     }
 
-    private Integer recLeaves(BinaryNode<T> node) {
-        if (node == null) {
-            return 0;
-        } else if (node.getLeft() == null && node.getRight() == null) {
-            return 1;
-        } else {
-           return this.recLeaves(node.getLeft()) + this.recLeaves(node.getRight());
-        }
-    }
-
     @Override
     public IList<T> preorder() {
-        this.preorder = (IList<T>) new LinkedList();
-        if (this.isBalanced()) {
-           this.preorder = this.recPreorder(this.root);
+        IList<T> preorder = new ArrayList<>(this.size());
+        if (this.traversalMode == TraversalMode.MORRIS) {
+            this.morrisPreorder(preorder::addLast);
         } else {
-           this.preorder = this.itPreorder(this.root);
+            this.recPreorder(this.root, 0, preorder);
         }
-        Verification.ensure(this.preorder.size() >= 0);
-        return this.preorder;
+        Verification.ensure(preorder.size() >= 0);
+        return preorder;
     }
 
-    private IList<T> recPreorder(BinaryNode<T> node) {
+    private IList<T> recPreorder(BinaryNode<T> node, int depth, IList<T> preorder) {
         if (node == null) {
-            return this.preorder;
+            return preorder;
+        } else if (depth >= RECURSION_DEPTH_LIMIT) {
+            return this.itPreorder(node, preorder);
         } else {
-            this.preorder.addLast(node.getElem());
-            this.recPreorder(node.getLeft());
-            this.recPreorder(node.getRight());
+            preorder.addLast(node.getElem());
+            this.recPreorder(node.getLeft(), depth + 1, preorder);
+            this.recPreorder(node.getRight(), depth + 1, preorder);
         }
 
-        return this.preorder;
+        return preorder;
     }
 
-    private IList<T> itPreorder(BinaryNode<T> node) {
+    private IList<T> itPreorder(BinaryNode<T> node, IList<T> preorder) {
         if (node == null) {
-            return this.preorder;
+            return preorder;
         } else {
-            IStack<BinaryNode<T>> stack = new LinkedStack<>();
+            IStack<BinaryNode<T>> stack = new ArrayStack<>();
             stack.push(node);
 
            while (!stack.isEmpty()) {
@@ -174,7 +183,7 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
                 BinaryNode<T> curr = stack.peek();
                 stack.pop();
 
-                this.preorder.addLast(curr.getElem());
+                preorder.addLast(curr.getElem());
 
                 if (curr.getRight() != null) {
                     stack.push(curr.getRight());
@@ -185,28 +194,28 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
                 }
             }
 
-            return this.preorder;
+            return preorder;
         }
     }
 
 
     @Override
     public IList<T> inorder() {
-        this.inorder = new LinkedList<>();
-        if (this.isBalanced()) {
-           this.inorder = this.recInorder(this.root);
+        IList<T> inorder = new ArrayList<>(this.size());
+        if (this.traversalMode == TraversalMode.MORRIS) {
+            this.morrisInorder(inorder::addLast);
         } else {
-            this.inorder = this.itInorder(this.root);
+            this.recInorder(this.root, 0, inorder);
         }
-        Verification.ensure(this.inorder.size() >= 0);
-        return this.inorder;
+        Verification.ensure(inorder.size() >= 0);
+        return inorder;
     }
 
-    private IList<T> itInorder(BinaryNode<T> node) {
+    private IList<T> itInorder(BinaryNode<T> node, IList<T> inorder) {
        if (node == null) {
-           return this.inorder;
+           return inorder;
        } else {
-           IStack<BinaryNode<T>> stack = new LinkedStack<>();
+           IStack<BinaryNode<T>> stack = new ArrayStack<>();
            BinaryNode<T> curr = node;
 
            while (!stack.isEmpty() || curr != null) {
@@ -219,74 +228,77 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
                     curr = stack.peek();
                     stack.pop();
 
-                    this.inorder.addLast(curr.getElem());
+                    inorder.addLast(curr.getElem());
 
                     curr = curr.getRight();
                 }
             }
 
-            return this.inorder;
+            return inorder;
        }
     }
 
-    private IList<T> recInorder(BinaryNode<T> node) {
+    private IList<T> recInorder(BinaryNode<T> node, int depth, IList<T> inorder) {
         if (node == null) {
-           return this.inorder;
+           return inorder;
+        } else if (depth >= RECURSION_DEPTH_LIMIT) {
+            return this.itInorder(node, inorder);
         } else {
-            this.recInorder(node.getLeft());
-            this.inorder.addLast(node.getElem());
-            this.recInorder(node.getRight());
+            this.recInorder(node.getLeft(), depth + 1, inorder);
+            inorder.addLast(node.getElem());
+            this.recInorder(node.getRight(), depth + 1, inorder);
         }
 
-        return this.inorder;
+        return inorder;
     }
 
     @Override
     public IList<T> postorder() {
-        this.postorder = new LinkedList<>();
-        if (this.isBalanced()) {
-           this.postorder = this.recPostorder(this.root);
-        } else {
-            this.postorder = this.itPostorder(this.root);
-        }
-        Verification.ensure(this.postorder.size() >= 0);
-        return this.postorder;
+        IList<T> postorder = new ArrayList<>(this.size());
+        this.recPostorder(this.root, 0, postorder);
+        Verification.ensure(postorder.size() >= 0);
+        return postorder;
     }
 
-    private IList<T> itPostorder(BinaryNode<T> node) {
+    private IList<T> itPostorder(BinaryNode<T> node, IList<T> postorder) {
         if (node == null) {
-           return this.postorder;
+           return postorder;
         } else {
-            IStack<BinaryNode<T>> stack = new LinkedStack<>();
-            stack.push(node);
-
-            while (!stack.isEmpty()) {
-
-                BinaryNode<T> curr = stack.peek();
-                stack.pop();
+            IStack<BinaryNode<T>> stack = new ArrayStack<>();
+            BinaryNode<T> curr = node;
+            BinaryNode<T> lastVisited = null;
 
-                this.postorder.addFirst(curr.getElem());
+            while (!stack.isEmpty() || curr != null) {
 
-                if (curr.getLeft() != null) {
-                    stack.push(curr.getLeft());
-                }
-
-                if (curr.getRight() != null) {
-                    stack.push(curr.getRight());
+                if (curr != null) {
+                    stack.push(curr);
+                    curr = curr.getLeft();
+                } else {
+                    BinaryNode<T> top = stack.peek();
+
+                    if (top.getRight() != null && top.getRight() != lastVisited) {
+                        curr = top.getRight();
+                    } else {
+                        stack.pop();
+                        postorder.addLast(top.getElem());
+                        lastVisited = top;
+                    }
                 }
             }
 
-            return this.postorder;
+            return postorder;
        }
     }
 
-    private IList<T> recPostorder(BinaryNode<T> node) {
+    private IList<T> recPostorder(BinaryNode<T> node, int depth, IList<T> postorder) {
         if (node == null) {
-            return this.postorder;
+            return postorder;
+        } else if (depth >= RECURSION_DEPTH_LIMIT) {
+            return this.itPostorder(node, postorder);
         } else {
-            this.recPostorder(node.getLeft());
-            this.recPostorder(node.getRight());
-            this.postorder.addLast(node.getElem());
+            this.recPostorder(node.getLeft(), depth + 1, postorder);
+            this.recPostorder(node.getRight(), depth + 1, postorder);
+            postorder.addLast(node.getElem());
         }
 
         return postorder;
@@ -294,16 +306,16 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
 
     @Override
     public IList<T> levelorder() {
-       this.levelorder = new LinkedList<>();
+       IList<T> levelorder = new ArrayList<>(this.size());
        BinaryNode<T> next, child;
 
        if (!this.isEmpty()) {
-           IQueue<BinaryNode<T>> q = new LinkedQueue<>();
+           IQueue<BinaryNode<T>> q = new ArrayQueue<>();
            q.enqueue(this.root);
            while (!q.isEmpty()) {
                 next = q.front();
                 q.dequeue();
-                this.levelorder.addLast(next.getElem());
+                levelorder.addLast(next.getElem());
                 child = next.getLeft();
                 if (child != null) {
                     q.enqueue(child);
@@ -314,28 +326,266 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
                 }
             }
         }
-        Verification.ensure(this.levelorder.size() >= 0);
-        return this.levelorder;
+        Verification.ensure(levelorder.size() >= 0);
+        return levelorder;
+    }
+
+    @Override
+    public Iterator<T> preorderIterator() {
+        return new PreorderIterator();
+    }
+
+    @Override
+    public Iterator<T> inorderIterator() {
+        return new InorderIterator();
+    }
+
+    @Override
+    public Iterator<T> postorderIterator() {
+        return new PostorderIterator();
     }
 
     @Override
-    public IList<T> mergetree()
-    {
-        return null;
+    public Iterator<T> levelorderIterator() {
+        return new LevelorderIterator();
     }
 
     @Override
-    public IBinaryTree<T> deepCopy() {
-        IBinaryTree<T> deepCopy;
+    public Spliterator<T> spliterator() {
+        return new BinaryNodeSpliterator<>(this.root);
+    }
+
+    public TraversalMode getTraversalMode() {
+        return this.traversalMode;
+    }
+
+    public void setTraversalMode(TraversalMode traversalMode) {
+        Verification.require(traversalMode != null);
+        this.traversalMode = traversalMode;
+    }
+
+    public synchronized void morrisInorder(Consumer<? super T> action) {
+        Verification.require(action != null);
+        this.morris(action, false);
+    }
+
+    public synchronized void morrisPreorder(Consumer<? super T> action) {
+        Verification.require(action != null);
+        this.morris(action, true);
+    }
+
+    private void morris(Consumer<? super T> action, boolean preorder) {
+        this.checkNotThreaded();
+        RuntimeException failure = null;
+        BinaryNode<T> curr = this.root;
+
+        this.threaded = true;
+        try {
+            while (curr != null) {
+                if (curr.getLeft() == null) {
+                    failure = this.visit(action, curr, failure);
+                    curr = successor(curr);
+                } else {
+                    BinaryNode<T> pred = curr.getLeft();
+                    while (pred.getRight() != null) {
+                        pred = pred.getRight();
+                    }
+
+                    if (pred.getThread() == null) {
+                        if (preorder) {
+                            failure = this.visit(action, curr, failure);
+                        }
+                        pred.setThread(curr);
+                        curr = curr.getLeft();
+                    } else {
+                        pred.setThread(null);
+                        if (!preorder) {
+                            failure = this.visit(action, curr, failure);
+                        }
+                        curr = successor(curr);
+                    }
+                }
+            }
+        } finally {
+            this.threaded = false;
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static <T> BinaryNode<T> successor(BinaryNode<T> node) {
+        return node.getRight() != null ? node.getRight() : node.getThread();
+    }
+
+    private RuntimeException visit(Consumer<? super T> action, BinaryNode<T> node, RuntimeException failure) {
+        if (failure != null) {
+            return failure;
+        }
         try {
-            deepCopy = DeepCloneable.deepCopy(this);
-        } catch (Exception e) {
-            deepCopy = new BinaryTree<>();
+            action.accept(node.getElem());
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void checkNotThreaded() {
+        if (this.threaded) {
+            throw new ConcurrentModificationException("The tree is threaded by a Morris traversal");
+        }
+    }
+
+    @Override
+    public IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner, TreeMerge.Mode mode) {
+        this.checkNotThreaded();
+        Verification.require(other != null && combiner != null && mode != null);
+
+        if (mode == TreeMerge.Mode.IN_PLACE) {
+            Verification.require(other != this);
+            BinaryNode<T> nodes = nodesOf(other);
+            other.makeEmpty();
+            this.replaceRoot(TreeMerge.common().mergeNodes(this.root, nodes, combiner, true, true));
+            return this;
+        }
+
+        BinaryTree<T> merged = new BinaryTree<>();
+        merged.root = TreeMerge.common().mergeNodes(this.root, nodesOf(other), combiner, false, false);
+        merged.traversalMode = this.traversalMode;
+        return merged;
+    }
+
+    @Override
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+
+        BinaryTree<T> deepCopy = new BinaryTree<>();
+        deepCopy.root = copyNodes(this.root, copier);
+        deepCopy.traversalMode = this.traversalMode;
+
+        if (Verification.isFull()) {
+            Verification.ensure(deepCopy.size().equals(this.size()));
         }
-        Verification.ensure(deepCopy.equals(this) || deepCopy.isEmpty());
         return deepCopy;
     }
 
+    /*
+     * The nodes of any tree, for code written against BinaryNode that only reads them: the live
+     * nodes of a tree that has them, or a copy for an indexed or a persistent tree, whose
+     * getRoot() is not supported.
+     */
+    static <T> BinaryNode<T> nodesOf(IBinaryTree<T> tree) {
+        if (tree instanceof IIndexedBinaryTree) {
+            return copyNodes((IIndexedBinaryTree<T>) tree);
+        }
+        if (tree instanceof PersistentBinaryTree) {
+            return ((PersistentBinaryTree<T>) tree).toNodes();
+        }
+        return tree.getRoot();
+    }
+
+    private static <T> BinaryNode<T> copyNodes(IIndexedBinaryTree<T> tree) {
+        if (tree.root() == IIndexedBinaryTree.NIL) {
+            return null;
+        }
+        int[] stack = new int[16];
+        int top = 0;
+        IStack<BinaryNode<T>> copies = new ArrayStack<>();
+        int curr = tree.root();
+        int lastVisited = IIndexedBinaryTree.NIL;
+
+        while (top > 0 || curr != IIndexedBinaryTree.NIL) {
+            if (curr != IIndexedBinaryTree.NIL) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = curr;
+                curr = tree.left(curr);
+            } else {
+                int node = stack[top - 1];
+                int right = tree.right(node);
+
+                if (right != IIndexedBinaryTree.NIL && right != lastVisited) {
+                    curr = right;
+                } else {
+                    top--;
+                    BinaryNode<T> rightCopy = null;
+                    BinaryNode<T> leftCopy = null;
+                    if (right != IIndexedBinaryTree.NIL) {
+                        rightCopy = copies.peek();
+                        copies.pop();
+                    }
+                    if (tree.left(node) != IIndexedBinaryTree.NIL) {
+                        leftCopy = copies.peek();
+                        copies.pop();
+                    }
+                    copies.push(new BinaryNode<>(tree.elem(node), leftCopy, rightCopy));
+                    lastVisited = node;
+                }
+            }
+        }
+
+        return copies.peek();
+    }
+
+    static <T> BinaryNode<T> copyNodes(BinaryNode<T> root, UnaryOperator<T> copier) {
+        if (root == null) {
+            return null;
+        }
+        IStack<BinaryNode<T>> stack = new ArrayStack<>();
+        IStack<BinaryNode<T>> copies = new ArrayStack<>();
+        BinaryNode<T> curr = root;
+        BinaryNode<T> lastVisited = null;
+
+        while (!stack.isEmpty() || curr != null) {
+            if (curr != null) {
+                stack.push(curr);
+                curr = curr.getLeft();
+            } else {
+                BinaryNode<T> top = stack.peek();
+
+                if (top.getRight() != null && top.getRight() != lastVisited) {
+                    curr = top.getRight();
+                } else {
+                    stack.pop();
+                    BinaryNode<T> right = null;
+                    BinaryNode<T> left = null;
+                    if (top.getRight() != null) {
+                        right = copies.peek();
+                        copies.pop();
+                    }
+                    if (top.getLeft() != null) {
+                        left = copies.peek();
+                        copies.pop();
+                    }
+                    T elem = copier.apply(top.getElem());
+                    Verification.require(elem != null || top.getElem() == null, "The copier returned null");
+                    copies.push(new BinaryNode<>(elem, left, right));
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return copies.peek();
+    }
+
+    /*
+     * Brings this tree to the version the patch was computed for, see TreeDiff.
+     */
+    public void apply(TreeDiff.Patch<T> patch) {
+        this.checkNotThreaded();
+        TreeDiff.apply(this, patch);
+    }
+
+    public void writeTo(WritableByteChannel channel, IElementCodec<T> codec) throws IOException {
+        TreeFormat.write(this, codec, channel);
+    }
+
+    public static <T> BinaryTree<T> readFrom(ReadableByteChannel channel, IElementCodec<T> codec) throws IOException {
+        return TreeFormat.read(codec, channel);
+    }
+
     @Override
     public String toString() {
         StringBuilder string = new StringBuilder();
@@ -357,25 +607,203 @@ public class BinaryTree<T> implements IBinaryTree<T>, Serializable {
                 || this.getClass() != otherObject.getClass())
             return false;
 
-        BinaryTree<T> that = (BinaryTree<T>) otherObject;
+        BinaryTree<?> that = (BinaryTree<?>) otherObject;
 
-        if (!Objects.equals(this.size(), that.size()))
-            return false;
-
-        return Objects.equals(this.levelorder(), that.levelorder());
+        return equalNodes(this.root, that.root);
     }
 
+    /*
+     * The structural hash of the root, O(1) once the caches of the nodes are up to date.
+     */
     @Override
     public int hashCode() {
-        Object[] array = new Object[this.size() + 1];
-        array[0] = this.size();
+        return this.root == null ? 0 : Long.hashCode(this.root.getHash());
+    }
 
-        Integer i = 1;
-        for (T elem: this.levelorder()) {
-            array[i] = elem;
-            i++;
+    /*
+     * Same shape and equal elements. Two nodes whose subtree hashes or sizes differ are rejected
+     * at once, so the walk only goes down pairs of subtrees that are probably equal, and a
+     * subtree shared by both sides is not entered at all.
+     */
+    private static boolean equalNodes(BinaryNode<?> first, BinaryNode<?> second) {
+        if (!sameNode(first, second))
+            return false;
+
+        IStack<BinaryNode<?>> firsts = new ArrayStack<>();
+        IStack<BinaryNode<?>> seconds = new ArrayStack<>();
+        if (first != second) {
+            firsts.push(first);
+            seconds.push(second);
+        }
+
+        while (!firsts.isEmpty()) {
+            BinaryNode<?> a = firsts.peek();
+            BinaryNode<?> b = seconds.peek();
+            firsts.pop();
+            seconds.pop();
+
+            if (!sameNode(a.getLeft(), b.getLeft()) || !sameNode(a.getRight(), b.getRight()))
+                return false;
+
+            if (a.getLeft() != b.getLeft()) {
+                firsts.push(a.getLeft());
+                seconds.push(b.getLeft());
+            }
+            if (a.getRight() != b.getRight()) {
+                firsts.push(a.getRight());
+                seconds.push(b.getRight());
+            }
         }
 
-        return Objects.hash(array);
+        return true;
+    }
+
+    private static boolean sameNode(BinaryNode<?> a, BinaryNode<?> b) {
+        if (a == b)
+            return true;
+        return a != null && b != null && a.getHash() == b.getHash() && a.getSize() == b.getSize()
+                && Objects.equals(a.getElem(), b.getElem());
+    }
+
+    private class PreorderIterator implements Iterator<T> {
+
+        private final IStack<BinaryNode<T>> stack;
+
+        public PreorderIterator() {
+            this.stack = new ArrayStack<>();
+            if (BinaryTree.this.root != null) {
+                this.stack.push(BinaryTree.this.root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            BinaryNode<T> curr = this.stack.peek();
+            this.stack.pop();
+
+            if (curr.getRight() != null) {
+                this.stack.push(curr.getRight());
+            }
+            if (curr.getLeft() != null) {
+                this.stack.push(curr.getLeft());
+            }
+            return curr.getElem();
+        }
+    }
+
+    private class InorderIterator implements Iterator<T> {
+
+        private final IStack<BinaryNode<T>> stack;
+
+        public InorderIterator() {
+            this.stack = new ArrayStack<>();
+            this.pushLeftPath(BinaryTree.this.root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            BinaryNode<T> curr = this.stack.peek();
+            this.stack.pop();
+
+            this.pushLeftPath(curr.getRight());
+            return curr.getElem();
+        }
+
+        private void pushLeftPath(BinaryNode<T> node) {
+            while (node != null) {
+                this.stack.push(node);
+                node = node.getLeft();
+            }
+        }
+    }
+
+    private class PostorderIterator implements Iterator<T> {
+
+        private final IStack<BinaryNode<T>> stack;
+        private BinaryNode<T> lastVisited;
+
+        public PostorderIterator() {
+            this.stack = new ArrayStack<>();
+            this.lastVisited = null;
+            this.pushLeftPath(BinaryTree.this.root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            BinaryNode<T> top = this.stack.peek();
+            while (top.getRight() != null && top.getRight() != this.lastVisited) {
+                this.pushLeftPath(top.getRight());
+                top = this.stack.peek();
+            }
+
+            this.stack.pop();
+            this.lastVisited = top;
+            return top.getElem();
+        }
+
+        private void pushLeftPath(BinaryNode<T> node) {
+            while (node != null) {
+                this.stack.push(node);
+                node = node.getLeft();
+            }
+        }
+    }
+
+    private class LevelorderIterator implements Iterator<T> {
+
+        private final IQueue<BinaryNode<T>> queue;
+
+        public LevelorderIterator() {
+            this.queue = new ArrayQueue<>();
+            if (BinaryTree.this.root != null) {
+                this.queue.enqueue(BinaryTree.this.root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            BinaryNode<T> next = this.queue.front();
+            this.queue.dequeue();
+
+            if (next.getLeft() != null) {
+                this.queue.enqueue(next.getLeft());
+            }
+            if (next.getRight() != null) {
+                this.queue.enqueue(next.getRight());
+            }
+            return next.getElem();
+        }
     }
-}
\ No newline at end of file
+}
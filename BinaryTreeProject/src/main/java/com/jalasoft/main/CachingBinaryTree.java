@@ -0,0 +1,125 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IList;
+import java.util.function.UnaryOperator;
+
+/*
+ * A BinaryTree for trees read far more often than they change. The traversals and toString() are
+ * computed once and kept until getModCount() changes, so reading an unchanged tree again costs
+ * O(1); the metrics and hashCode() already are O(1) on the caches of the nodes. The traversals are
+ * shared by every caller, so they come as ReadOnlyLists. Not thread-safe for writes, like
+ * BinaryTree; wrap it in a ConcurrentBinaryTree to share it, whose readers may fill in the caches
+ * at the same time.
+ */
+public class CachingBinaryTree<T> extends BinaryTree<T> {
+
+    private transient volatile Cache<T> cache;
+
+    public CachingBinaryTree() {
+        super();
+    }
+
+    public CachingBinaryTree(final T rootItem) {
+        super(rootItem);
+    }
+
+    @Override
+    public IList<T> preorder() {
+        Cache<T> cache = this.validate();
+        IList<T> preorder = cache.preorder;
+        if (preorder == null) {
+            preorder = new ReadOnlyList<>(super.preorder());
+            cache.preorder = preorder;
+        }
+        return preorder;
+    }
+
+    @Override
+    public IList<T> inorder() {
+        Cache<T> cache = this.validate();
+        IList<T> inorder = cache.inorder;
+        if (inorder == null) {
+            inorder = new ReadOnlyList<>(super.inorder());
+            cache.inorder = inorder;
+        }
+        return inorder;
+    }
+
+    @Override
+    public IList<T> postorder() {
+        Cache<T> cache = this.validate();
+        IList<T> postorder = cache.postorder;
+        if (postorder == null) {
+            postorder = new ReadOnlyList<>(super.postorder());
+            cache.postorder = postorder;
+        }
+        return postorder;
+    }
+
+    @Override
+    public IList<T> levelorder() {
+        Cache<T> cache = this.validate();
+        IList<T> levelorder = cache.levelorder;
+        if (levelorder == null) {
+            levelorder = new ReadOnlyList<>(super.levelorder());
+            cache.levelorder = levelorder;
+        }
+        return levelorder;
+    }
+
+    @Override
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+
+        CachingBinaryTree<T> deepCopy = new CachingBinaryTree<>();
+        deepCopy.setRoot(copyNodes(this.getRoot(), copier));
+        deepCopy.setTraversalMode(this.getTraversalMode());
+
+        if (Verification.isFull()) {
+            Verification.ensure(deepCopy.size().equals(this.size()));
+        }
+        return deepCopy;
+    }
+
+    @Override
+    public String toString() {
+        Cache<T> cache = this.validate();
+        String string = cache.string;
+        if (string == null) {
+            string = super.toString();
+            cache.string = string;
+        }
+        return string;
+    }
+
+    /*
+     * The caches of one modification count. Readers under the shared lock of a ConcurrentBinaryTree
+     * may fill them in at the same time; each one reads a field once, and at worst two of them
+     * compute the same traversal.
+     */
+    private Cache<T> validate() {
+        long modCount = this.getModCount();
+        Cache<T> cache = this.cache;
+        if (cache == null || cache.modCount != modCount) {
+            cache = new Cache<>(modCount);
+            this.cache = cache;
+        }
+        return cache;
+    }
+
+    private static final class Cache<T> {
+
+        private final long modCount;
+        private volatile IList<T> preorder;
+        private volatile IList<T> inorder;
+        private volatile IList<T> postorder;
+        private volatile IList<T> levelorder;
+        private volatile String string;
+
+        private Cache(final long modCount) {
+            this.modCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IList;
+import java.util.Iterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/*
+ * An IBinaryTree that many threads can share, guarding another one with a StampedLock. Every write
+ * takes the write lock and, before releasing it, copies the metrics of the tree into this object,
+ * which also brings the caches of the nodes up to date; the metrics are then read optimistically,
+ * without locking, and again under the read lock only if a writer got in between. Traversals and
+ * copies take the read lock, so any number of them run at the same time and none of them writes to
+ * a node. The iterators walk a copy of the traversal taken under the read lock. Changes made
+ * through the nodes returned by getRoot() are not guarded and not seen by the metrics, use write()
+ * for them; an indexed or a persistent tree has no such nodes, so it gets a copy taken under the
+ * read lock. A BinaryTree in MORRIS mode threads its traversals through a field of the nodes that
+ * only the traversal reads, so they take the read lock as well.
+ */
+public class ConcurrentBinaryTree<T> implements IBinaryTree<T> {
+
+    private final IBinaryTree<T> tree;
+    private final StampedLock lock;
+
+    private int size;
+    private int height;
+    private int leaves;
+    private boolean balanced;
+
+    public ConcurrentBinaryTree() {
+        this(new BinaryTree<>());
+    }
+
+    public ConcurrentBinaryTree(final IBinaryTree<T> tree) {
+        Verification.require(tree != null && !(tree instanceof ConcurrentBinaryTree));
+        this.tree = tree;
+        this.lock = new StampedLock();
+        this.write(IBinaryTree::size);
+    }
+
+    public <R> R read(final Function<? super IBinaryTree<T>, R> reader) {
+        Verification.require(reader != null);
+        return this.locked(() -> reader.apply(this.tree), false);
+    }
+
+    public void write(final Consumer<? super IBinaryTree<T>> writer) {
+        Verification.require(writer != null);
+        this.locked(() -> {
+            writer.accept(this.tree);
+            return null;
+        }, true);
+    }
+
+    @Override
+    public BinaryNode<T> getRoot() {
+        return this.read(BinaryTree::nodesOf);
+    }
+
+    @Override
+    public BinaryNode<T> getLeftChild() {
+        return this.read(tree -> childOf(tree, true));
+    }
+
+    @Override
+    public BinaryNode<T> getRightChild() {
+        return this.read(tree -> childOf(tree, false));
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    public void makeEmpty() {
+        this.write(IBinaryTree::makeEmpty);
+    }
+
+    @Override
+    public Boolean isBalanced() {
+        long stamp = this.lock.tryOptimisticRead();
+        boolean balanced = this.balanced;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            balanced = this.balanced;
+            this.lock.unlockRead(stamp);
+        }
+        return balanced;
+    }
+
+    @Override
+    public Integer height() {
+        long stamp = this.lock.tryOptimisticRead();
+        int height = this.height;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            height = this.height;
+            this.lock.unlockRead(stamp);
+        }
+        return height;
+    }
+
+    @Override
+    public Integer size() {
+        long stamp = this.lock.tryOptimisticRead();
+        int size = this.size;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            size = this.size;
+            this.lock.unlockRead(stamp);
+        }
+        return size;
+    }
+
+    @Override
+    public Integer leaves() {
+        long stamp = this.lock.tryOptimisticRead();
+        int leaves = this.leaves;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            leaves = this.leaves;
+            this.lock.unlockRead(stamp);
+        }
+        return leaves;
+    }
+
+    @Override
+    public IList<T> preorder() {
+        return this.read(IBinaryTree::preorder);
+    }
+
+    @Override
+    public IList<T> inorder() {
+        return this.read(IBinaryTree::inorder);
+    }
+
+    @Override
+    public IList<T> postorder() {
+        return this.read(IBinaryTree::postorder);
+    }
+
+    @Override
+    public IList<T> levelorder() {
+        return this.read(IBinaryTree::levelorder);
+    }
+
+    @Override
+    public Iterator<T> preorderIterator() {
+        return this.preorder().iterator();
+    }
+
+    @Override
+    public Iterator<T> inorderIterator() {
+        return this.inorder().iterator();
+    }
+
+    @Override
+    public Iterator<T> postorderIterator() {
+        return this.postorder().iterator();
+    }
+
+    @Override
+    public Iterator<T> levelorderIterator() {
+        return this.levelorder().iterator();
+    }
+
+    /*
+     * A ConcurrentBinaryTree passed as other is locked on its own, never together with this one,
+     * so two trees merging into each other can not deadlock: COPY reads a shallow copy of it and
+     * IN_PLACE moves its nodes out and empties it before merging them here.
+     */
+    @Override
+    public IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner, TreeMerge.Mode mode) {
+        Verification.require(other != null && other != this && combiner != null && mode != null);
+
+        IBinaryTree<T> source = other;
+        if (other instanceof ConcurrentBinaryTree) {
+            ConcurrentBinaryTree<T> that = (ConcurrentBinaryTree<T>) other;
+            source = that.locked(() -> {
+                IBinaryTree<T> copy = that.tree.deepCopy(CopyStrategies.share());
+                if (mode == TreeMerge.Mode.IN_PLACE) {
+                    that.tree.makeEmpty();
+                }
+                return copy;
+            }, mode == TreeMerge.Mode.IN_PLACE);
+        }
+
+        IBinaryTree<T> merged = source;
+        if (mode == TreeMerge.Mode.COPY) {
+            return this.read(tree -> tree.mergetree(merged, combiner, mode));
+        }
+        this.write(tree -> tree.mergetree(merged, combiner, mode));
+        return this;
+    }
+
+    public void apply(final TreeDiff.Patch<T> patch) {
+        Verification.require(patch != null && this.tree instanceof BinaryTree);
+        this.write(tree -> ((BinaryTree<T>) tree).apply(patch));
+    }
+
+    @Override
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+        return new ConcurrentBinaryTree<>(this.read(tree -> tree.deepCopy(copier)));
+    }
+
+    @Override
+    public String toString() {
+        return this.read(IBinaryTree::toString);
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        ConcurrentBinaryTree<?> that = (ConcurrentBinaryTree<?>) otherObject;
+        Object theirs = that.read(tree -> tree.deepCopy(CopyStrategies.share()));
+        return this.read(tree -> tree.equals(theirs));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.read(Object::hashCode);
+    }
+
+    private static <T> BinaryNode<T> childOf(IBinaryTree<T> tree, boolean left) {
+        Verification.require(!tree.isEmpty());
+        BinaryNode<T> root = BinaryTree.nodesOf(tree);
+        return left ? root.getLeft() : root.getRight();
+    }
+
+    private <R> R locked(Supplier<R> action, boolean exclusive) {
+        long stamp = exclusive ? this.lock.writeLock() : this.lock.readLock();
+        try {
+            R result = action.get();
+            if (exclusive) {
+                this.size = this.tree.size();
+                this.height = this.tree.height();
+                this.leaves = this.tree.leaves();
+                this.balanced = this.tree.isBalanced();
+            }
+            return result;
+        } finally {
+            this.lock.unlock(stamp);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jalasoft.main;
+
+import com.jalasoft.interfaces.DeepCloneable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+public final class CopyStrategies {
+
+    private static final Set<Class<?>> IMMUTABLE = Set.of(
+            String.class, Integer.class, Long.class, Short.class, Byte.class, Character.class,
+            Boolean.class, Double.class, Float.class);
+
+    private static final UnaryOperator<Object> SHARE = elem -> elem;
+
+    private static final UnaryOperator<Object> SERIALIZED = CopyStrategies::serialize;
+
+    private static final UnaryOperator<Object> DEEP = elem ->
+            elem == null || IMMUTABLE.contains(elem.getClass()) || elem instanceof Enum ? elem : serialize(elem);
+
+    private CopyStrategies() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> UnaryOperator<T> share() {
+        return (UnaryOperator<T>) SHARE;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> UnaryOperator<T> serialized() {
+        return (UnaryOperator<T>) SERIALIZED;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> UnaryOperator<T> deep() {
+        return (UnaryOperator<T>) DEEP;
+    }
+
+    private static Object serialize(Object elem) {
+        if (elem == null) {
+            return null;
+        }
+        if (!(elem instanceof Serializable)) {
+            throw new IllegalArgumentException(elem.getClass().getName() + " is not Serializable");
+        }
+        try {
+            return DeepCloneable.deepCopy((Serializable) elem);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
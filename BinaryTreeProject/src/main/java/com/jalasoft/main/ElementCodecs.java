@@ -0,0 +1,107 @@
+package com.jalasoft.main;
+
+import com.jalasoft.interfaces.IElementCodec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class ElementCodecs {
+
+    public static final IElementCodec<Integer> INT = new FixedCodec<>(Integer.BYTES) {
+        @Override
+        public void write(Integer elem, ByteBuffer target) {
+            target.putInt(elem);
+        }
+
+        @Override
+        public Integer read(ByteBuffer source, int length) {
+            return source.getInt();
+        }
+    };
+
+    public static final IElementCodec<Long> LONG = new FixedCodec<>(Long.BYTES) {
+        @Override
+        public void write(Long elem, ByteBuffer target) {
+            target.putLong(elem);
+        }
+
+        @Override
+        public Long read(ByteBuffer source, int length) {
+            return source.getLong();
+        }
+    };
+
+    public static final IElementCodec<Double> DOUBLE = new FixedCodec<>(Double.BYTES) {
+        @Override
+        public void write(Double elem, ByteBuffer target) {
+            target.putDouble(elem);
+        }
+
+        @Override
+        public Double read(ByteBuffer source, int length) {
+            return source.getDouble();
+        }
+    };
+
+    public static final IElementCodec<String> STRING = new IElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return VARIABLE_SIZE;
+        }
+
+        @Override
+        public int sizeOf(String elem) {
+            int bytes = 0;
+            for (int i = 0; i < elem.length(); i++) {
+                char c = elem.charAt(i);
+                if (c < 0x80) {
+                    bytes += 1;
+                } else if (c < 0x800) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < elem.length()
+                        && Character.isLowSurrogate(elem.charAt(i + 1))) {
+                    bytes += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    bytes += 1;
+                } else {
+                    bytes += 3;
+                }
+            }
+            return bytes;
+        }
+
+        @Override
+        public void write(String elem, ByteBuffer target) {
+            target.put(elem.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer source, int length) {
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private ElementCodecs() {
+    }
+
+    private abstract static class FixedCodec<T> implements IElementCodec<T> {
+
+        private final int size;
+
+        private FixedCodec(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int fixedSize() {
+            return this.size;
+        }
+
+        @Override
+        public int sizeOf(T elem) {
+            return this.size;
+        }
+    }
+}
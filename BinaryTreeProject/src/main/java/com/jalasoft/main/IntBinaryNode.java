@@ -0,0 +1,46 @@
+package com.jalasoft.main;
+
+import java.io.Serializable;
+
+public class IntBinaryNode implements Serializable {
+
+    private int elem;
+    private IntBinaryNode left;
+    private IntBinaryNode right;
+
+    public IntBinaryNode(final int elem) {
+        this(elem, null, null);
+    }
+
+    public IntBinaryNode(final int elem,
+                        final IntBinaryNode left,
+                        final IntBinaryNode right) {
+        this.elem = elem;
+        this.left = left;
+        this.right = right;
+    }
+
+    public int getElem() {
+        return this.elem;
+    }
+
+    public void setElem(int elem) {
+        this.elem = elem;
+    }
+
+    public IntBinaryNode getLeft() {
+        return this.left;
+    }
+
+    public void setLeft(IntBinaryNode left) {
+        this.left = left;
+    }
+
+    public IntBinaryNode getRight() {
+        return this.right;
+    }
+
+    public void setRight(IntBinaryNode right) {
+        this.right = right;
+    }
+}
@@ -0,0 +1,409 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IIntBinaryTree;
+import com.jalasoft.interfaces.IIntList;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/*
+ * Nodes hold a bare int and keep no cached metrics or parent pointer, so a node costs one object
+ * header, the value and two references. Walks use plain node arrays as their stack or queue and
+ * the traversals fill an exactly sized int[] that the list variants wrap without copying.
+ */
+public class IntBinaryTree implements IIntBinaryTree, Serializable {
+
+    private enum Metric {
+        HEIGHT,
+        LEAVES,
+        BALANCE
+    }
+
+    private IntBinaryNode root;
+
+    public IntBinaryTree() {
+        this.root = null;
+
+        Verification.ensure(isEmpty());
+    }
+
+    public IntBinaryTree(final int rootItem) {
+        this.root = new IntBinaryNode(rootItem);
+
+        Verification.ensure(!isEmpty() && root.getElem() == rootItem);
+    }
+
+    @Override
+    public IntBinaryNode getRoot() {
+        return this.root;
+    }
+
+    @Override
+    public IntBinaryNode getLeftChild() {
+        Verification.require(!isEmpty());
+        return this.root.getLeft();
+    }
+
+    @Override
+    public IntBinaryNode getRightChild() {
+        Verification.require(!isEmpty());
+        return this.root.getRight();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.root == null;
+    }
+
+    @Override
+    public void makeEmpty() {
+        this.root = null;
+        Verification.ensure(isEmpty());
+    }
+
+    @Override
+    public boolean isBalanced() {
+        return this.measure(Metric.BALANCE) >= 0;
+    }
+
+    @Override
+    public int height() {
+        int result = this.measure(Metric.HEIGHT);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    @Override
+    public int size() {
+        if (this.root == null) {
+            return 0;
+        }
+        IntBinaryNode[] stack = new IntBinaryNode[16];
+        int top = 0;
+        int count = 0;
+
+        stack[top++] = this.root;
+        while (top > 0) {
+            IntBinaryNode node = stack[--top];
+            count++;
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (node.getRight() != null) {
+                stack[top++] = node.getRight();
+            }
+            if (node.getLeft() != null) {
+                stack[top++] = node.getLeft();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int leaves() {
+        int result = this.measure(Metric.LEAVES);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    @Override
+    public IIntList preorder() {
+        return IntList.wrap(this.preorderArray());
+    }
+
+    @Override
+    public IIntList inorder() {
+        return IntList.wrap(this.inorderArray());
+    }
+
+    @Override
+    public IIntList postorder() {
+        return IntList.wrap(this.postorderArray());
+    }
+
+    @Override
+    public IIntList levelorder() {
+        return IntList.wrap(this.levelorderArray());
+    }
+
+    @Override
+    public int[] preorderArray() {
+        int[] out = new int[this.size()];
+        if (this.root == null) {
+            return out;
+        }
+        IntBinaryNode[] stack = new IntBinaryNode[16];
+        int top = 0;
+        int count = 0;
+
+        stack[top++] = this.root;
+        while (top > 0) {
+            IntBinaryNode node = stack[--top];
+            out[count++] = node.getElem();
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (node.getRight() != null) {
+                stack[top++] = node.getRight();
+            }
+            if (node.getLeft() != null) {
+                stack[top++] = node.getLeft();
+            }
+        }
+
+        Verification.ensure(count == out.length);
+        return out;
+    }
+
+    @Override
+    public int[] inorderArray() {
+        int[] out = new int[this.size()];
+        IntBinaryNode[] stack = new IntBinaryNode[16];
+        int top = 0;
+        int count = 0;
+        IntBinaryNode curr = this.root;
+
+        while (curr != null || top > 0) {
+            while (curr != null) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = curr;
+                curr = curr.getLeft();
+            }
+            curr = stack[--top];
+            out[count++] = curr.getElem();
+            curr = curr.getRight();
+        }
+
+        Verification.ensure(count == out.length);
+        return out;
+    }
+
+    @Override
+    public int[] postorderArray() {
+        int[] out = new int[this.size()];
+        IntBinaryNode[] stack = new IntBinaryNode[16];
+        int top = 0;
+        int count = 0;
+        IntBinaryNode curr = this.root;
+        IntBinaryNode lastVisited = null;
+
+        while (curr != null || top > 0) {
+            if (curr != null) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = curr;
+                curr = curr.getLeft();
+            } else {
+                IntBinaryNode peek = stack[top - 1];
+                if (peek.getRight() != null && peek.getRight() != lastVisited) {
+                    curr = peek.getRight();
+                } else {
+                    out[count++] = peek.getElem();
+                    lastVisited = stack[--top];
+                }
+            }
+        }
+
+        Verification.ensure(count == out.length);
+        return out;
+    }
+
+    @Override
+    public int[] levelorderArray() {
+        int size = this.size();
+        int[] out = new int[size];
+        IntBinaryNode[] queue = new IntBinaryNode[size];
+        int head = 0;
+        int tail = 0;
+
+        if (this.root != null) {
+            queue[tail++] = this.root;
+        }
+        while (head < tail) {
+            IntBinaryNode node = queue[head];
+            queue[head] = null;
+            out[head++] = node.getElem();
+            if (node.getLeft() != null) {
+                queue[tail++] = node.getLeft();
+            }
+            if (node.getRight() != null) {
+                queue[tail++] = node.getRight();
+            }
+        }
+
+        Verification.ensure(head == out.length);
+        return out;
+    }
+
+    @Override
+    public IIntBinaryTree deepCopy() {
+        IntBinaryTree deepCopy = new IntBinaryTree();
+        if (this.root != null) {
+            deepCopy.root = new IntBinaryNode(this.root.getElem());
+
+            IntBinaryNode[] sources = new IntBinaryNode[16];
+            IntBinaryNode[] copies = new IntBinaryNode[16];
+            int top = 0;
+
+            sources[top] = this.root;
+            copies[top++] = deepCopy.root;
+            while (top > 0) {
+                IntBinaryNode source = sources[--top];
+                IntBinaryNode copy = copies[top];
+                if (top + 2 > sources.length) {
+                    sources = Arrays.copyOf(sources, sources.length * 2);
+                    copies = Arrays.copyOf(copies, copies.length * 2);
+                }
+                if (source.getLeft() != null) {
+                    copy.setLeft(new IntBinaryNode(source.getLeft().getElem()));
+                    sources[top] = source.getLeft();
+                    copies[top++] = copy.getLeft();
+                }
+                if (source.getRight() != null) {
+                    copy.setRight(new IntBinaryNode(source.getRight().getElem()));
+                    sources[top] = source.getRight();
+                    copies[top++] = copy.getRight();
+                }
+            }
+        }
+
+        if (Verification.isFull()) {
+            Verification.ensure(deepCopy.equals(this));
+        }
+        return deepCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (int elem: this.levelorderArray()) {
+            string.append(elem).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        IntBinaryTree that = (IntBinaryTree) otherObject;
+        IntBinaryNode[] firsts = new IntBinaryNode[16];
+        IntBinaryNode[] seconds = new IntBinaryNode[16];
+        int top = 0;
+
+        firsts[top] = this.root;
+        seconds[top++] = that.root;
+        while (top > 0) {
+            IntBinaryNode a = firsts[--top];
+            IntBinaryNode b = seconds[top];
+            if (a == b) {
+                continue;
+            }
+            if (a == null || b == null || a.getElem() != b.getElem()) {
+                return false;
+            }
+            if (top + 2 > firsts.length) {
+                firsts = Arrays.copyOf(firsts, firsts.length * 2);
+                seconds = Arrays.copyOf(seconds, seconds.length * 2);
+            }
+            firsts[top] = a.getRight();
+            seconds[top++] = b.getRight();
+            firsts[top] = a.getLeft();
+            seconds[top++] = b.getLeft();
+        }
+        return true;
+    }
+
+    /*
+     * Hashes the preorder with a mark for every missing child, so trees with the same elements in
+     * another shape hash differently, as equals tells them apart.
+     */
+    @Override
+    public int hashCode() {
+        IntBinaryNode[] stack = new IntBinaryNode[16];
+        int top = 0;
+        int result = 1;
+
+        stack[top++] = this.root;
+        while (top > 0) {
+            IntBinaryNode node = stack[--top];
+            if (node == null) {
+                result = 31 * result;
+                continue;
+            }
+            result = 31 * result + 2 * Integer.hashCode(node.getElem()) + 1;
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top++] = node.getRight();
+            stack[top++] = node.getLeft();
+        }
+        return result;
+    }
+
+    private int measure(Metric metric) {
+        if (this.root == null) {
+            return 0;
+        }
+        IntBinaryNode[] nodes = new IntBinaryNode[16];
+        int[] values = new int[16];
+        int nodeCount = 0;
+        int valueCount = 0;
+
+        IntBinaryNode curr = this.root;
+        IntBinaryNode lastVisited = null;
+
+        while (nodeCount > 0 || curr != null) {
+            if (curr != null) {
+                if (nodeCount == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                }
+                nodes[nodeCount++] = curr;
+                curr = curr.getLeft();
+            } else {
+                IntBinaryNode top = nodes[nodeCount - 1];
+
+                if (top.getRight() != null && top.getRight() != lastVisited) {
+                    curr = top.getRight();
+                } else {
+                    nodeCount--;
+                    int right = top.getRight() != null ? values[--valueCount] : 0;
+                    int left = top.getLeft() != null ? values[--valueCount] : 0;
+
+                    if (valueCount == values.length) {
+                        values = Arrays.copyOf(values, valueCount * 2);
+                    }
+                    values[valueCount++] = combine(metric, top, left, right);
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return values[0];
+    }
+
+    private static int combine(Metric metric, IntBinaryNode node, int left, int right) {
+        switch (metric) {
+            case HEIGHT:
+                return 1 + Math.max(left, right);
+            case LEAVES:
+                return (node.getLeft() == null && node.getRight() == null) ? 1 : left + right;
+            default:
+                if (left < 0 || right < 0 || Math.abs(left - right) > 1) {
+                    return -1;
+                }
+                return 1 + Math.max(left, right);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IIntList;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class IntList implements IIntList, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] elems;
+    private int size;
+    private int modCount;
+
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntList(int initialCapacity) {
+        Verification.require(initialCapacity >= 0);
+
+        this.elems = new int[initialCapacity];
+        this.size = 0;
+        this.modCount = 0;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    public IntList(final int[] elems) {
+        Verification.require(elems != null);
+
+        this.elems = Arrays.copyOf(elems, elems.length);
+        this.size = elems.length;
+        this.modCount = 0;
+
+        Verification.ensure(this.size == elems.length);
+        Verification.invariant(checkInvariant());
+    }
+
+    static IntList wrap(final int[] elems) {
+        IntList list = new IntList(0);
+        list.elems = elems;
+        list.size = elems.length;
+        return list;
+    }
+
+    @Override
+    public void addFirst(final int elem) {
+        Verification.invariant(checkInvariant());
+        int oldSize = this.size;
+
+        this.insert(0, elem);
+
+        Verification.ensure((this.elems[0] == elem) && (this.size == (oldSize + 1)));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void addLast(final int elem) {
+        Verification.invariant(checkInvariant());
+        int oldSize = this.size;
+
+        if (this.size == this.elems.length) {
+            this.grow(this.size + 1);
+        }
+        this.elems[this.size++] = elem;
+        this.modCount++;
+
+        Verification.ensure((this.elems[this.size - 1] == elem) && (this.size == (oldSize + 1)));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public int getFirst() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+
+        return this.elems[0];
+    }
+
+    @Override
+    public int getLast() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+
+        return this.elems[this.size - 1];
+    }
+
+    @Override
+    public void removeFirst() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+        int oldSize = this.size;
+
+        this.delete(0);
+
+        Verification.ensure(this.size == oldSize - 1);
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void removeLast() {
+        Verification.invariant(checkInvariant());
+        Verification.require(!isEmpty());
+        int oldSize = this.size;
+
+        this.size--;
+        this.modCount++;
+
+        Verification.ensure(this.size == oldSize - 1);
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public boolean contains(final int elem) {
+        Verification.invariant(checkInvariant());
+        return this.find(elem) >= 0;
+    }
+
+    @Override
+    public void removeElement(final int elem) {
+        Verification.invariant(checkInvariant());
+        int oldSize = this.size;
+
+        int index = this.find(elem);
+        if (index >= 0) {
+            this.delete(index);
+        }
+
+        Verification.ensure((index < 0 && this.size == oldSize) || (this.size == oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void clear() {
+        Verification.invariant(checkInvariant());
+
+        this.size = 0;
+        this.modCount++;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public int get(int index) {
+        Verification.invariant(checkInvariant());
+        Verification.require((index >= 0) && (index < this.size));
+
+        return this.elems[index];
+    }
+
+    @Override
+    public void set(int index, final int elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require((index >= 0) && (index < this.size));
+
+        this.elems[index] = elem;
+
+        Verification.ensure(this.elems[index] == elem);
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void add(int index, final int elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require((index >= 0) && (index <= this.size));
+        int oldSize = this.size;
+
+        this.insert(index, elem);
+
+        Verification.ensure((this.size == (oldSize + 1)) && (this.elems[index] == elem));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void removeAt(int index) {
+        Verification.invariant(checkInvariant());
+        Verification.require((index >= 0) && (index < this.size));
+        int oldSize = this.size;
+
+        this.delete(index);
+
+        Verification.ensure(this.size == (oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public int indexOf(final int elem) {
+        Verification.invariant(checkInvariant());
+        return this.find(elem);
+    }
+
+    @Override
+    public int lastIndexOf(final int elem) {
+        Verification.invariant(checkInvariant());
+
+        int index = this.size - 1;
+        while (index >= 0 && this.elems[index] != elem) {
+            index--;
+        }
+        return index;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Verification.invariant(checkInvariant());
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        Verification.invariant(checkInvariant());
+        return this.size;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        Verification.require(minCapacity >= 0);
+
+        if (minCapacity > this.elems.length) {
+            this.grow(minCapacity);
+        }
+
+        Verification.ensure(this.elems.length >= minCapacity);
+        Verification.invariant(checkInvariant());
+    }
+
+    public void trimToSize() {
+        Verification.invariant(checkInvariant());
+
+        if (this.size < this.elems.length) {
+            this.elems = Arrays.copyOf(this.elems, this.size);
+            this.modCount++;
+        }
+
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public int[] toArray() {
+        Verification.invariant(checkInvariant());
+        return Arrays.copyOf(this.elems, this.size);
+    }
+
+    @Override
+    public IIntList deepCopy() {
+        Verification.invariant(checkInvariant());
+
+        IntList deepCopy = new IntList(this.toArray());
+
+        if (Verification.isFull()) {
+            Verification.ensure(deepCopy.equals(this));
+        }
+        Verification.invariant(checkInvariant());
+        return deepCopy;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntListIterator();
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(
+                Spliterators.spliterator(this.elems, 0, this.size, Spliterator.ORDERED), false);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (int i = 0; i < this.size; i++) {
+            string.append(this.elems[i]).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        IntList that = (IntList) otherObject;
+
+        return Arrays.equals(this.elems, 0, this.size, that.elems, 0, that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 + this.size;
+        for (int i = 0; i < this.size; i++) {
+            result = 31 * result + Integer.hashCode(this.elems[i]);
+        }
+        return result;
+    }
+
+    private int find(int elem) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.elems[i] == elem) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int index, int elem) {
+        if (this.size == this.elems.length) {
+            this.grow(this.size + 1);
+        }
+        System.arraycopy(this.elems, index, this.elems, index + 1, this.size - index);
+        this.elems[index] = elem;
+        this.size++;
+        this.modCount++;
+    }
+
+    private void delete(int index) {
+        int moved = this.size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(this.elems, index + 1, this.elems, index, moved);
+        }
+        this.size--;
+        this.modCount++;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+        }
+        int oldCapacity = this.elems.length;
+        int newCapacity = oldCapacity + Math.max(oldCapacity >> 1, DEFAULT_CAPACITY);
+        if (newCapacity < minCapacity || newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = minCapacity;
+        }
+        this.elems = Arrays.copyOf(this.elems, newCapacity);
+    }
+
+    private boolean checkInvariant() {
+        return this.size >= 0 && this.size <= this.elems.length;
+    }
+
+    private class IntListIterator implements PrimitiveIterator.OfInt {
+
+        private int index;
+        private int lastReturned;
+        private int expectedModCount;
+
+        public IntListIterator() {
+            this.index = 0;
+            this.lastReturned = -1;
+            this.expectedModCount = IntList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.expectedModCount != IntList.this.modCount)
+                throw new ConcurrentModificationException();
+
+            return this.index < IntList.this.size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            this.lastReturned = this.index;
+            this.index++;
+            return IntList.this.elems[this.lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (this.expectedModCount != IntList.this.modCount)
+                throw new ConcurrentModificationException();
+            if (this.lastReturned < 0)
+                throw new IllegalStateException();
+
+            IntList.this.removeAt(this.lastReturned);
+            this.index = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedModCount = IntList.this.modCount;
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.jalasoft.main;
 
 import com.jalasoft.integration.Verification;
-import com.jalasoft.interfaces.DeepCloneable;
 import com.jalasoft.interfaces.IList;
 import java.io.Serializable;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 public class LinkedList<T> implements IList<T>, Serializable {
 
@@ -38,7 +41,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
         this.size++;
         this.modCount++;
         
-        Verification.ensure((getFirst() == elem) && (size() == (oldSize + 1)));
+        if (Verification.isFull()) {
+            Verification.ensure((getFirst() == elem) && (size() == (oldSize + 1)));
+        }
         Verification.invariant(checkInvariant());
     }
 
@@ -54,7 +59,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
         this.size++;
         this.modCount++;
         
-        Verification.ensure((getLast() == elem) && (size() == (oldSize + 1)));
+        if (Verification.isFull()) {
+            Verification.ensure((getLast() == elem) && (size() == (oldSize + 1)));
+        }
         Verification.invariant(checkInvariant());
     }
 
@@ -66,7 +73,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
     	
     	T elem = this.head.getElem();
     	
-    	Verification.ensure((elem == get(0)) && (size() == oldSize));
+    	if (Verification.isFull()) {
+    	    Verification.ensure((elem == get(0)) && (size() == oldSize));
+    	}
     	Verification.invariant(checkInvariant());
         return elem;
     }
@@ -79,7 +88,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
     	
     	T elem = this.tail.getElem();
     	
-    	Verification.ensure((elem == get(size() - 1)) && (size() == oldSize));
+    	if (Verification.isFull()) {
+    	    Verification.ensure((elem == get(size() - 1)) && (size() == oldSize));
+    	}
     	Verification.invariant(checkInvariant());
         return elem;
     }
@@ -167,7 +178,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
             this.modCount++;
         }
         
-        Verification.ensure(!contains(elem) || size() == (oldSize - 1));
+        if (Verification.isFull()) {
+            Verification.ensure(!contains(elem) || size() == (oldSize - 1));
+        }
     	Verification.invariant(checkInvariant());
     }
 
@@ -248,7 +261,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
             after.setPrevious(current);
         }
         
-        Verification.ensure((size() == (oldSize + 1)) && (contains(elem) == true));
+        if (Verification.isFull()) {
+            Verification.ensure((size() == (oldSize + 1)) && (contains(elem) == true));
+        }
     	Verification.invariant(checkInvariant());
     }
 
@@ -304,7 +319,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
             index = i;
         }
         
-        Verification.ensure((size() == oldSize) && ((index == -1) || (contains(elem))));
+        if (Verification.isFull()) {
+            Verification.ensure((size() == oldSize) && ((index == -1) || (contains(elem))));
+        }
     	Verification.invariant(checkInvariant());
         return index;
     }
@@ -331,8 +348,10 @@ public class LinkedList<T> implements IList<T>, Serializable {
             index = i;
         }
         
-        Verification.ensure((size() == oldSize) && ((index == -1) || (contains(elem))
-        		&& ((index == -1) || (index >= indexOf(elem)))));
+        if (Verification.isFull()) {
+            Verification.ensure((size() == oldSize) && ((index == -1) || (contains(elem))
+            		&& ((index == -1) || (index >= indexOf(elem)))));
+        }
     	Verification.invariant(checkInvariant());
         return index;
     }
@@ -360,15 +379,22 @@ public class LinkedList<T> implements IList<T>, Serializable {
     }
     
     @Override
-    public IList<T> deepCopy() {
-    	Verification.invariant(checkInvariant());
-    	IList<T> deepCopy;
-        try {
-        	deepCopy = DeepCloneable.deepCopy(this);
-        } catch (Exception e) {
-        	deepCopy = new LinkedList<>();
+    public IList<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.invariant(checkInvariant());
+        Verification.require(copier != null);
+
+        LinkedList<T> deepCopy = new LinkedList<>();
+        for (DoublyLinkedNode<T> node = this.head; node != null; node = node.getNext()) {
+            T elem = copier.apply(node.getElem());
+            Verification.require(elem != null, "The copier returned null");
+            deepCopy.tail = new DoublyLinkedNode<>(elem, null, deepCopy.tail);
+            if (deepCopy.head == null) {
+                deepCopy.head = deepCopy.tail;
+            }
         }
-        Verification.ensure(deepCopy.equals(this) || deepCopy.isEmpty());
+        deepCopy.size = this.size;
+
+        Verification.invariant(deepCopy.checkInvariant());
         Verification.invariant(checkInvariant());
         return deepCopy;
     }
@@ -378,6 +404,11 @@ public class LinkedList<T> implements IList<T>, Serializable {
         return new LinkedListIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator();
+    }
+
     @Override
     public String toString() {
         StringBuilder string = new StringBuilder();
@@ -432,6 +463,9 @@ public class LinkedList<T> implements IList<T>, Serializable {
     }
     
     private boolean checkInvariant() {
+        if (!Verification.isFull()) {
+            return true;
+        }
         if (this.size < 0) {
             return false;
         }
@@ -507,4 +541,66 @@ public class LinkedList<T> implements IList<T>, Serializable {
             this.expectedModCount++;
         }
     }
+
+    private class LinkedListSpliterator implements Spliterator<T> {
+
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private DoublyLinkedNode<T> current;
+        private int remaining;
+        private int batch;
+        private int expectedModCount;
+
+        public LinkedListSpliterator() {
+            this.current = LinkedList.this.head;
+            this.remaining = LinkedList.this.size;
+            this.batch = 0;
+            this.expectedModCount = LinkedList.this.modCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null)
+                throw new NullPointerException();
+            if (this.remaining <= 0)
+                return false;
+
+            T elem = this.current.getElem();
+            this.current = this.current.getNext();
+            this.remaining--;
+            action.accept(elem);
+            if (this.expectedModCount != LinkedList.this.modCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (this.remaining <= 1)
+                return null;
+
+            int n = Math.min(Math.min(this.batch + BATCH_UNIT, MAX_BATCH), this.remaining);
+            Object[] batchElems = new Object[n];
+            for (int i = 0; i < n; i++) {
+                batchElems[i] = this.current.getElem();
+                this.current = this.current.getNext();
+            }
+            this.batch = n;
+            this.remaining -= n;
+            if (this.expectedModCount != LinkedList.this.modCount)
+                throw new ConcurrentModificationException();
+            return Spliterators.spliterator(batchElems, 0, n, ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
 }
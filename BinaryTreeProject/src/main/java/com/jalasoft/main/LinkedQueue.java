@@ -2,10 +2,10 @@ package com.jalasoft.main;
 
 
 import com.jalasoft.integration.Verification;
-import com.jalasoft.interfaces.DeepCloneable;
 import com.jalasoft.interfaces.IQueue;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 public class LinkedQueue<T> implements IQueue<T>, Serializable {
 
@@ -91,15 +91,25 @@ public class LinkedQueue<T> implements IQueue<T>, Serializable {
     }
 
     @Override
-    public IQueue<T> deepCopy() {
+    public IQueue<T> deepCopy(UnaryOperator<T> copier) {
         Verification.invariant(checkInvariant());
-    	IQueue<T> deepCopy;
-        try {
-        	deepCopy = DeepCloneable.deepCopy(this);
-        } catch (Exception e) {
-        	deepCopy = new LinkedQueue<>();
+        Verification.require(copier != null);
+
+        LinkedQueue<T> deepCopy = new LinkedQueue<>();
+        for (LinkedNode<T> node = this.first; node != null; node = node.getNext()) {
+            T elem = copier.apply(node.getElem());
+            Verification.require(elem != null, "The copier returned null");
+            LinkedNode<T> copy = new LinkedNode<>(elem);
+            if (deepCopy.last == null) {
+                deepCopy.first = copy;
+            } else {
+                deepCopy.last.setNext(copy);
+            }
+            deepCopy.last = copy;
         }
-        Verification.ensure(deepCopy.equals(this) || deepCopy.isEmpty());
+        deepCopy.size = this.size;
+
+        Verification.invariant(deepCopy.checkInvariant());
         Verification.invariant(checkInvariant());
         return deepCopy;
     }
@@ -158,6 +168,9 @@ public class LinkedQueue<T> implements IQueue<T>, Serializable {
     }
     
     private boolean checkInvariant() {
+        if (!Verification.isFull()) {
+            return true;
+        }
     	if (this.size < 0) {
             return false;
         }
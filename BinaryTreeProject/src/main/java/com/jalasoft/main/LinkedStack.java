@@ -1,10 +1,10 @@
 package com.jalasoft.main;
 
 import com.jalasoft.integration.Verification;
-import com.jalasoft.interfaces.DeepCloneable;
 import com.jalasoft.interfaces.IStack;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 public class LinkedStack<T> implements IStack<T>, Serializable {
 
@@ -134,20 +134,34 @@ public class LinkedStack<T> implements IStack<T>, Serializable {
     }
 
     @Override
-    public IStack<T> deepCopy() {
+    public IStack<T> deepCopy(UnaryOperator<T> copier) {
         Verification.invariant(checkInvariant());
-    	IStack<T> deepCopy;
-        try {
-            deepCopy = DeepCloneable.deepCopy(this);
-        } catch (Exception e) {
-            deepCopy = new LinkedStack<>();
+        Verification.require(copier != null);
+
+        LinkedStack<T> deepCopy = new LinkedStack<>();
+        LinkedNode<T> previous = null;
+        for (LinkedNode<T> node = this.top; node != null; node = node.getNext()) {
+            T elem = copier.apply(node.getElem());
+            Verification.require(elem != null, "The copier returned null");
+            LinkedNode<T> copy = new LinkedNode<>(elem);
+            if (previous == null) {
+                deepCopy.top = copy;
+            } else {
+                previous.setNext(copy);
+            }
+            previous = copy;
         }
-        Verification.ensure(deepCopy.equals(this) || deepCopy.isEmpty());
+        deepCopy.size = this.size;
+
+        Verification.invariant(deepCopy.checkInvariant());
         Verification.invariant(checkInvariant());
         return deepCopy;
     }
     
     private boolean checkInvariant() {
+        if (!Verification.isFull()) {
+            return true;
+        }
         if (this.size < 0) {
             return false;
         }
@@ -0,0 +1,392 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+ * The non-blocking binary search tree of Ellen, Fatourou, Ruppert and van Breugel (PODC 2010).
+ * Elements live in the leaves, internal nodes only route. An insert replaces a leaf by a small
+ * subtree and a delete replaces the parent of a leaf by its sibling; before changing a child
+ * pointer the operation flags the update field of the node it is going to change (and marks the
+ * parent it removes) with a CAS, so any thread that finds the flag can finish the operation for
+ * it instead of waiting. Two sentinel keys bigger than every element keep the root, its left leaf
+ * and a grandparent of every real leaf always present. insert, delete and contains are
+ * linearizable; the iterator and size() are weakly consistent.
+ */
+public class LockFreeSearchTree<T> implements Iterable<T> {
+
+    private static final Object INF1 = new Object();
+    private static final Object INF2 = new Object();
+
+    private static final int CLEAN = 0;
+    private static final int IFLAG = 1;
+    private static final int DFLAG = 2;
+    private static final int MARK = 3;
+
+    private static final VarHandle LEFT;
+    private static final VarHandle RIGHT;
+    private static final VarHandle UPDATE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            LEFT = lookup.findVarHandle(Internal.class, "left", Node.class);
+            RIGHT = lookup.findVarHandle(Internal.class, "right", Node.class);
+            UPDATE = lookup.findVarHandle(Internal.class, "update", Update.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private final Internal root;
+
+    @SuppressWarnings("unchecked")
+    public LockFreeSearchTree() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    public LockFreeSearchTree(final Comparator<? super T> comparator) {
+        Verification.require(comparator != null);
+        this.comparator = comparator;
+        this.root = new Internal(INF2, new Leaf(INF1), new Leaf(INF2));
+    }
+
+    public Comparator<? super T> getComparator() {
+        return this.comparator;
+    }
+
+    public boolean contains(final T elem) {
+        Verification.require(elem != null);
+        Node node = this.root;
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            node = this.compare(elem, internal.key) < 0 ? internal.left : internal.right;
+        }
+        return this.compare(elem, node.key) == 0;
+    }
+
+    public boolean insert(final T elem) {
+        Verification.require(elem != null);
+        Search search = new Search();
+
+        while (true) {
+            this.search(elem, search);
+            Leaf leaf = search.leaf;
+            if (this.compare(elem, leaf.key) == 0) {
+                return false;
+            }
+            if (search.pupdate.state != CLEAN) {
+                this.help(search.pupdate);
+                continue;
+            }
+
+            Leaf newLeaf = new Leaf(elem);
+            Leaf sibling = new Leaf(leaf.key);
+            Internal newInternal = this.compare(elem, leaf.key) < 0
+                    ? new Internal(leaf.key, newLeaf, sibling)
+                    : new Internal(elem, sibling, newLeaf);
+            InsertInfo op = new InsertInfo(search.parent, leaf, newInternal);
+
+            Update result = (Update) UPDATE.compareAndExchange(search.parent, search.pupdate, new Update(IFLAG, op));
+            if (result == search.pupdate) {
+                this.helpInsert(op);
+                return true;
+            }
+            this.help(result);
+        }
+    }
+
+    public boolean delete(final T elem) {
+        Verification.require(elem != null);
+        Search search = new Search();
+
+        while (true) {
+            this.search(elem, search);
+            if (this.compare(elem, search.leaf.key) != 0) {
+                return false;
+            }
+            if (search.gpupdate.state != CLEAN) {
+                this.help(search.gpupdate);
+                continue;
+            }
+            if (search.pupdate.state != CLEAN) {
+                this.help(search.pupdate);
+                continue;
+            }
+
+            DeleteInfo op = new DeleteInfo(search.grandparent, search.parent, search.leaf, search.pupdate);
+            Update result = (Update) UPDATE.compareAndExchange(search.grandparent, search.gpupdate, new Update(DFLAG, op));
+            if (result == search.gpupdate) {
+                if (this.helpDelete(op)) {
+                    return true;
+                }
+            } else {
+                this.help(result);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return !this.iterator().hasNext();
+    }
+
+    /*
+     * Counts the elements with a traversal, so it is O(n) and only exact when nobody is writing.
+     */
+    public int size() {
+        int size = 0;
+        for (Iterator<T> iterator = this.iterator(); iterator.hasNext(); iterator.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    /*
+     * In ascending order and without repetitions, never throws ConcurrentModificationException.
+     * It may or may not see the elements inserted or deleted while it runs.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new WeakIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this.iterator(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                        | Spliterator.CONCURRENT);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    private void search(T elem, Search search) {
+        Internal grandparent = null;
+        Internal parent = null;
+        Update gpupdate = null;
+        Update pupdate = null;
+        Node node = this.root;
+
+        while (node instanceof Internal) {
+            grandparent = parent;
+            parent = (Internal) node;
+            gpupdate = pupdate;
+            pupdate = parent.update;
+            node = this.compare(elem, parent.key) < 0 ? parent.left : parent.right;
+        }
+
+        search.grandparent = grandparent;
+        search.parent = parent;
+        search.leaf = (Leaf) node;
+        search.gpupdate = gpupdate;
+        search.pupdate = pupdate;
+    }
+
+    private void help(Update update) {
+        switch (update.state) {
+            case IFLAG:
+                this.helpInsert((InsertInfo) update.info);
+                break;
+            case MARK:
+                this.helpMarked((DeleteInfo) update.info);
+                break;
+            case DFLAG:
+                this.helpDelete((DeleteInfo) update.info);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void helpInsert(InsertInfo op) {
+        this.casChild(op.parent, op.leaf, op.newInternal);
+        Update flagged = op.parent.update;
+        if (flagged.state == IFLAG && flagged.info == op) {
+            UPDATE.compareAndSet(op.parent, flagged, new Update(CLEAN, op));
+        }
+    }
+
+    private boolean helpDelete(DeleteInfo op) {
+        Update mark = new Update(MARK, op);
+        Update result = (Update) UPDATE.compareAndExchange(op.parent, op.pupdate, mark);
+
+        if (result == op.pupdate || (result.state == MARK && result.info == op)) {
+            this.helpMarked(op);
+            return true;
+        }
+
+        this.help(result);
+        Update flagged = op.grandparent.update;
+        if (flagged.state == DFLAG && flagged.info == op) {
+            UPDATE.compareAndSet(op.grandparent, flagged, new Update(CLEAN, op));
+        }
+        return false;
+    }
+
+    private void helpMarked(DeleteInfo op) {
+        Node other = op.parent.right == op.leaf ? op.parent.left : op.parent.right;
+        this.casChild(op.grandparent, op.parent, other);
+
+        Update flagged = op.grandparent.update;
+        if (flagged.state == DFLAG && flagged.info == op) {
+            UPDATE.compareAndSet(op.grandparent, flagged, new Update(CLEAN, op));
+        }
+    }
+
+    private void casChild(Internal parent, Node oldChild, Node newChild) {
+        if (this.compare(newChild.key, parent.key) < 0) {
+            LEFT.compareAndSet(parent, oldChild, newChild);
+        } else {
+            RIGHT.compareAndSet(parent, oldChild, newChild);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        int rankA = (a == INF1) ? 1 : (a == INF2) ? 2 : 0;
+        int rankB = (b == INF1) ? 1 : (b == INF2) ? 2 : 0;
+        if (rankA != 0 || rankB != 0) {
+            return Integer.compare(rankA, rankB);
+        }
+        return this.comparator.compare((T) a, (T) b);
+    }
+
+    private abstract static class Node {
+
+        final Object key;
+
+        Node(final Object key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Leaf extends Node {
+
+        Leaf(final Object key) {
+            super(key);
+        }
+    }
+
+    private static final class Internal extends Node {
+
+        volatile Node left;
+        volatile Node right;
+        volatile Update update;
+
+        Internal(final Object key, final Node left, final Node right) {
+            super(key);
+            this.left = left;
+            this.right = right;
+            this.update = new Update(CLEAN, null);
+        }
+    }
+
+    /*
+     * Immutable, so a CAS on Internal.update compares the state and the operation together.
+     */
+    private static final class Update {
+
+        final int state;
+        final Object info;
+
+        Update(final int state, final Object info) {
+            this.state = state;
+            this.info = info;
+        }
+    }
+
+    private static final class InsertInfo {
+
+        final Internal parent;
+        final Leaf leaf;
+        final Internal newInternal;
+
+        InsertInfo(final Internal parent, final Leaf leaf, final Internal newInternal) {
+            this.parent = parent;
+            this.leaf = leaf;
+            this.newInternal = newInternal;
+        }
+    }
+
+    private static final class DeleteInfo {
+
+        final Internal grandparent;
+        final Internal parent;
+        final Leaf leaf;
+        final Update pupdate;
+
+        DeleteInfo(final Internal grandparent, final Internal parent, final Leaf leaf, final Update pupdate) {
+            this.grandparent = grandparent;
+            this.parent = parent;
+            this.leaf = leaf;
+            this.pupdate = pupdate;
+        }
+    }
+
+    private static final class Search {
+
+        Internal grandparent;
+        Internal parent;
+        Leaf leaf;
+        Update gpupdate;
+        Update pupdate;
+    }
+
+    private final class WeakIterator implements Iterator<T> {
+
+        private final ArrayStack<Node> stack;
+        private Object last;
+        private T next;
+
+        private WeakIterator() {
+            this.stack = new ArrayStack<>();
+            this.stack.push(LockFreeSearchTree.this.root);
+            this.last = null;
+            this.next = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null || (this.next = this.advance()) != null;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            T elem = this.next;
+            this.next = null;
+            return elem;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T advance() {
+            while (!this.stack.isEmpty()) {
+                Node node = this.stack.peek();
+                this.stack.pop();
+
+                if (node instanceof Internal) {
+                    Internal internal = (Internal) node;
+                    this.stack.push(internal.right);
+                    this.stack.push(internal.left);
+                } else if (node.key != INF1 && node.key != INF2
+                        && (this.last == null || LockFreeSearchTree.this.compare(node.key, this.last) > 0)) {
+                    this.last = node.key;
+                    return (T) node.key;
+                }
+            }
+            return null;
+        }
+    }
+}
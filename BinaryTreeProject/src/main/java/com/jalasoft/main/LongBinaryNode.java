@@ -0,0 +1,46 @@
+package com.jalasoft.main;
+
+import java.io.Serializable;
+
+public class LongBinaryNode implements Serializable {
+
+    private long elem;
+    private LongBinaryNode left;
+    private LongBinaryNode right;
+
+    public LongBinaryNode(final long elem) {
+        this(elem, null, null);
+    }
+
+    public LongBinaryNode(final long elem,
+                        final LongBinaryNode left,
+                        final LongBinaryNode right) {
+        this.elem = elem;
+        this.left = left;
+        this.right = right;
+    }
+
+    public long getElem() {
+        return this.elem;
+    }
+
+    public void setElem(long elem) {
+        this.elem = elem;
+    }
+
+    public LongBinaryNode getLeft() {
+        return this.left;
+    }
+
+    public void setLeft(LongBinaryNode left) {
+        this.left = left;
+    }
+
+    public LongBinaryNode getRight() {
+        return this.right;
+    }
+
+    public void setRight(LongBinaryNode right) {
+        this.right = right;
+    }
+}
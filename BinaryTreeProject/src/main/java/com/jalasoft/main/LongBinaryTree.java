@@ -0,0 +1,409 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.ILongBinaryTree;
+import com.jalasoft.interfaces.ILongList;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/*
+ * Nodes hold a bare long and keep no cached metrics or parent pointer, so a node costs one object
+ * header, the value and two references. Walks use plain node arrays as their stack or queue and
+ * the traversals fill an exactly sized long[] that the list variants wrap without copying.
+ */
+public class LongBinaryTree implements ILongBinaryTree, Serializable {
+
+    private enum Metric {
+        HEIGHT,
+        LEAVES,
+        BALANCE
+    }
+
+    private LongBinaryNode root;
+
+    public LongBinaryTree() {
+        this.root = null;
+
+        Verification.ensure(isEmpty());
+    }
+
+    public LongBinaryTree(final long rootItem) {
+        this.root = new LongBinaryNode(rootItem);
+
+        Verification.ensure(!isEmpty() && root.getElem() == rootItem);
+    }
+
+    @Override
+    public LongBinaryNode getRoot() {
+        return this.root;
+    }
+
+    @Override
+    public LongBinaryNode getLeftChild() {
+        Verification.require(!isEmpty());
+        return this.root.getLeft();
+    }
+
+    @Override
+    public LongBinaryNode getRightChild() {
+        Verification.require(!isEmpty());
+        return this.root.getRight();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.root == null;
+    }
+
+    @Override
+    public void makeEmpty() {
+        this.root = null;
+        Verification.ensure(isEmpty());
+    }
+
+    @Override
+    public boolean isBalanced() {
+        return this.measure(Metric.BALANCE) >= 0;
+    }
+
+    @Override
+    public int height() {
+        int result = this.measure(Metric.HEIGHT);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    @Override
+    public int size() {
+        if (this.root == null) {
+            return 0;
+        }
+        LongBinaryNode[] stack = new LongBinaryNode[16];
+        int top = 0;
+        int count = 0;
+
+        stack[top++] = this.root;
+        while (top > 0) {
+            LongBinaryNode node = stack[--top];
+            count++;
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (node.getRight() != null) {
+                stack[top++] = node.getRight();
+            }
+            if (node.getLeft() != null) {
+                stack[top++] = node.getLeft();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int leaves() {
+        int result = this.measure(Metric.LEAVES);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    @Override
+    public ILongList preorder() {
+        return LongList.wrap(this.preorderArray());
+    }
+
+    @Override
+    public ILongList inorder() {
+        return LongList.wrap(this.inorderArray());
+    }
+
+    @Override
+    public ILongList postorder() {
+        return LongList.wrap(this.postorderArray());
+    }
+
+    @Override
+    public ILongList levelorder() {
+        return LongList.wrap(this.levelorderArray());
+    }
+
+    @Override
+    public long[] preorderArray() {
+        long[] out = new long[this.size()];
+        if (this.root == null) {
+            return out;
+        }
+        LongBinaryNode[] stack = new LongBinaryNode[16];
+        int top = 0;
+        int count = 0;
+
+        stack[top++] = this.root;
+        while (top > 0) {
+            LongBinaryNode node = stack[--top];
+            out[count++] = node.getElem();
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (node.getRight() != null) {
+                stack[top++] = node.getRight();
+            }
+            if (node.getLeft() != null) {
+                stack[top++] = node.getLeft();
+            }
+        }
+
+        Verification.ensure(count == out.length);
+        return out;
+    }
+
+    @Override
+    public long[] inorderArray() {
+        long[] out = new long[this.size()];
+        LongBinaryNode[] stack = new LongBinaryNode[16];
+        int top = 0;
+        int count = 0;
+        LongBinaryNode curr = this.root;
+
+        while (curr != null || top > 0) {
+            while (curr != null) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = curr;
+                curr = curr.getLeft();
+            }
+            curr = stack[--top];
+            out[count++] = curr.getElem();
+            curr = curr.getRight();
+        }
+
+        Verification.ensure(count == out.length);
+        return out;
+    }
+
+    @Override
+    public long[] postorderArray() {
+        long[] out = new long[this.size()];
+        LongBinaryNode[] stack = new LongBinaryNode[16];
+        int top = 0;
+        int count = 0;
+        LongBinaryNode curr = this.root;
+        LongBinaryNode lastVisited = null;
+
+        while (curr != null || top > 0) {
+            if (curr != null) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = curr;
+                curr = curr.getLeft();
+            } else {
+                LongBinaryNode peek = stack[top - 1];
+                if (peek.getRight() != null && peek.getRight() != lastVisited) {
+                    curr = peek.getRight();
+                } else {
+                    out[count++] = peek.getElem();
+                    lastVisited = stack[--top];
+                }
+            }
+        }
+
+        Verification.ensure(count == out.length);
+        return out;
+    }
+
+    @Override
+    public long[] levelorderArray() {
+        int size = this.size();
+        long[] out = new long[size];
+        LongBinaryNode[] queue = new LongBinaryNode[size];
+        int head = 0;
+        int tail = 0;
+
+        if (this.root != null) {
+            queue[tail++] = this.root;
+        }
+        while (head < tail) {
+            LongBinaryNode node = queue[head];
+            queue[head] = null;
+            out[head++] = node.getElem();
+            if (node.getLeft() != null) {
+                queue[tail++] = node.getLeft();
+            }
+            if (node.getRight() != null) {
+                queue[tail++] = node.getRight();
+            }
+        }
+
+        Verification.ensure(head == out.length);
+        return out;
+    }
+
+    @Override
+    public ILongBinaryTree deepCopy() {
+        LongBinaryTree deepCopy = new LongBinaryTree();
+        if (this.root != null) {
+            deepCopy.root = new LongBinaryNode(this.root.getElem());
+
+            LongBinaryNode[] sources = new LongBinaryNode[16];
+            LongBinaryNode[] copies = new LongBinaryNode[16];
+            int top = 0;
+
+            sources[top] = this.root;
+            copies[top++] = deepCopy.root;
+            while (top > 0) {
+                LongBinaryNode source = sources[--top];
+                LongBinaryNode copy = copies[top];
+                if (top + 2 > sources.length) {
+                    sources = Arrays.copyOf(sources, sources.length * 2);
+                    copies = Arrays.copyOf(copies, copies.length * 2);
+                }
+                if (source.getLeft() != null) {
+                    copy.setLeft(new LongBinaryNode(source.getLeft().getElem()));
+                    sources[top] = source.getLeft();
+                    copies[top++] = copy.getLeft();
+                }
+                if (source.getRight() != null) {
+                    copy.setRight(new LongBinaryNode(source.getRight().getElem()));
+                    sources[top] = source.getRight();
+                    copies[top++] = copy.getRight();
+                }
+            }
+        }
+
+        if (Verification.isFull()) {
+            Verification.ensure(deepCopy.equals(this));
+        }
+        return deepCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (long elem: this.levelorderArray()) {
+            string.append(elem).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        LongBinaryTree that = (LongBinaryTree) otherObject;
+        LongBinaryNode[] firsts = new LongBinaryNode[16];
+        LongBinaryNode[] seconds = new LongBinaryNode[16];
+        int top = 0;
+
+        firsts[top] = this.root;
+        seconds[top++] = that.root;
+        while (top > 0) {
+            LongBinaryNode a = firsts[--top];
+            LongBinaryNode b = seconds[top];
+            if (a == b) {
+                continue;
+            }
+            if (a == null || b == null || a.getElem() != b.getElem()) {
+                return false;
+            }
+            if (top + 2 > firsts.length) {
+                firsts = Arrays.copyOf(firsts, firsts.length * 2);
+                seconds = Arrays.copyOf(seconds, seconds.length * 2);
+            }
+            firsts[top] = a.getRight();
+            seconds[top++] = b.getRight();
+            firsts[top] = a.getLeft();
+            seconds[top++] = b.getLeft();
+        }
+        return true;
+    }
+
+    /*
+     * Hashes the preorder with a mark for every missing child, so trees with the same elements in
+     * another shape hash differently, as equals tells them apart.
+     */
+    @Override
+    public int hashCode() {
+        LongBinaryNode[] stack = new LongBinaryNode[16];
+        int top = 0;
+        int result = 1;
+
+        stack[top++] = this.root;
+        while (top > 0) {
+            LongBinaryNode node = stack[--top];
+            if (node == null) {
+                result = 31 * result;
+                continue;
+            }
+            result = 31 * result + 2 * Long.hashCode(node.getElem()) + 1;
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top++] = node.getRight();
+            stack[top++] = node.getLeft();
+        }
+        return result;
+    }
+
+    private int measure(Metric metric) {
+        if (this.root == null) {
+            return 0;
+        }
+        LongBinaryNode[] nodes = new LongBinaryNode[16];
+        int[] values = new int[16];
+        int nodeCount = 0;
+        int valueCount = 0;
+
+        LongBinaryNode curr = this.root;
+        LongBinaryNode lastVisited = null;
+
+        while (nodeCount > 0 || curr != null) {
+            if (curr != null) {
+                if (nodeCount == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                }
+                nodes[nodeCount++] = curr;
+                curr = curr.getLeft();
+            } else {
+                LongBinaryNode top = nodes[nodeCount - 1];
+
+                if (top.getRight() != null && top.getRight() != lastVisited) {
+                    curr = top.getRight();
+                } else {
+                    nodeCount--;
+                    int right = top.getRight() != null ? values[--valueCount] : 0;
+                    int left = top.getLeft() != null ? values[--valueCount] : 0;
+
+                    if (valueCount == values.length) {
+                        values = Arrays.copyOf(values, valueCount * 2);
+                    }
+                    values[valueCount++] = combine(metric, top, left, right);
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return values[0];
+    }
+
+    private static int combine(Metric metric, LongBinaryNode node, int left, int right) {
+        switch (metric) {
+            case HEIGHT:
+                return 1 + Math.max(left, right);
+            case LEAVES:
+                return (node.getLeft() == null && node.getRight() == null) ? 1 : left + right;
+            default:
+                if (left < 0 || right < 0 || Math.abs(left - right) > 1) {
+                    return -1;
+                }
+                return 1 + Math.max(left, right);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.ILongQueue;
+import java.io.Serializable;
+
+public class LongQueue implements ILongQueue, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elems;
+    private int first;
+    private int size;
+
+    public LongQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongQueue(int initialCapacity) {
+        Verification.require(initialCapacity >= 0);
+
+        this.elems = new long[initialCapacity];
+        this.first = 0;
+        this.size = 0;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void enqueue(final long elem) {
+        Verification.invariant(checkInvariant());
+        int oldSize = this.size;
+
+        if (this.size == this.elems.length) {
+            this.grow();
+        }
+        this.elems[this.slot(this.size)] = elem;
+        this.size++;
+
+        Verification.ensure((!(this.size == 1) || (front() == elem)) && (this.size == (oldSize + 1)));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void dequeue() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+        int oldSize = this.size;
+
+        this.first = this.slot(1);
+        this.size--;
+        if (this.size == 0) {
+            this.first = 0;
+        }
+
+        Verification.ensure(this.size == (oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public long front() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+
+        return this.elems[this.first];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Verification.invariant(checkInvariant());
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        Verification.invariant(checkInvariant());
+        return this.size;
+    }
+
+    @Override
+    public ILongQueue deepCopy() {
+        Verification.invariant(checkInvariant());
+
+        LongQueue deepCopy = new LongQueue(this.size);
+        for (int i = 0; i < this.size; i++) {
+            deepCopy.elems[i] = this.elems[this.slot(i)];
+        }
+        deepCopy.size = this.size;
+
+        Verification.ensure(deepCopy.equals(this));
+        Verification.invariant(checkInvariant());
+        return deepCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (int i = 0; i < this.size; i++) {
+            string.append(this.elems[this.slot(i)]).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null || this.getClass() != otherObject.getClass())
+            return false;
+
+        LongQueue that = (LongQueue) otherObject;
+
+        if (this.size != that.size) return false;
+
+        for (int i = 0; i < this.size; i++) {
+            if (this.elems[this.slot(i)] != that.elems[that.slot(i)])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 + this.size;
+        for (int i = 0; i < this.size; i++) {
+            result = 31 * result + Long.hashCode(this.elems[this.slot(i)]);
+        }
+        return result;
+    }
+
+    private int slot(int offset) {
+        int index = this.first + offset;
+        return index >= this.elems.length ? index - this.elems.length : index;
+    }
+
+    private void grow() {
+        long[] grown = new long[Math.max(DEFAULT_CAPACITY, this.elems.length * 2)];
+        int head = this.elems.length - this.first;
+
+        if (this.size <= head) {
+            System.arraycopy(this.elems, this.first, grown, 0, this.size);
+        } else {
+            System.arraycopy(this.elems, this.first, grown, 0, head);
+            System.arraycopy(this.elems, 0, grown, head, this.size - head);
+        }
+        this.elems = grown;
+        this.first = 0;
+    }
+
+    private boolean checkInvariant() {
+        if (this.size < 0 || this.size > this.elems.length) {
+            return false;
+        }
+        return this.elems.length == 0 || (this.first >= 0 && this.first < this.elems.length);
+    }
+}
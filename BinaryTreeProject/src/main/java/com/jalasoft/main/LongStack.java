@@ -0,0 +1,125 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.ILongStack;
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class LongStack implements ILongStack, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elems;
+    private int size;
+
+    public LongStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongStack(int initialCapacity) {
+        Verification.require(initialCapacity >= 0);
+
+        this.elems = new long[initialCapacity];
+        this.size = 0;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void push(final long elem) {
+        Verification.invariant(checkInvariant());
+        int oldSize = this.size;
+
+        if (this.size == this.elems.length) {
+            this.elems = Arrays.copyOf(this.elems, Math.max(DEFAULT_CAPACITY, this.size * 2));
+        }
+        this.elems[this.size++] = elem;
+
+        Verification.ensure((peek() == elem) && (this.size == oldSize + 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void pop() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+        int oldSize = this.size;
+
+        this.size--;
+
+        Verification.ensure(this.size == oldSize - 1);
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public long peek() {
+        Verification.invariant(checkInvariant());
+        Verification.require(this.size > 0);
+
+        return this.elems[this.size - 1];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Verification.invariant(checkInvariant());
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        Verification.invariant(checkInvariant());
+        return this.size;
+    }
+
+    @Override
+    public ILongStack deepCopy() {
+        Verification.invariant(checkInvariant());
+
+        LongStack deepCopy = new LongStack(this.size);
+        System.arraycopy(this.elems, 0, deepCopy.elems, 0, this.size);
+        deepCopy.size = this.size;
+
+        Verification.ensure(deepCopy.equals(this));
+        Verification.invariant(checkInvariant());
+        return deepCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (int i = this.size - 1; i >= 0; i--) {
+            string.append(this.elems[i]).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null || this.getClass() != otherObject.getClass())
+            return false;
+
+        LongStack that = (LongStack) otherObject;
+
+        return Arrays.equals(this.elems, 0, this.size, that.elems, 0, that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 + this.size;
+        for (int i = this.size - 1; i >= 0; i--) {
+            result = 31 * result + Long.hashCode(this.elems[i]);
+        }
+        return result;
+    }
+
+    private boolean checkInvariant() {
+        return this.size >= 0 && this.size <= this.elems.length;
+    }
+}
@@ -0,0 +1,254 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IElementCodec;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/*
+ * A read only tree over a memory mapped file. The file starts with a 64 byte header, then the
+ * nodes numbered in level order as the 16 byte records of OffHeapBinaryTree, where the element
+ * offset is a position in the file, and then the elements. Opening maps the file in regions of
+ * 1 GiB and reads the header only; the pages of a node or an element are loaded by the OS the
+ * first time they are touched and stay in the page cache shared by every process mapping the
+ * file. Elements never straddle two regions, the writer pads them to the next one.
+ */
+public class MappedBinaryTree<T> extends AbstractIndexedBinaryTree<T> {
+
+    public static final int MAGIC = 0x4A42544D;
+    public static final byte VERSION = 1;
+
+    private static final int HEADER_BYTES = 64;
+    private static final int REGION_BITS = 30;
+    private static final long REGION_MASK = (1L << REGION_BITS) - 1;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private final IElementCodec<T> codec;
+    private final ByteBuffer[] regions;
+    private final int size;
+
+    private MappedBinaryTree(final IElementCodec<T> codec, final ByteBuffer[] regions, final int size) {
+        this.codec = codec;
+        this.regions = regions;
+        this.size = size;
+    }
+
+    public static <T> MappedBinaryTree<T> open(final Path file, final IElementCodec<T> codec) throws IOException {
+        Verification.require(file != null && codec != null);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES) {
+                throw new StreamCorruptedException("Not a mapped tree file");
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES)
+                    .order(OffHeapBinaryTree.ORDER);
+            if (header.getInt(0) != MAGIC) {
+                throw new StreamCorruptedException("Not a mapped tree file");
+            }
+            if (header.get(4) != VERSION) {
+                throw new StreamCorruptedException("Unsupported version " + header.get(4));
+            }
+            if (header.getInt(8) != codec.fixedSize()) {
+                throw new StreamCorruptedException("Written with a codec of size " + header.getInt(8)
+                        + ", read with one of size " + codec.fixedSize());
+            }
+            int size = header.getInt(12);
+            long end = header.getLong(16);
+            if (size < 0 || end != length || HEADER_BYTES + (long) size * OffHeapBinaryTree.NODE_BYTES > length) {
+                throw new StreamCorruptedException("Truncated mapped tree file");
+            }
+
+            ByteBuffer[] regions = new ByteBuffer[(int) ((length + REGION_MASK) >>> REGION_BITS)];
+            for (int i = 0; i < regions.length; i++) {
+                long start = (long) i << REGION_BITS;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(length - start, 1L << REGION_BITS))
+                        .order(OffHeapBinaryTree.ORDER);
+            }
+            return new MappedBinaryTree<>(codec, regions, size);
+        }
+    }
+
+    public static <T> void write(final BinaryTree<T> tree, final IElementCodec<T> codec, final Path file)
+            throws IOException {
+        Verification.require(tree != null && codec != null && file != null);
+        int size = tree.size();
+        boolean variable = codec.fixedSize() == IElementCodec.VARIABLE_SIZE;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer nodes = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(OffHeapBinaryTree.ORDER);
+            ByteBuffer elems = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(OffHeapBinaryTree.ORDER);
+            long nodePosition = HEADER_BYTES;
+            long elemStart = HEADER_BYTES + (long) size * OffHeapBinaryTree.NODE_BYTES;
+            long elemPosition = elemStart;
+            long elemOffset = elemStart;
+
+            if (size > 0) {
+                ArrayQueue<BinaryNode<T>> queue = new ArrayQueue<>();
+                queue.enqueue(tree.getRoot());
+                int next = 1;
+
+                while (!queue.isEmpty()) {
+                    BinaryNode<T> node = queue.front();
+                    queue.dequeue();
+                    T elem = node.getElem();
+                    Verification.require(elem != null, "Null elements can not be written");
+
+                    int length = codec.sizeOf(elem);
+                    int needed = (variable ? Integer.BYTES : 0) + length;
+                    if (needed > (1 << REGION_BITS)) {
+                        throw new IllegalArgumentException("Element of " + length + " bytes does not fit a region");
+                    }
+                    long padding = 0;
+                    if ((elemOffset & REGION_MASK) + needed > (1L << REGION_BITS)) {
+                        padding = (1L << REGION_BITS) - (elemOffset & REGION_MASK);
+                    }
+                    if (elems.remaining() < padding + needed) {
+                        elemPosition = flush(channel, elems, elemPosition);
+                    }
+                    if (elems.remaining() < padding + needed) {
+                        elemPosition += padding;
+                        ByteBuffer large = ByteBuffer.allocate(needed).order(OffHeapBinaryTree.ORDER);
+                        putElem(codec, elem, length, variable, large);
+                        elemPosition = flush(channel, large, elemPosition);
+                    } else {
+                        elems.position(elems.position() + (int) padding);
+                        putElem(codec, elem, length, variable, elems);
+                    }
+                    elemOffset += padding;
+
+                    int left = NIL;
+                    int right = NIL;
+                    if (node.getLeft() != null) {
+                        left = next++;
+                        queue.enqueue(node.getLeft());
+                    }
+                    if (node.getRight() != null) {
+                        right = next++;
+                        queue.enqueue(node.getRight());
+                    }
+                    if (!nodes.hasRemaining()) {
+                        nodePosition = flush(channel, nodes, nodePosition);
+                    }
+                    nodes.putInt(left).putInt(right).putLong(elemOffset);
+                    elemOffset += needed;
+                }
+                Verification.ensure(next == size);
+            }
+            nodePosition = flush(channel, nodes, nodePosition);
+            elemPosition = flush(channel, elems, elemPosition);
+            Verification.ensure(nodePosition == elemStart && elemPosition == elemOffset);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(OffHeapBinaryTree.ORDER);
+            header.putInt(0, MAGIC).put(4, VERSION).putInt(8, codec.fixedSize()).putInt(12, size)
+                    .putLong(16, elemOffset).position(HEADER_BYTES);
+            flush(channel, header, 0);
+            channel.force(false);
+        }
+    }
+
+    public IElementCodec<T> getCodec() {
+        return this.codec;
+    }
+
+    @Override
+    public int root() {
+        return this.size == 0 ? NIL : 0;
+    }
+
+    @Override
+    public boolean isNode(int node) {
+        return node >= 0 && node < this.size;
+    }
+
+    @Override
+    int leftOf(int node) {
+        long offset = nodeOffset(node);
+        return this.region(offset).getInt((int) (offset & REGION_MASK));
+    }
+
+    @Override
+    int rightOf(int node) {
+        long offset = nodeOffset(node) + Integer.BYTES;
+        return this.region(offset).getInt((int) (offset & REGION_MASK));
+    }
+
+    @Override
+    T elemOf(int node) {
+        long record = nodeOffset(node) + 2 * Integer.BYTES;
+        long offset = this.region(record).getLong((int) (record & REGION_MASK));
+        ByteBuffer region = this.region(offset);
+        int position = (int) (offset & REGION_MASK);
+        int length = this.codec.fixedSize();
+
+        if (length == IElementCodec.VARIABLE_SIZE) {
+            length = region.getInt(position);
+            position += Integer.BYTES;
+        }
+        return this.codec.read(region.slice(position, length).order(OffHeapBinaryTree.ORDER), length);
+    }
+
+    @Override
+    public Integer size() {
+        return this.size;
+    }
+
+    @Override
+    public void makeEmpty() {
+        throw new UnsupportedOperationException("A mapped tree is read only");
+    }
+
+    @Override
+    public IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner, TreeMerge.Mode mode) {
+        if (mode == TreeMerge.Mode.IN_PLACE) {
+            throw new UnsupportedOperationException("A mapped tree is read only");
+        }
+        return super.mergetree(other, combiner, mode);
+    }
+
+    @Override
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+
+        IBinaryTree<T> deepCopy = OffHeapBinaryTree.copyOf(this, this.codec, copier);
+
+        Verification.ensure(deepCopy.size().equals(this.size()));
+        return deepCopy;
+    }
+
+    private ByteBuffer region(long offset) {
+        return this.regions[(int) (offset >>> REGION_BITS)];
+    }
+
+    private static long nodeOffset(int node) {
+        return HEADER_BYTES + (long) node * OffHeapBinaryTree.NODE_BYTES;
+    }
+
+    private static <T> void putElem(IElementCodec<T> codec, T elem, int length, boolean variable, ByteBuffer target) {
+        if (variable) {
+            target.putInt(length);
+        }
+        ByteBuffer slice = target.slice(target.position(), length).order(OffHeapBinaryTree.ORDER);
+        codec.write(elem, slice);
+        Verification.check(!slice.hasRemaining(), "The codec did not write sizeOf bytes");
+        target.position(target.position() + length);
+    }
+
+    private static long flush(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+        return position;
+    }
+}
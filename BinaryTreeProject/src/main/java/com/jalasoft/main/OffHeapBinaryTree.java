@@ -0,0 +1,380 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IElementCodec;
+import com.jalasoft.interfaces.IIndexedBinaryTree;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/*
+ * Nodes and elements live in direct buffers, outside the heap the collector scans. A node is a
+ * 16 byte record: the left and right child indices and the offset of its element, records are
+ * grouped in chunks of 64K. Elements are appended to chunks of 1 MiB, each one prefixed by its
+ * length unless the codec has a fixed size; the offset keeps the chunk on the high 32 bits and
+ * the position on the low ones. Replacing or removing elements leaves their bytes behind until
+ * compact() copies the live tree into fresh chunks.
+ */
+public class OffHeapBinaryTree<T> extends AbstractIndexedBinaryTree<T> {
+
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final int NODE_BYTES = 16;
+
+    private static final int NODE_CHUNK_BITS = 16;
+    private static final int NODE_CHUNK_MASK = (1 << NODE_CHUNK_BITS) - 1;
+    private static final int ELEM_CHUNK_BYTES = 1 << 20;
+    private static final int FREE = -2;
+
+    private final IElementCodec<T> codec;
+
+    private ByteBuffer[] nodeChunks;
+    private ByteBuffer[] elemChunks;
+    private int elemChunkCount;
+    private int elemPosition;
+    private int root;
+    private int size;
+    private int free;
+    private int used;
+
+    public OffHeapBinaryTree(final IElementCodec<T> codec) {
+        Verification.require(codec != null);
+
+        this.codec = codec;
+        this.reset();
+
+        Verification.ensure(isEmpty());
+    }
+
+    public OffHeapBinaryTree(final IElementCodec<T> codec, final T rootItem) {
+        this(codec);
+        Verification.require(rootItem != null);
+
+        this.root = this.allocate(rootItem);
+
+        Verification.ensure(!isEmpty() && rootItem.equals(elem(root())));
+    }
+
+    public static <T> OffHeapBinaryTree<T> fromNodes(final BinaryNode<T> root, final IElementCodec<T> codec) {
+        OffHeapBinaryTree<T> tree = new OffHeapBinaryTree<>(codec);
+        if (root == null) {
+            return tree;
+        }
+
+        IntStack slots = new IntStack();
+        ArrayStack<BinaryNode<T>> nodes = new ArrayStack<>();
+        tree.root = tree.allocate(root.getElem());
+        slots.push(tree.root);
+        nodes.push(root);
+
+        while (!nodes.isEmpty()) {
+            BinaryNode<T> node = nodes.peek();
+            int slot = slots.peek();
+            nodes.pop();
+            slots.pop();
+
+            if (node.getRight() != null) {
+                nodes.push(node.getRight());
+                slots.push(tree.addRight(slot, node.getRight().getElem()));
+            }
+            if (node.getLeft() != null) {
+                nodes.push(node.getLeft());
+                slots.push(tree.addLeft(slot, node.getLeft().getElem()));
+            }
+        }
+
+        Verification.ensure(tree.size().equals(root.getSize()));
+        return tree;
+    }
+
+    public static <T> OffHeapBinaryTree<T> copyOf(final IIndexedBinaryTree<T> source, final IElementCodec<T> codec) {
+        return copyOf(source, codec, CopyStrategies.share());
+    }
+
+    static <T> OffHeapBinaryTree<T> copyOf(final IIndexedBinaryTree<T> source, final IElementCodec<T> codec,
+                                           final UnaryOperator<T> copier) {
+        Verification.require(source != null);
+        OffHeapBinaryTree<T> tree = new OffHeapBinaryTree<>(codec);
+        if (source.isEmpty()) {
+            return tree;
+        }
+
+        IntStack from = new IntStack();
+        IntStack to = new IntStack();
+        tree.root = tree.allocate(copier.apply(source.elem(source.root())));
+        from.push(source.root());
+        to.push(tree.root);
+
+        while (!from.isEmpty()) {
+            int node = from.peek();
+            int slot = to.peek();
+            from.pop();
+            to.pop();
+
+            int right = source.right(node);
+            if (right != NIL) {
+                from.push(right);
+                to.push(tree.addRight(slot, copier.apply(source.elem(right))));
+            }
+            int left = source.left(node);
+            if (left != NIL) {
+                from.push(left);
+                to.push(tree.addLeft(slot, copier.apply(source.elem(left))));
+            }
+        }
+
+        Verification.ensure(tree.size().equals(source.size()));
+        return tree;
+    }
+
+    public IElementCodec<T> getCodec() {
+        return this.codec;
+    }
+
+    @Override
+    public int root() {
+        return this.root;
+    }
+
+    @Override
+    public boolean isNode(int node) {
+        return node >= 0 && node < this.used && this.rightOf(node) != FREE;
+    }
+
+    @Override
+    int leftOf(int node) {
+        return this.nodeChunk(node).getInt(nodePosition(node));
+    }
+
+    @Override
+    int rightOf(int node) {
+        return this.nodeChunk(node).getInt(nodePosition(node) + Integer.BYTES);
+    }
+
+    @Override
+    T elemOf(int node) {
+        long offset = this.nodeChunk(node).getLong(nodePosition(node) + 2 * Integer.BYTES);
+        ByteBuffer chunk = this.elemChunks[(int) (offset >>> 32)];
+        int position = (int) offset;
+        int length = this.codec.fixedSize();
+
+        if (length == IElementCodec.VARIABLE_SIZE) {
+            length = chunk.getInt(position);
+            position += Integer.BYTES;
+        }
+        return this.codec.read(chunk.slice(position, length).order(ORDER), length);
+    }
+
+    public void setElem(int node, final T elem) {
+        Verification.require(this.isNode(node) && elem != null);
+        this.nodeChunk(node).putLong(nodePosition(node) + 2 * Integer.BYTES, this.store(elem));
+    }
+
+    public int addRoot(final T elem) {
+        Verification.require(isEmpty() && elem != null);
+
+        this.root = this.allocate(elem);
+
+        Verification.ensure(this.size == 1);
+        return this.root;
+    }
+
+    public int addLeft(int parent, final T elem) {
+        Verification.require(this.isNode(parent) && this.leftOf(parent) == NIL && elem != null);
+
+        int child = this.allocate(elem);
+        this.nodeChunk(parent).putInt(nodePosition(parent), child);
+
+        Verification.ensure(this.leftOf(parent) == child);
+        return child;
+    }
+
+    public int addRight(int parent, final T elem) {
+        Verification.require(this.isNode(parent) && this.rightOf(parent) == NIL && elem != null);
+
+        int child = this.allocate(elem);
+        this.nodeChunk(parent).putInt(nodePosition(parent) + Integer.BYTES, child);
+
+        Verification.ensure(this.rightOf(parent) == child);
+        return child;
+    }
+
+    @Override
+    int insertRoot(T elem) {
+        return this.addRoot(elem);
+    }
+
+    @Override
+    int insertChild(int parent, boolean left, T elem) {
+        return left ? this.addLeft(parent, elem) : this.addRight(parent, elem);
+    }
+
+    @Override
+    void replaceElem(int node, T elem) {
+        this.setElem(node, elem);
+    }
+
+    public void removeLeft(int parent) {
+        Verification.require(this.isNode(parent));
+        this.release(this.leftOf(parent));
+        this.nodeChunk(parent).putInt(nodePosition(parent), NIL);
+    }
+
+    public void removeRight(int parent) {
+        Verification.require(this.isNode(parent));
+        this.release(this.rightOf(parent));
+        this.nodeChunk(parent).putInt(nodePosition(parent) + Integer.BYTES, NIL);
+    }
+
+    @Override
+    public void makeEmpty() {
+        this.reset();
+        Verification.ensure(isEmpty());
+    }
+
+    @Override
+    public Integer size() {
+        return this.size;
+    }
+
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (ByteBuffer chunk : this.nodeChunks) {
+            bytes += chunk.capacity();
+        }
+        for (int i = 0; i < this.elemChunkCount; i++) {
+            bytes += this.elemChunks[i].capacity();
+        }
+        return bytes;
+    }
+
+    public void compact() {
+        int oldSize = this.size;
+        OffHeapBinaryTree<T> copy = copyOf(this, this.codec);
+
+        this.nodeChunks = copy.nodeChunks;
+        this.elemChunks = copy.elemChunks;
+        this.elemChunkCount = copy.elemChunkCount;
+        this.elemPosition = copy.elemPosition;
+        this.root = copy.root;
+        this.size = copy.size;
+        this.free = copy.free;
+        this.used = copy.used;
+
+        Verification.ensure(this.size == oldSize);
+    }
+
+    @Override
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+
+        IBinaryTree<T> deepCopy = copyOf(this, this.codec, copier);
+
+        Verification.ensure(deepCopy.size().equals(this.size()));
+        return deepCopy;
+    }
+
+    private void reset() {
+        this.nodeChunks = new ByteBuffer[0];
+        this.elemChunks = new ByteBuffer[0];
+        this.elemChunkCount = 0;
+        this.elemPosition = 0;
+        this.root = NIL;
+        this.size = 0;
+        this.free = NIL;
+        this.used = 0;
+    }
+
+    private ByteBuffer nodeChunk(int node) {
+        return this.nodeChunks[node >>> NODE_CHUNK_BITS];
+    }
+
+    private static int nodePosition(int node) {
+        return (node & NODE_CHUNK_MASK) * NODE_BYTES;
+    }
+
+    private int allocate(T elem) {
+        Verification.require(elem != null);
+        long offset = this.store(elem);
+
+        int slot;
+        if (this.free != NIL) {
+            slot = this.free;
+            this.free = this.leftOf(slot);
+        } else {
+            if (this.used == Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Too many nodes");
+            }
+            slot = this.used++;
+            if ((slot >>> NODE_CHUNK_BITS) == this.nodeChunks.length) {
+                this.nodeChunks = Arrays.copyOf(this.nodeChunks, this.nodeChunks.length + 1);
+                this.nodeChunks[this.nodeChunks.length - 1] =
+                        ByteBuffer.allocateDirect(NODE_BYTES << NODE_CHUNK_BITS).order(ORDER);
+            }
+        }
+
+        ByteBuffer chunk = this.nodeChunk(slot);
+        int position = nodePosition(slot);
+        chunk.putInt(position, NIL);
+        chunk.putInt(position + Integer.BYTES, NIL);
+        chunk.putLong(position + 2 * Integer.BYTES, offset);
+        this.size++;
+        return slot;
+    }
+
+    private void release(int subtree) {
+        if (subtree == NIL) {
+            return;
+        }
+        IntStack stack = new IntStack();
+        stack.push(subtree);
+
+        while (!stack.isEmpty()) {
+            int node = stack.peek();
+            stack.pop();
+            if (this.leftOf(node) != NIL) {
+                stack.push(this.leftOf(node));
+            }
+            if (this.rightOf(node) != NIL) {
+                stack.push(this.rightOf(node));
+            }
+
+            ByteBuffer chunk = this.nodeChunk(node);
+            int position = nodePosition(node);
+            chunk.putInt(position, this.free);
+            chunk.putInt(position + Integer.BYTES, FREE);
+            this.free = node;
+            this.size--;
+        }
+    }
+
+    private long store(T elem) {
+        int length = this.codec.sizeOf(elem);
+        int prefix = this.codec.fixedSize() == IElementCodec.VARIABLE_SIZE ? Integer.BYTES : 0;
+        int needed = prefix + length;
+
+        if (this.elemChunkCount == 0 || this.elemPosition + needed > this.elemChunks[this.elemChunkCount - 1].capacity()) {
+            if (this.elemChunkCount == this.elemChunks.length) {
+                this.elemChunks = Arrays.copyOf(this.elemChunks, Math.max(4, this.elemChunkCount * 2));
+            }
+            this.elemChunks[this.elemChunkCount++] =
+                    ByteBuffer.allocateDirect(Math.max(ELEM_CHUNK_BYTES, needed)).order(ORDER);
+            this.elemPosition = 0;
+        }
+
+        int chunkIndex = this.elemChunkCount - 1;
+        ByteBuffer chunk = this.elemChunks[chunkIndex];
+        int position = this.elemPosition;
+        if (prefix > 0) {
+            chunk.putInt(position, length);
+        }
+
+        ByteBuffer target = chunk.slice(position + prefix, length).order(ORDER);
+        this.codec.write(elem, target);
+        Verification.check(!target.hasRemaining(), "The codec did not write sizeOf bytes");
+
+        this.elemPosition += needed;
+        return ((long) chunkIndex << 32) | position;
+    }
+}
@@ -0,0 +1,294 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IIndexedBinaryTree;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class ParallelTreeOps {
+
+    public static final int DEFAULT_CUTOFF_DEPTH =
+            2 * (32 - Integer.numberOfLeadingZeros(ForkJoinPool.getCommonPoolParallelism())) + 4;
+
+    private static final ParallelTreeOps COMMON = new ParallelTreeOps(ForkJoinPool.commonPool(), DEFAULT_CUTOFF_DEPTH);
+
+    private enum Metric {
+        SIZE,
+        HEIGHT,
+        LEAVES,
+        BALANCE
+    }
+
+    private final ForkJoinPool pool;
+    private final int cutoffDepth;
+
+    public ParallelTreeOps(final ForkJoinPool pool, final int cutoffDepth) {
+        Verification.require(pool != null && cutoffDepth >= 0);
+        this.pool = pool;
+        this.cutoffDepth = cutoffDepth;
+    }
+
+    public static ParallelTreeOps common() {
+        return COMMON;
+    }
+
+    public int getCutoffDepth() {
+        return this.cutoffDepth;
+    }
+
+    public ForkJoinPool getPool() {
+        return this.pool;
+    }
+
+    public <T> Integer size(IBinaryTree<T> tree) {
+        Verification.require(tree != null);
+        if (tree instanceof IIndexedBinaryTree) {
+            Integer result = this.evaluate((IIndexedBinaryTree<T>) tree, Metric.SIZE);
+            Verification.ensure(result >= 0);
+            return result;
+        }
+        return this.size(BinaryTree.nodesOf(tree));
+    }
+
+    public <T> Integer size(BinaryNode<T> root) {
+        Integer result = this.evaluate(root, Metric.SIZE);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    public <T> Integer height(IBinaryTree<T> tree) {
+        Verification.require(tree != null);
+        if (tree instanceof IIndexedBinaryTree) {
+            Integer result = this.evaluate((IIndexedBinaryTree<T>) tree, Metric.HEIGHT);
+            Verification.ensure(result >= 0);
+            return result;
+        }
+        return this.height(BinaryTree.nodesOf(tree));
+    }
+
+    public <T> Integer height(BinaryNode<T> root) {
+        Integer result = this.evaluate(root, Metric.HEIGHT);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    public <T> Integer leaves(IBinaryTree<T> tree) {
+        Verification.require(tree != null);
+        if (tree instanceof IIndexedBinaryTree) {
+            Integer result = this.evaluate((IIndexedBinaryTree<T>) tree, Metric.LEAVES);
+            Verification.ensure(result >= 0);
+            return result;
+        }
+        return this.leaves(BinaryTree.nodesOf(tree));
+    }
+
+    public <T> Integer leaves(BinaryNode<T> root) {
+        Integer result = this.evaluate(root, Metric.LEAVES);
+        Verification.ensure(result >= 0);
+        return result;
+    }
+
+    public <T> Boolean isBalanced(IBinaryTree<T> tree) {
+        Verification.require(tree != null);
+        if (tree instanceof IIndexedBinaryTree) {
+            return this.evaluate((IIndexedBinaryTree<T>) tree, Metric.BALANCE) >= 0;
+        }
+        return this.isBalanced(BinaryTree.nodesOf(tree));
+    }
+
+    public <T> Boolean isBalanced(BinaryNode<T> root) {
+        return this.evaluate(root, Metric.BALANCE) >= 0;
+    }
+
+    private int evaluate(BinaryNode<?> root, Metric metric) {
+        if (root == null) {
+            return 0;
+        }
+        return this.pool.invoke(new MetricTask(root, metric, 0));
+    }
+
+    private int evaluate(IIndexedBinaryTree<?> tree, Metric metric) {
+        if (tree.root() == IIndexedBinaryTree.NIL) {
+            return 0;
+        }
+        return this.pool.invoke(new IndexedMetricTask(tree, tree.root(), metric, 0));
+    }
+
+    private static int combine(Metric metric, boolean leaf, int left, int right) {
+        switch (metric) {
+            case SIZE:
+                return 1 + left + right;
+            case HEIGHT:
+                return 1 + Math.max(left, right);
+            case LEAVES:
+                return leaf ? 1 : left + right;
+            default:
+                if (left < 0 || right < 0 || Math.abs(left - right) > 1) {
+                    return -1;
+                }
+                return 1 + Math.max(left, right);
+        }
+    }
+
+    private static int sequential(BinaryNode<?> root, Metric metric) {
+        BinaryNode<?>[] nodes = new BinaryNode<?>[64];
+        int[] values = new int[64];
+        int nodeCount = 0;
+        int valueCount = 0;
+
+        BinaryNode<?> curr = root;
+        BinaryNode<?> lastVisited = null;
+
+        while (nodeCount > 0 || curr != null) {
+            if (curr != null) {
+                if (nodeCount == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                }
+                nodes[nodeCount++] = curr;
+                curr = curr.getLeft();
+            } else {
+                BinaryNode<?> top = nodes[nodeCount - 1];
+
+                if (top.getRight() != null && top.getRight() != lastVisited) {
+                    curr = top.getRight();
+                } else {
+                    nodeCount--;
+                    int right = top.getRight() != null ? values[--valueCount] : 0;
+                    int left = top.getLeft() != null ? values[--valueCount] : 0;
+
+                    if (valueCount == values.length) {
+                        values = Arrays.copyOf(values, valueCount * 2);
+                    }
+                    values[valueCount++] = combine(metric, top.getLeft() == null && top.getRight() == null,
+                            left, right);
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return values[0];
+    }
+
+    private static int sequential(IIndexedBinaryTree<?> tree, int root, Metric metric) {
+        int[] nodes = new int[64];
+        int[] values = new int[64];
+        int nodeCount = 0;
+        int valueCount = 0;
+
+        int curr = root;
+        int lastVisited = IIndexedBinaryTree.NIL;
+
+        while (nodeCount > 0 || curr != IIndexedBinaryTree.NIL) {
+            if (curr != IIndexedBinaryTree.NIL) {
+                if (nodeCount == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                }
+                nodes[nodeCount++] = curr;
+                curr = tree.left(curr);
+            } else {
+                int top = nodes[nodeCount - 1];
+                int leftChild = tree.left(top);
+                int rightChild = tree.right(top);
+
+                if (rightChild != IIndexedBinaryTree.NIL && rightChild != lastVisited) {
+                    curr = rightChild;
+                } else {
+                    nodeCount--;
+                    int right = rightChild != IIndexedBinaryTree.NIL ? values[--valueCount] : 0;
+                    int left = leftChild != IIndexedBinaryTree.NIL ? values[--valueCount] : 0;
+
+                    if (valueCount == values.length) {
+                        values = Arrays.copyOf(values, valueCount * 2);
+                    }
+                    values[valueCount++] = combine(metric,
+                            leftChild == IIndexedBinaryTree.NIL && rightChild == IIndexedBinaryTree.NIL, left, right);
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return values[0];
+    }
+
+    private final class MetricTask extends RecursiveTask<Integer> {
+
+        private final BinaryNode<?> node;
+        private final Metric metric;
+        private final int depth;
+
+        private MetricTask(final BinaryNode<?> node, final Metric metric, final int depth) {
+            this.node = node;
+            this.metric = metric;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (this.depth >= ParallelTreeOps.this.cutoffDepth) {
+                return sequential(this.node, this.metric);
+            }
+
+            BinaryNode<?> left = this.node.getLeft();
+            BinaryNode<?> right = this.node.getRight();
+            int leftValue = 0;
+            int rightValue = 0;
+
+            if (left != null && right != null) {
+                MetricTask leftTask = new MetricTask(left, this.metric, this.depth + 1);
+                leftTask.fork();
+                rightValue = new MetricTask(right, this.metric, this.depth + 1).compute();
+                leftValue = leftTask.join();
+            } else if (left != null) {
+                leftValue = new MetricTask(left, this.metric, this.depth + 1).compute();
+            } else if (right != null) {
+                rightValue = new MetricTask(right, this.metric, this.depth + 1).compute();
+            }
+
+            return combine(this.metric, left == null && right == null, leftValue, rightValue);
+        }
+    }
+
+    private final class IndexedMetricTask extends RecursiveTask<Integer> {
+
+        private final IIndexedBinaryTree<?> tree;
+        private final int node;
+        private final Metric metric;
+        private final int depth;
+
+        private IndexedMetricTask(final IIndexedBinaryTree<?> tree, final int node, final Metric metric,
+                                  final int depth) {
+            this.tree = tree;
+            this.node = node;
+            this.metric = metric;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (this.depth >= ParallelTreeOps.this.cutoffDepth) {
+                return sequential(this.tree, this.node, this.metric);
+            }
+
+            int left = this.tree.left(this.node);
+            int right = this.tree.right(this.node);
+            int leftValue = 0;
+            int rightValue = 0;
+
+            if (left != IIndexedBinaryTree.NIL && right != IIndexedBinaryTree.NIL) {
+                IndexedMetricTask leftTask = new IndexedMetricTask(this.tree, left, this.metric, this.depth + 1);
+                leftTask.fork();
+                rightValue = new IndexedMetricTask(this.tree, right, this.metric, this.depth + 1).compute();
+                leftValue = leftTask.join();
+            } else if (left != IIndexedBinaryTree.NIL) {
+                leftValue = new IndexedMetricTask(this.tree, left, this.metric, this.depth + 1).compute();
+            } else if (right != IIndexedBinaryTree.NIL) {
+                rightValue = new IndexedMetricTask(this.tree, right, this.metric, this.depth + 1).compute();
+            }
+
+            return combine(this.metric, left == IIndexedBinaryTree.NIL && right == IIndexedBinaryTree.NIL,
+                    leftValue, rightValue);
+        }
+    }
+}
@@ -0,0 +1,713 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/*
+ * An immutable binary tree. Every update returns a new tree that copies only the nodes on the
+ * path from the root to the change and shares every other node with the old one, so a version
+ * is never modified once built and can be read by any number of threads without locks; keeping
+ * a reference to it is a snapshot. A position is addressed by a path of 'L' and 'R' steps from
+ * the root, "" being the root itself. Each node stores the metrics and a structural hash of its
+ * subtree, computed once when it is built.
+ */
+public final class PersistentBinaryTree<T> implements IBinaryTree<T> {
+
+    private static final PersistentBinaryTree<?> EMPTY = new PersistentBinaryTree<>(null);
+
+    private final Node<T> root;
+
+    private PersistentBinaryTree(final Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentBinaryTree<T> empty() {
+        return (PersistentBinaryTree<T>) EMPTY;
+    }
+
+    public static <T> PersistentBinaryTree<T> of(final T rootItem) {
+        Verification.require(rootItem != null);
+        return new PersistentBinaryTree<>(new Node<>(rootItem, null, null));
+    }
+
+    public static <T> PersistentBinaryTree<T> fromNodes(final BinaryNode<T> root) {
+        return new PersistentBinaryTree<>(copy(root, CopyStrategies.share()));
+    }
+
+    public T get(final String path) {
+        Verification.require(this.exists(path));
+        return this.find(path).elem;
+    }
+
+    public boolean exists(final String path) {
+        Verification.require(isPath(path));
+        return this.find(path) != null;
+    }
+
+    public PersistentBinaryTree<T> setElem(final String path, final T elem) {
+        Verification.require(elem != null && this.exists(path));
+        Node<T> node = this.find(path);
+        return this.replace(path, new Node<>(elem, node.left, node.right));
+    }
+
+    public PersistentBinaryTree<T> addLeft(final String path, final T elem) {
+        Verification.require(elem != null && this.exists(path) && this.find(path).left == null);
+        return this.replace(path + 'L', new Node<>(elem, null, null));
+    }
+
+    public PersistentBinaryTree<T> addRight(final String path, final T elem) {
+        Verification.require(elem != null && this.exists(path) && this.find(path).right == null);
+        return this.replace(path + 'R', new Node<>(elem, null, null));
+    }
+
+    /*
+     * Hangs subtree at path, replacing whatever was there; the parent of path must exist. The
+     * nodes of subtree are shared, not copied.
+     */
+    public PersistentBinaryTree<T> graft(final String path, final PersistentBinaryTree<T> subtree) {
+        Verification.require(subtree != null && isPath(path)
+                && (path.isEmpty() || this.exists(path.substring(0, path.length() - 1))));
+        return this.replace(path, subtree.root);
+    }
+
+    public PersistentBinaryTree<T> prune(final String path) {
+        Verification.require(this.exists(path));
+        return this.replace(path, null);
+    }
+
+    public PersistentBinaryTree<T> subtree(final String path) {
+        Verification.require(this.exists(path));
+        return new PersistentBinaryTree<>(this.find(path));
+    }
+
+    @Override
+    public BinaryNode<T> getRoot() {
+        throw new UnsupportedOperationException("A persistent tree has no mutable nodes");
+    }
+
+    @Override
+    public BinaryNode<T> getLeftChild() {
+        throw new UnsupportedOperationException("A persistent tree has no mutable nodes");
+    }
+
+    @Override
+    public BinaryNode<T> getRightChild() {
+        throw new UnsupportedOperationException("A persistent tree has no mutable nodes");
+    }
+
+    /*
+     * A mutable copy, O(n); the elements are shared.
+     */
+    public BinaryTree<T> toBinaryTree() {
+        BinaryTree<T> tree = new BinaryTree<>();
+        tree.setRoot(this.toNodes());
+        return tree;
+    }
+
+    /*
+     * What getRoot() can not give: a copy of the nodes for the code written against BinaryNode.
+     */
+    BinaryNode<T> toNodes() {
+        return toNodes(this.root);
+    }
+
+    /*
+     * TreeDiff on two versions walks their own nodes, so the subtrees they share are skipped
+     * without being entered and the cost follows the size of the change.
+     */
+    static <T> TreeDiff.Patch<T> diff(PersistentBinaryTree<T> from, PersistentBinaryTree<T> to,
+                                      TreeDiff.Pruning pruning) {
+        return TreeDiff.diff(from.root, to.root, new NodeReader<T>(), pruning);
+    }
+
+    private static <T> BinaryNode<T> toNodes(Node<T> root) {
+        if (root == null) {
+            return null;
+        }
+
+        ArrayStack<Node<T>> nodes = new ArrayStack<>();
+        ArrayStack<BinaryNode<T>> copies = new ArrayStack<>();
+        Node<T> curr = root;
+        Node<T> lastVisited = null;
+
+        while (!nodes.isEmpty() || curr != null) {
+            if (curr != null) {
+                nodes.push(curr);
+                curr = curr.left;
+            } else {
+                Node<T> top = nodes.peek();
+                if (top.right != null && top.right != lastVisited) {
+                    curr = top.right;
+                } else {
+                    nodes.pop();
+                    BinaryNode<T> right = null;
+                    BinaryNode<T> left = null;
+                    if (top.right != null) {
+                        right = copies.peek();
+                        copies.pop();
+                    }
+                    if (top.left != null) {
+                        left = copies.peek();
+                        copies.pop();
+                    }
+                    copies.push(new BinaryNode<>(top.elem, left, right));
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return copies.peek();
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        return this.root == null;
+    }
+
+    @Override
+    public void makeEmpty() {
+        throw new UnsupportedOperationException("A persistent tree is immutable, use empty()");
+    }
+
+    @Override
+    public Boolean isBalanced() {
+        return this.root == null || this.root.balanced;
+    }
+
+    @Override
+    public Integer height() {
+        return this.root == null ? 0 : this.root.height;
+    }
+
+    @Override
+    public Integer size() {
+        return this.root == null ? 0 : this.root.size;
+    }
+
+    @Override
+    public Integer leaves() {
+        return this.root == null ? 0 : this.root.leaves;
+    }
+
+    @Override
+    public IList<T> preorder() {
+        return drain(this.preorderIterator(), this.size());
+    }
+
+    @Override
+    public IList<T> inorder() {
+        return drain(this.inorderIterator(), this.size());
+    }
+
+    @Override
+    public IList<T> postorder() {
+        return drain(this.postorderIterator(), this.size());
+    }
+
+    @Override
+    public IList<T> levelorder() {
+        return drain(this.levelorderIterator(), this.size());
+    }
+
+    @Override
+    public Iterator<T> preorderIterator() {
+        return new PreorderIterator<>(this.root);
+    }
+
+    @Override
+    public Iterator<T> inorderIterator() {
+        return new InorderIterator<>(this.root);
+    }
+
+    @Override
+    public Iterator<T> postorderIterator() {
+        return new PostorderIterator<>(this.root);
+    }
+
+    @Override
+    public Iterator<T> levelorderIterator() {
+        return new LevelorderIterator<>(this.root);
+    }
+
+    /*
+     * The position-wise merge of TreeMerge as a new version: a node is built wherever both trees
+     * have one and every subtree found in only one of them is shared, or copied once when other is
+     * not persistent. This version never changes; IN_PLACE only adds emptying other, which is done
+     * last, once the new version has been built, so a combiner that fails leaves other whole.
+     */
+    @Override
+    public IBinaryTree<T> mergetree(IBinaryTree<T> other, BinaryOperator<T> combiner, TreeMerge.Mode mode) {
+        Verification.require(other != null && combiner != null && mode != null);
+
+        Node<T> second = other instanceof PersistentBinaryTree
+                ? ((PersistentBinaryTree<T>) other).root
+                : copy(BinaryTree.nodesOf(other), CopyStrategies.share());
+        Verification.require(mode != TreeMerge.Mode.IN_PLACE || other != this);
+
+        PersistentBinaryTree<T> merged = new PersistentBinaryTree<>(merge(this.root, second, combiner));
+        if (mode == TreeMerge.Mode.IN_PLACE) {
+            other.makeEmpty();
+        }
+        return merged;
+    }
+
+    @Override
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+        if (this.root == null) {
+            return this;
+        }
+
+        IBinaryTree<T> deepCopy = new PersistentBinaryTree<>(copy(this.root, copier));
+
+        Verification.ensure(deepCopy.size().equals(this.size()));
+        return deepCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (Iterator<T> iterator = this.levelorderIterator(); iterator.hasNext(); ) {
+            string.append(iterator.next()).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Structural: same shape and same elements. Subtrees shared by both versions are equal
+     * without looking into them, and the stored hashes reject most differences at once.
+     */
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        PersistentBinaryTree<?> that = (PersistentBinaryTree<?>) otherObject;
+        if (!sameNode(this.root, that.root))
+            return false;
+
+        ArrayStack<Node<?>> these = new ArrayStack<>();
+        ArrayStack<Node<?>> those = new ArrayStack<>();
+        if (this.root != that.root) {
+            these.push(this.root);
+            those.push(that.root);
+        }
+
+        while (!these.isEmpty()) {
+            Node<?> a = these.peek();
+            Node<?> b = those.peek();
+            these.pop();
+            those.pop();
+
+            if (!sameNode(a.left, b.left) || !sameNode(a.right, b.right))
+                return false;
+
+            if (a.left != b.left) {
+                these.push(a.left);
+                those.push(b.left);
+            }
+            if (a.right != b.right) {
+                these.push(a.right);
+                those.push(b.right);
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean sameNode(Node<?> a, Node<?> b) {
+        if (a == b)
+            return true;
+        return a != null && b != null && a.hash == b.hash && a.size == b.size && Objects.equals(a.elem, b.elem);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.root == null ? 0 : this.root.hash;
+    }
+
+    private Node<T> find(String path) {
+        Node<T> node = this.root;
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = path.charAt(i) == 'L' ? node.left : node.right;
+        }
+        return node;
+    }
+
+    private PersistentBinaryTree<T> replace(String path, Node<T> replacement) {
+        @SuppressWarnings("unchecked")
+        Node<T>[] ancestors = (Node<T>[]) new Node<?>[path.length()];
+        Node<T> node = this.root;
+        for (int i = 0; i < path.length(); i++) {
+            ancestors[i] = node;
+            node = path.charAt(i) == 'L' ? node.left : node.right;
+        }
+
+        Node<T> child = replacement;
+        for (int i = path.length() - 1; i >= 0; i--) {
+            Node<T> parent = ancestors[i];
+            child = path.charAt(i) == 'L'
+                    ? new Node<>(parent.elem, child, parent.right)
+                    : new Node<>(parent.elem, parent.left, child);
+        }
+        return new PersistentBinaryTree<>(child);
+    }
+
+    private static boolean isPath(String path) {
+        if (path == null) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) != 'L' && path.charAt(i) != 'R') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> Node<T> copy(BinaryNode<T> root, UnaryOperator<T> copier) {
+        if (root == null) {
+            return null;
+        }
+        ArrayStack<BinaryNode<T>> stack = new ArrayStack<>();
+        ArrayStack<Node<T>> copies = new ArrayStack<>();
+        BinaryNode<T> curr = root;
+        BinaryNode<T> lastVisited = null;
+
+        while (!stack.isEmpty() || curr != null) {
+            if (curr != null) {
+                stack.push(curr);
+                curr = curr.getLeft();
+            } else {
+                BinaryNode<T> top = stack.peek();
+                if (top.getRight() != null && top.getRight() != lastVisited) {
+                    curr = top.getRight();
+                } else {
+                    stack.pop();
+                    Node<T> right = null;
+                    Node<T> left = null;
+                    if (top.getRight() != null) {
+                        right = copies.peek();
+                        copies.pop();
+                    }
+                    if (top.getLeft() != null) {
+                        left = copies.peek();
+                        copies.pop();
+                    }
+                    T elem = copier.apply(top.getElem());
+                    Verification.require(elem != null, "A persistent tree can not hold null");
+                    copies.push(new Node<>(elem, left, right));
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return copies.peek();
+    }
+
+    private static <T> Node<T> copy(Node<T> root, UnaryOperator<T> copier) {
+        ArrayStack<Node<T>> stack = new ArrayStack<>();
+        ArrayStack<Node<T>> copies = new ArrayStack<>();
+        Node<T> curr = root;
+        Node<T> lastVisited = null;
+
+        while (!stack.isEmpty() || curr != null) {
+            if (curr != null) {
+                stack.push(curr);
+                curr = curr.left;
+            } else {
+                Node<T> top = stack.peek();
+                if (top.right != null && top.right != lastVisited) {
+                    curr = top.right;
+                } else {
+                    stack.pop();
+                    Node<T> right = null;
+                    Node<T> left = null;
+                    if (top.right != null) {
+                        right = copies.peek();
+                        copies.pop();
+                    }
+                    if (top.left != null) {
+                        left = copies.peek();
+                        copies.pop();
+                    }
+                    T elem = copier.apply(top.elem);
+                    Verification.require(elem != null, "A persistent tree can not hold null");
+                    copies.push(new Node<>(elem, left, right));
+                    lastVisited = top;
+                }
+            }
+        }
+
+        return copies.peek();
+    }
+
+    /*
+     * Walks the pairs of nodes in postorder on plain arrays, which unlike ArrayStack hold the
+     * missing children; a pair with a missing side gives the other side as it is.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> merge(Node<T> first, Node<T> second, BinaryOperator<T> combiner) {
+        Node<T>[] firsts = (Node<T>[]) new Node<?>[16];
+        Node<T>[] seconds = (Node<T>[]) new Node<?>[16];
+        boolean[] expanded = new boolean[16];
+        Node<T>[] results = (Node<T>[]) new Node<?>[16];
+        int top = 0;
+        int count = 0;
+
+        firsts[top] = first;
+        seconds[top++] = second;
+        while (top > 0) {
+            Node<T> a = firsts[top - 1];
+            Node<T> b = seconds[top - 1];
+            if (count + 1 >= results.length) {
+                results = Arrays.copyOf(results, results.length * 2);
+            }
+
+            if (a == null || b == null) {
+                top--;
+                results[count++] = a == null ? b : a;
+            } else if (!expanded[top - 1]) {
+                expanded[top - 1] = true;
+                if (top + 2 > firsts.length) {
+                    firsts = Arrays.copyOf(firsts, firsts.length * 2);
+                    seconds = Arrays.copyOf(seconds, seconds.length * 2);
+                    expanded = Arrays.copyOf(expanded, expanded.length * 2);
+                }
+                firsts[top] = a.right;
+                seconds[top] = b.right;
+                expanded[top++] = false;
+                firsts[top] = a.left;
+                seconds[top] = b.left;
+                expanded[top++] = false;
+            } else {
+                top--;
+                Node<T> right = results[--count];
+                Node<T> left = results[--count];
+                T elem = combiner.apply(a.elem, b.elem);
+                Verification.require(elem != null, "A persistent tree can not hold null");
+                results[count++] = new Node<>(elem, left, right);
+            }
+        }
+
+        return results[0];
+    }
+
+    private static <T> IList<T> drain(Iterator<T> iterator, int size) {
+        IList<T> list = new ArrayList<>(size);
+        while (iterator.hasNext()) {
+            list.addLast(iterator.next());
+        }
+        return list;
+    }
+
+    private static final class Node<T> {
+
+        final T elem;
+        final Node<T> left;
+        final Node<T> right;
+        final int size;
+        final int height;
+        final int leaves;
+        final boolean balanced;
+        final int hash;
+
+        Node(final T elem, final Node<T> left, final Node<T> right) {
+            this.elem = elem;
+            this.left = left;
+            this.right = right;
+
+            int leftHeight = left == null ? 0 : left.height;
+            int rightHeight = right == null ? 0 : right.height;
+            this.size = 1 + (left == null ? 0 : left.size) + (right == null ? 0 : right.size);
+            this.height = 1 + Math.max(leftHeight, rightHeight);
+            this.leaves = (left == null && right == null) ? 1
+                    : (left == null ? 0 : left.leaves) + (right == null ? 0 : right.leaves);
+            this.balanced = (left == null || left.balanced) && (right == null || right.balanced)
+                    && Math.abs(leftHeight - rightHeight) <= 1;
+            this.hash = 31 * (31 * Objects.hashCode(elem) + (left == null ? 1 : left.hash))
+                    + (right == null ? 2 : right.hash);
+        }
+    }
+
+    private static final class NodeReader<T> implements TreeDiff.NodeReader<Node<T>, T> {
+
+        @Override
+        public Node<T> left(Node<T> node) {
+            return node.left;
+        }
+
+        @Override
+        public Node<T> right(Node<T> node) {
+            return node.right;
+        }
+
+        @Override
+        public T elem(Node<T> node) {
+            return node.elem;
+        }
+
+        @Override
+        public int size(Node<T> node) {
+            return node.size;
+        }
+
+        @Override
+        public long hash(Node<T> node) {
+            return node.hash;
+        }
+
+        @Override
+        public BinaryNode<T> copy(Node<T> node) {
+            return toNodes(node);
+        }
+    }
+
+    private static final class PreorderIterator<T> implements Iterator<T> {
+
+        private final ArrayStack<Node<T>> stack = new ArrayStack<>();
+
+        private PreorderIterator(final Node<T> root) {
+            if (root != null) {
+                this.stack.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            Node<T> curr = this.stack.peek();
+            this.stack.pop();
+            if (curr.right != null) {
+                this.stack.push(curr.right);
+            }
+            if (curr.left != null) {
+                this.stack.push(curr.left);
+            }
+            return curr.elem;
+        }
+    }
+
+    private static final class InorderIterator<T> implements Iterator<T> {
+
+        private final ArrayStack<Node<T>> stack = new ArrayStack<>();
+
+        private InorderIterator(final Node<T> root) {
+            this.pushLeftPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            Node<T> curr = this.stack.peek();
+            this.stack.pop();
+            this.pushLeftPath(curr.right);
+            return curr.elem;
+        }
+
+        private void pushLeftPath(Node<T> node) {
+            while (node != null) {
+                this.stack.push(node);
+                node = node.left;
+            }
+        }
+    }
+
+    private static final class PostorderIterator<T> implements Iterator<T> {
+
+        private final ArrayStack<Node<T>> stack = new ArrayStack<>();
+        private Node<T> lastVisited;
+
+        private PostorderIterator(final Node<T> root) {
+            this.pushLeftPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            Node<T> top = this.stack.peek();
+            while (top.right != null && top.right != this.lastVisited) {
+                this.pushLeftPath(top.right);
+                top = this.stack.peek();
+            }
+            this.stack.pop();
+            this.lastVisited = top;
+            return top.elem;
+        }
+
+        private void pushLeftPath(Node<T> node) {
+            while (node != null) {
+                this.stack.push(node);
+                node = node.left;
+            }
+        }
+    }
+
+    private static final class LevelorderIterator<T> implements Iterator<T> {
+
+        private final ArrayQueue<Node<T>> queue = new ArrayQueue<>();
+
+        private LevelorderIterator(final Node<T> root) {
+            if (root != null) {
+                this.queue.enqueue(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            Node<T> curr = this.queue.front();
+            this.queue.dequeue();
+            if (curr.left != null) {
+                this.queue.enqueue(curr.left);
+            }
+            if (curr.right != null) {
+                this.queue.enqueue(curr.right);
+            }
+            return curr.elem;
+        }
+    }
+}
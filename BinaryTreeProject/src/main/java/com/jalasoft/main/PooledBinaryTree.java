@@ -0,0 +1,323 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/*
+ * Nodes live in three parallel arrays: the element and the indices of both children. A released
+ * slot has a null element and is chained to the next free slot through its left index, so
+ * add* reuses it before growing. compact() rewrites the live nodes in preorder, one after the other.
+ */
+public class PooledBinaryTree<T> extends AbstractIndexedBinaryTree<T> implements Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private Object[] elems;
+    private int[] left;
+    private int[] right;
+    private int root;
+    private int size;
+    private int free;
+    private int used;
+
+    public PooledBinaryTree() {
+        this.elems = new Object[DEFAULT_CAPACITY];
+        this.left = new int[DEFAULT_CAPACITY];
+        this.right = new int[DEFAULT_CAPACITY];
+        this.root = NIL;
+        this.size = 0;
+        this.free = NIL;
+        this.used = 0;
+
+        Verification.ensure(isEmpty());
+    }
+
+    public PooledBinaryTree(final T rootItem) {
+        this();
+        Verification.require(rootItem != null);
+
+        this.root = this.allocate(rootItem);
+
+        Verification.ensure(!isEmpty() && elem(root()) == rootItem);
+    }
+
+    public static <T> PooledBinaryTree<T> fromNodes(final BinaryNode<T> root) {
+        PooledBinaryTree<T> tree = new PooledBinaryTree<>();
+        if (root == null) {
+            return tree;
+        }
+        tree.ensureCapacity(root.getSize());
+
+        IntStack slots = new IntStack();
+        ArrayStack<BinaryNode<T>> nodes = new ArrayStack<>();
+        tree.root = tree.allocate(root.getElem());
+        slots.push(tree.root);
+        nodes.push(root);
+
+        while (!nodes.isEmpty()) {
+            BinaryNode<T> node = nodes.peek();
+            int slot = slots.peek();
+            nodes.pop();
+            slots.pop();
+
+            if (node.getRight() != null) {
+                nodes.push(node.getRight());
+                slots.push(tree.right[slot] = tree.allocate(node.getRight().getElem()));
+            }
+            if (node.getLeft() != null) {
+                nodes.push(node.getLeft());
+                slots.push(tree.left[slot] = tree.allocate(node.getLeft().getElem()));
+            }
+        }
+
+        Verification.ensure(tree.size().equals(root.getSize()));
+        return tree;
+    }
+
+    @Override
+    public int root() {
+        return this.root;
+    }
+
+    @Override
+    int leftOf(int node) {
+        return this.left[node];
+    }
+
+    @Override
+    int rightOf(int node) {
+        return this.right[node];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    T elemOf(int node) {
+        return (T) this.elems[node];
+    }
+
+    @Override
+    public boolean isNode(int node) {
+        return node >= 0 && node < this.used && this.elems[node] != null;
+    }
+
+    public void setElem(int node, final T elem) {
+        Verification.require(this.isNode(node) && elem != null);
+        this.elems[node] = elem;
+    }
+
+    public int addRoot(final T elem) {
+        Verification.require(isEmpty() && elem != null);
+
+        this.root = this.allocate(elem);
+
+        Verification.ensure(this.size == 1);
+        return this.root;
+    }
+
+    public int addLeft(int parent, final T elem) {
+        Verification.require(this.isNode(parent) && this.left[parent] == NIL && elem != null);
+
+        int child = this.allocate(elem);
+        this.left[parent] = child;
+
+        Verification.ensure(this.elems[child] == elem);
+        return child;
+    }
+
+    public int addRight(int parent, final T elem) {
+        Verification.require(this.isNode(parent) && this.right[parent] == NIL && elem != null);
+
+        int child = this.allocate(elem);
+        this.right[parent] = child;
+
+        Verification.ensure(this.elems[child] == elem);
+        return child;
+    }
+
+    @Override
+    int insertRoot(T elem) {
+        return this.addRoot(elem);
+    }
+
+    @Override
+    int insertChild(int parent, boolean left, T elem) {
+        return left ? this.addLeft(parent, elem) : this.addRight(parent, elem);
+    }
+
+    @Override
+    void replaceElem(int node, T elem) {
+        this.setElem(node, elem);
+    }
+
+    public void removeLeft(int parent) {
+        Verification.require(this.isNode(parent));
+        this.release(this.left[parent]);
+        this.left[parent] = NIL;
+    }
+
+    public void removeRight(int parent) {
+        Verification.require(this.isNode(parent));
+        this.release(this.right[parent]);
+        this.right[parent] = NIL;
+    }
+
+    @Override
+    public void makeEmpty() {
+        Arrays.fill(this.elems, 0, this.used, null);
+        this.root = NIL;
+        this.size = 0;
+        this.free = NIL;
+        this.used = 0;
+
+        Verification.ensure(isEmpty());
+    }
+
+    @Override
+    public Integer size() {
+        return this.size;
+    }
+
+    public int capacity() {
+        return this.elems.length;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        Verification.require(minCapacity >= 0);
+
+        if (minCapacity > this.elems.length) {
+            this.resize(minCapacity);
+        }
+
+        Verification.ensure(this.elems.length >= minCapacity);
+    }
+
+    public void compact() {
+        int oldSize = this.size;
+        int[] slots = new int[this.used];
+        int count = 0;
+
+        if (this.root != NIL) {
+            IntStack stack = new IntStack();
+            stack.push(this.root);
+
+            while (!stack.isEmpty()) {
+                int node = stack.peek();
+                stack.pop();
+                slots[node] = count++;
+                if (this.right[node] != NIL) {
+                    stack.push(this.right[node]);
+                }
+                if (this.left[node] != NIL) {
+                    stack.push(this.left[node]);
+                }
+            }
+        }
+
+        int capacity = Math.max(count, DEFAULT_CAPACITY);
+        Object[] elems = new Object[capacity];
+        int[] left = new int[capacity];
+        int[] right = new int[capacity];
+        for (int node = 0; node < this.used; node++) {
+            if (this.elems[node] != null) {
+                int slot = slots[node];
+                elems[slot] = this.elems[node];
+                left[slot] = this.left[node] == NIL ? NIL : slots[this.left[node]];
+                right[slot] = this.right[node] == NIL ? NIL : slots[this.right[node]];
+            }
+        }
+
+        this.elems = elems;
+        this.left = left;
+        this.right = right;
+        this.root = count > 0 ? 0 : NIL;
+        this.free = NIL;
+        this.used = count;
+
+        Verification.ensure(this.size == oldSize && count == oldSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IBinaryTree<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.require(copier != null);
+
+        PooledBinaryTree<T> deepCopy = new PooledBinaryTree<>();
+        deepCopy.elems = new Object[this.elems.length];
+        for (int node = 0; node < this.used; node++) {
+            if (this.elems[node] != null) {
+                T elem = copier.apply((T) this.elems[node]);
+                Verification.require(elem != null, "The copier returned null");
+                deepCopy.elems[node] = elem;
+            }
+        }
+        deepCopy.left = this.left.clone();
+        deepCopy.right = this.right.clone();
+        deepCopy.root = this.root;
+        deepCopy.size = this.size;
+        deepCopy.free = this.free;
+        deepCopy.used = this.used;
+
+        return deepCopy;
+    }
+
+    private int allocate(T elem) {
+        Verification.require(elem != null);
+        int slot;
+        if (this.free != NIL) {
+            slot = this.free;
+            this.free = this.left[slot];
+        } else {
+            if (this.used == this.elems.length) {
+                this.resize(this.used + 1);
+            }
+            slot = this.used++;
+        }
+        this.elems[slot] = elem;
+        this.left[slot] = NIL;
+        this.right[slot] = NIL;
+        this.size++;
+        return slot;
+    }
+
+    private void release(int subtree) {
+        if (subtree == NIL) {
+            return;
+        }
+        IntStack stack = new IntStack();
+        stack.push(subtree);
+
+        while (!stack.isEmpty()) {
+            int node = stack.peek();
+            stack.pop();
+            if (this.left[node] != NIL) {
+                stack.push(this.left[node]);
+            }
+            if (this.right[node] != NIL) {
+                stack.push(this.right[node]);
+            }
+            this.elems[node] = null;
+            this.right[node] = NIL;
+            this.left[node] = this.free;
+            this.free = node;
+            this.size--;
+        }
+    }
+
+    private void resize(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+        }
+        int oldCapacity = this.elems.length;
+        int newCapacity = oldCapacity + Math.max(oldCapacity >> 1, DEFAULT_CAPACITY);
+        if (newCapacity < minCapacity || newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = minCapacity;
+        }
+        this.elems = Arrays.copyOf(this.elems, newCapacity);
+        this.left = Arrays.copyOf(this.left, newCapacity);
+        this.right = Arrays.copyOf(this.right, newCapacity);
+    }
+}
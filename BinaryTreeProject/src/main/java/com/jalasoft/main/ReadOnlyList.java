@@ -0,0 +1,156 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IList;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.UnaryOperator;
+
+/*
+ * A view of an IList that can not change it: every mutator throws UnsupportedOperationException
+ * and so does remove() on the iterator. It is what a cache hands out when the same list is
+ * shared by every caller. deepCopy returns a copy that can be changed.
+ */
+public final class ReadOnlyList<T> implements IList<T>, Serializable {
+
+    private final IList<T> list;
+
+    public ReadOnlyList(final IList<T> list) {
+        Verification.require(list != null);
+        this.list = list;
+    }
+
+    @Override
+    public void addFirst(final T elem) {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public void addLast(final T elem) {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public T getFirst() {
+        return this.list.getFirst();
+    }
+
+    @Override
+    public T getLast() {
+        return this.list.getLast();
+    }
+
+    @Override
+    public void removeFirst() {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public void removeLast() {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public Boolean contains(final T elem) {
+        return this.list.contains(elem);
+    }
+
+    @Override
+    public void remove(final T elem) {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public T get(Integer index) {
+        return this.list.get(index);
+    }
+
+    @Override
+    public void set(Integer index, final T elem) {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public void add(Integer index, final T elem) {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public void remove(Integer index) {
+        throw new UnsupportedOperationException("A read-only list can not change");
+    }
+
+    @Override
+    public Integer indexOf(final T elem) {
+        return this.list.indexOf(elem);
+    }
+
+    @Override
+    public Integer lastIndexOf(final T elem) {
+        return this.list.lastIndexOf(elem);
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        return this.list.isEmpty();
+    }
+
+    @Override
+    public Integer size() {
+        return this.list.size();
+    }
+
+    @Override
+    public IList<T> deepCopy(UnaryOperator<T> copier) {
+        return this.list.deepCopy(copier);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = this.list.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return this.list.spliterator();
+    }
+
+    @Override
+    public String toString() {
+        return this.list.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        ReadOnlyList<?> that = (ReadOnlyList<?>) otherObject;
+        return this.list.equals(that.list);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.list.hashCode();
+    }
+}
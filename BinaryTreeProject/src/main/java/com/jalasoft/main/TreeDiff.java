@@ -0,0 +1,347 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IList;
+import com.jalasoft.interfaces.IStack;
+import java.io.Serializable;
+import java.util.Objects;
+
+/*
+ * Computes the edits that turn one tree into another, so a replica can be brought up to date by
+ * sending the changes instead of the whole tree. Both trees are walked together from the root
+ * and a pair of subtrees that match is skipped without being entered. With IDENTITY, the
+ * default, they match only when they are the same nodes, which is exact. Two versions of a
+ * PersistentBinaryTree are walked on their own nodes, which they share everywhere but on the
+ * paths that changed, so there the cost follows the size of the change. A node hangs from a
+ * single BinaryTree, so two BinaryTrees share no nodes and IDENTITY visits all of them, O(n); a
+ * tree without BinaryNodes is read through a copy of its nodes, O(n) as well. HASH is the only
+ * way below O(n) for them, and it is lossy: a pair also matches when the 64 bit structural
+ * hashes, the sizes and the root elements are equal, so two different subtrees whose hashes
+ * collide are taken as equal and their differences are left out of the patch. Positions are
+ * paths of 'L' and 'R' steps from the root, as in PersistentBinaryTree, and the edits come in
+ * preorder. A Patch is Serializable, keeps its own copy of the grafted subtrees and can be
+ * applied to any number of replicas. A ConcurrentBinaryTree is read under its lock.
+ */
+public final class TreeDiff {
+
+    public enum Pruning {
+        HASH,
+        IDENTITY
+    }
+
+    private static final NodeReader<BinaryNode<Object>, Object> BINARY_NODES = new NodeReader<>() {
+
+        @Override
+        public BinaryNode<Object> left(BinaryNode<Object> node) {
+            return node.getLeft();
+        }
+
+        @Override
+        public BinaryNode<Object> right(BinaryNode<Object> node) {
+            return node.getRight();
+        }
+
+        @Override
+        public Object elem(BinaryNode<Object> node) {
+            return node.getElem();
+        }
+
+        @Override
+        public int size(BinaryNode<Object> node) {
+            return node.getSize();
+        }
+
+        @Override
+        public long hash(BinaryNode<Object> node) {
+            return node.getHash();
+        }
+
+        @Override
+        public BinaryNode<Object> copy(BinaryNode<Object> node) {
+            return BinaryTree.copyNodes(node, CopyStrategies.share());
+        }
+    };
+
+    private TreeDiff() {
+    }
+
+    public static <T> Patch<T> diff(IBinaryTree<T> from, IBinaryTree<T> to) {
+        return diff(from, to, Pruning.IDENTITY);
+    }
+
+    public static <T> Patch<T> diff(IBinaryTree<T> from, IBinaryTree<T> to, Pruning pruning) {
+        Verification.require(from != null && to != null && pruning != null);
+
+        if (from instanceof ConcurrentBinaryTree) {
+            /* Only one lock is held at a time, a second shared tree is copied under its own. */
+            IBinaryTree<T> other = to;
+            if (to instanceof ConcurrentBinaryTree && to != from) {
+                other = ((ConcurrentBinaryTree<T>) to).read(tree -> tree.deepCopy(CopyStrategies.share()));
+            }
+            IBinaryTree<T> target = other;
+            return ((ConcurrentBinaryTree<T>) from).read(tree -> diff(tree, target == from ? tree : target, pruning));
+        }
+        if (to instanceof ConcurrentBinaryTree) {
+            return ((ConcurrentBinaryTree<T>) to).read(tree -> diff(from, tree, pruning));
+        }
+
+        if (from instanceof PersistentBinaryTree && to instanceof PersistentBinaryTree) {
+            return PersistentBinaryTree.diff((PersistentBinaryTree<T>) from, (PersistentBinaryTree<T>) to, pruning);
+        }
+        return diff(BinaryTree.nodesOf(from), BinaryTree.nodesOf(to), binaryNodes(), pruning);
+    }
+
+    /*
+     * The walk itself, on any kind of node the reader can tell the children, element, size, hash
+     * and a BinaryNode copy of.
+     */
+    static <N, T> Patch<T> diff(N first, N second, NodeReader<N, T> reader, Pruning pruning) {
+        Patch<T> patch = new Patch<>(first == null ? 0 : reader.size(first), second == null ? 0 : reader.size(second));
+
+        IStack<N> froms = new ArrayStack<>();
+        IStack<N> tos = new ArrayStack<>();
+        IntStack steps = new IntStack();
+        StringBuilder path = new StringBuilder();
+        compare(first, second, path, (char) 0, reader, pruning, patch, froms, tos, steps, 0);
+
+        while (!froms.isEmpty()) {
+            N a = froms.peek();
+            N b = tos.peek();
+            int step = steps.peek();
+            froms.pop();
+            tos.pop();
+            steps.pop();
+            patch.compared++;
+
+            int depth = step >>> 1;
+            if (depth > 0) {
+                path.setLength(depth - 1);
+                path.append((step & 1) == 0 ? 'L' : 'R');
+            }
+
+            if (!Objects.equals(reader.elem(a), reader.elem(b))) {
+                patch.add(new Edit<>(Edit.Kind.REPLACE, path.toString(), reader.elem(b), reader.elem(a), null, 0));
+            }
+            compare(reader.right(a), reader.right(b), path, 'R', reader, pruning, patch, froms, tos, steps,
+                    (depth + 1) << 1 | 1);
+            compare(reader.left(a), reader.left(b), path, 'L', reader, pruning, patch, froms, tos, steps,
+                    (depth + 1) << 1);
+        }
+
+        return patch;
+    }
+
+    /*
+     * Updates tree in place. The tree must be the one the patch was computed from, which is
+     * checked before anything changes on its size and on what every edit expects to find at its
+     * path: the element it replaces, the size of the subtree it prunes or an empty place for a
+     * graft. Nothing depends on element hashes, so a patch made in another process applies as
+     * long as the elements are equal.
+     */
+    public static <T> void apply(BinaryTree<T> tree, Patch<T> patch) {
+        Verification.require(tree != null && patch != null);
+        Verification.require(sizeOf(tree.getRoot()) == patch.getBaseSize(), "The patch was made for another tree");
+
+        for (Edit<T> edit : patch.getEdits()) {
+            BinaryNode<T> node = find(tree, edit.getPath());
+            boolean found;
+            if (edit.getKind() == Edit.Kind.REPLACE) {
+                found = node != null && Objects.equals(node.getElem(), edit.previous);
+            } else if (edit.getKind() == Edit.Kind.PRUNE) {
+                found = node != null && node.getSize() == edit.removed;
+            } else {
+                found = node == null && (edit.getPath().isEmpty() || find(tree, parentOf(edit.getPath())) != null);
+            }
+            Verification.require(found, "The patch was made for another tree");
+        }
+
+        for (Edit<T> edit : patch.getEdits()) {
+            String path = edit.getPath();
+            BinaryNode<T> copy = BinaryTree.copyNodes(edit.subtree, CopyStrategies.share());
+
+            if (edit.getKind() == Edit.Kind.REPLACE) {
+                find(tree, path).setElem(edit.getElem());
+            } else if (path.isEmpty()) {
+                tree.setRoot(copy);
+            } else if (path.charAt(path.length() - 1) == 'L') {
+                find(tree, parentOf(path)).setLeft(copy);
+            } else {
+                find(tree, parentOf(path)).setRight(copy);
+            }
+        }
+
+        Verification.ensure(sizeOf(tree.getRoot()) == patch.getResultSize());
+    }
+
+    private static <T> BinaryNode<T> find(BinaryTree<T> tree, String path) {
+        BinaryNode<T> node = tree.getRoot();
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = path.charAt(i) == 'L' ? node.getLeft() : node.getRight();
+        }
+        return node;
+    }
+
+    private static String parentOf(String path) {
+        return path.substring(0, path.length() - 1);
+    }
+
+    /*
+     * Pushes the pair to be compared node by node, or records the graft or the prune when one of
+     * the two sides is missing. Nothing is done for a pair that matches. The pair hangs at the
+     * given side of parent, or is the pair of roots when side is 0; its path is only built for an
+     * edit.
+     */
+    private static <N, T> void compare(N a, N b, CharSequence parent, char side, NodeReader<N, T> reader,
+                                       Pruning pruning, Patch<T> patch, IStack<N> froms, IStack<N> tos,
+                                       IntStack steps, int step) {
+        if (a == b) {
+            return;
+        }
+        if (a == null) {
+            patch.add(new Edit<>(Edit.Kind.GRAFT, path(parent, side), null, null, reader.copy(b), 0));
+        } else if (b == null) {
+            patch.add(new Edit<>(Edit.Kind.PRUNE, path(parent, side), null, null, null, reader.size(a)));
+        } else if (pruning == Pruning.IDENTITY || reader.hash(a) != reader.hash(b) || reader.size(a) != reader.size(b)
+                || !Objects.equals(reader.elem(a), reader.elem(b))) {
+            froms.push(a);
+            tos.push(b);
+            steps.push(step);
+        }
+    }
+
+    private static String path(CharSequence parent, char side) {
+        return side == 0 ? "" : parent.toString() + side;
+    }
+
+    private static int sizeOf(BinaryNode<?> root) {
+        return root == null ? 0 : root.getSize();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> NodeReader<BinaryNode<T>, T> binaryNodes() {
+        return (NodeReader<BinaryNode<T>, T>) (NodeReader<?, ?>) BINARY_NODES;
+    }
+
+    /*
+     * What the walk reads from a node; copy gives the subtree a GRAFT carries.
+     */
+    interface NodeReader<N, T> {
+
+        N left(N node);
+
+        N right(N node);
+
+        T elem(N node);
+
+        int size(N node);
+
+        long hash(N node);
+
+        BinaryNode<T> copy(N node);
+    }
+
+    /*
+     * REPLACE sets the element at the path, GRAFT hangs the subtree at the path where there was
+     * nothing and PRUNE removes the subtree at the path. The element a REPLACE overwrites and the
+     * size of the subtree a PRUNE removes are kept to check the tree the patch is applied to.
+     */
+    public static final class Edit<T> implements Serializable {
+
+        public enum Kind {
+            REPLACE,
+            GRAFT,
+            PRUNE
+        }
+
+        private final Kind kind;
+        private final String path;
+        private final T elem;
+        private final T previous;
+        private final BinaryNode<T> subtree;
+        private final int removed;
+
+        private Edit(final Kind kind, final String path, final T elem, final T previous, final BinaryNode<T> subtree,
+                     final int removed) {
+            this.kind = kind;
+            this.path = path;
+            this.elem = elem;
+            this.previous = previous;
+            this.subtree = subtree;
+            this.removed = removed;
+        }
+
+        public Kind getKind() {
+            return this.kind;
+        }
+
+        public String getPath() {
+            return this.path;
+        }
+
+        public T getElem() {
+            return this.elem;
+        }
+
+        public BinaryNode<T> getSubtree() {
+            return BinaryTree.copyNodes(this.subtree, CopyStrategies.share());
+        }
+
+        @Override
+        public String toString() {
+            if (this.kind == Kind.REPLACE) {
+                return "REPLACE " + this.path + " " + this.elem;
+            }
+            if (this.kind == Kind.GRAFT) {
+                return "GRAFT " + this.path + " (" + this.subtree.getSize() + " nodes)";
+            }
+            return "PRUNE " + this.path;
+        }
+    }
+
+    public static final class Patch<T> implements Serializable {
+
+        private final int baseSize;
+        private final int resultSize;
+        private final IList<Edit<T>> edits;
+        private int compared;
+
+        private Patch(final int baseSize, final int resultSize) {
+            this.baseSize = baseSize;
+            this.resultSize = resultSize;
+            this.edits = new ArrayList<>();
+        }
+
+        private void add(Edit<T> edit) {
+            this.edits.addLast(edit);
+        }
+
+        public IList<Edit<T>> getEdits() {
+            return new ReadOnlyList<>(this.edits);
+        }
+
+        public Boolean isEmpty() {
+            return this.edits.isEmpty();
+        }
+
+        public int getBaseSize() {
+            return this.baseSize;
+        }
+
+        public int getResultSize() {
+            return this.resultSize;
+        }
+
+        /*
+         * The pairs of nodes the diff went into, what it cost.
+         */
+        public int getCompared() {
+            return this.compared;
+        }
+
+        @Override
+        public String toString() {
+            return this.edits.toString();
+        }
+    }
+}
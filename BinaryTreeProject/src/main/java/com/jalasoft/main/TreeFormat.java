@@ -0,0 +1,316 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IElementCodec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/*
+ * Header: magic, version, the fixed size of the codec and the number of nodes. Then the nodes in
+ * preorder, grouped in blocks of at most 16K nodes: the node count and the payload length, two
+ * shape bits per node (has left, has right) packed four to a byte, and the encoded elements, each
+ * prefixed by a varint length when the codec has no fixed size. A block of zero nodes ends it.
+ * Both sides keep one block in memory, so neither the depth nor the size of the tree matter; a
+ * variable sized element takes at most 64 MiB, which bounds the block a reader accepts.
+ */
+public final class TreeFormat {
+
+    public static final int MAGIC = 0x4A42544E;
+    public static final byte VERSION = 1;
+
+    static final int BLOCK_NODES = 1 << 14;
+
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final int HEADER_BYTES = 13;
+    private static final int BLOCK_HEADER_BYTES = 8;
+    private static final int BLOCK_BYTES = 1 << 20;
+    private static final int MAX_ELEMENT_BYTES = 1 << 26;
+    private static final int HAS_LEFT = 1;
+    private static final int HAS_RIGHT = 2;
+
+    private TreeFormat() {
+    }
+
+    public static <T> void write(BinaryTree<T> tree, IElementCodec<T> codec, WritableByteChannel channel)
+            throws IOException {
+        Verification.require(tree != null && codec != null && channel != null);
+        BinaryNode<T> root = tree.getRoot();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+        header.putInt(MAGIC).put(VERSION).putInt(codec.fixedSize()).putInt(tree.size()).flip();
+        writeFully(channel, header);
+
+        BlockWriter<T> writer = new BlockWriter<>(codec, channel);
+        if (root != null) {
+            ArrayStack<BinaryNode<T>> stack = new ArrayStack<>();
+            stack.push(root);
+
+            while (!stack.isEmpty()) {
+                BinaryNode<T> node = stack.peek();
+                stack.pop();
+                Verification.require(node.getElem() != null, "Null elements can not be written");
+
+                int shape = 0;
+                if (node.getRight() != null) {
+                    shape |= HAS_RIGHT;
+                    stack.push(node.getRight());
+                }
+                if (node.getLeft() != null) {
+                    shape |= HAS_LEFT;
+                    stack.push(node.getLeft());
+                }
+                writer.add(shape, node.getElem());
+            }
+        }
+        writer.finish();
+    }
+
+    public static <T> BinaryTree<T> read(IElementCodec<T> codec, ReadableByteChannel channel) throws IOException {
+        Verification.require(codec != null && channel != null);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+        readFully(channel, header);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a binary tree stream");
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported version " + version);
+        }
+        int fixedSize = header.getInt();
+        if (fixedSize != codec.fixedSize()) {
+            throw new StreamCorruptedException("Written with a codec of size " + fixedSize
+                    + ", read with one of size " + codec.fixedSize());
+        }
+        int size = header.getInt();
+        if (size < 0) {
+            throw new StreamCorruptedException("Negative node count " + size);
+        }
+
+        BinaryTree<T> tree = new BinaryTree<>();
+        ArrayStack<BinaryNode<T>> parents = new ArrayStack<>();
+        IntStack pending = new IntStack();
+        ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES).order(ORDER);
+        ByteBuffer block = ByteBuffer.allocate(0).order(ORDER);
+        int read = 0;
+
+        while (true) {
+            blockHeader.clear();
+            readFully(channel, blockHeader);
+            blockHeader.flip();
+            int count = blockHeader.getInt();
+            int payload = blockHeader.getInt();
+            if (count == 0) {
+                break;
+            }
+            if (count < 0 || count > BLOCK_NODES || payload < (count + 3) / 4
+                    || payload > maxPayload(count, fixedSize) || read + count > size) {
+                throw new StreamCorruptedException("Malformed block");
+            }
+
+            if (block.capacity() < payload) {
+                block = ByteBuffer.allocate(payload).order(ORDER);
+            }
+            block.clear().limit(payload);
+            readFully(channel, block);
+            block.flip();
+
+            block.position((count + 3) / 4);
+            for (int i = 0; i < count; i++) {
+                int shape = (block.get(i >>> 2) >>> ((i & 3) * 2)) & 3;
+                BinaryNode<T> node = new BinaryNode<>(readElem(codec, block), null, null);
+
+                if (parents.isEmpty()) {
+                    if (tree.getRoot() != null) {
+                        throw new StreamCorruptedException("More than one root");
+                    }
+                    tree = new BinaryTree<>(node.getElem());
+                    node = tree.getRoot();
+                } else {
+                    BinaryNode<T> parent = parents.peek();
+                    int children = pending.peek();
+                    pending.pop();
+                    if ((children & HAS_LEFT) != 0) {
+                        parent.setLeft(node);
+                        children &= ~HAS_LEFT;
+                    } else {
+                        parent.setRight(node);
+                        children = 0;
+                    }
+                    if (children == 0) {
+                        parents.pop();
+                    } else {
+                        pending.push(children);
+                    }
+                }
+
+                if (shape != 0) {
+                    parents.push(node);
+                    pending.push(shape);
+                }
+            }
+            if (block.hasRemaining()) {
+                throw new StreamCorruptedException("Unread bytes at the end of a block");
+            }
+            read += count;
+        }
+
+        if (read != size || !parents.isEmpty()) {
+            throw new StreamCorruptedException("Expected " + size + " nodes, found " + read);
+        }
+        Verification.ensure(tree.size() == size);
+        return tree;
+    }
+
+    /*
+     * A writer fills a block up to BLOCK_BYTES of elements, or sends an element that does not fit
+     * alone in its own block.
+     */
+    private static long maxPayload(int count, int fixedSize) {
+        long shapeBytes = (count + 3) / 4;
+        if (fixedSize != IElementCodec.VARIABLE_SIZE) {
+            return shapeBytes + (long) count * fixedSize;
+        }
+        return shapeBytes + Math.max(BLOCK_BYTES, 5 + MAX_ELEMENT_BYTES);
+    }
+
+    private static <T> T readElem(IElementCodec<T> codec, ByteBuffer block) throws IOException {
+        int length = codec.fixedSize();
+        if (length == IElementCodec.VARIABLE_SIZE) {
+            length = readVarint(block);
+        }
+        if (length < 0 || length > block.remaining()) {
+            throw new StreamCorruptedException("Element outside of its block");
+        }
+        T elem = codec.read(block.slice(block.position(), length).order(ORDER), length);
+        block.position(block.position() + length);
+        return elem;
+    }
+
+    private static int readVarint(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new StreamCorruptedException("Truncated length");
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed length");
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("The tree stream ended early");
+            }
+        }
+    }
+
+    private static final class BlockWriter<T> {
+
+        private final IElementCodec<T> codec;
+        private final WritableByteChannel channel;
+        private final ByteBuffer header;
+        private final ByteBuffer shapes;
+        private ByteBuffer elems;
+        private int count;
+
+        private BlockWriter(final IElementCodec<T> codec, final WritableByteChannel channel) {
+            this.codec = codec;
+            this.channel = channel;
+            this.header = ByteBuffer.allocate(BLOCK_HEADER_BYTES).order(ORDER);
+            this.shapes = ByteBuffer.allocate(BLOCK_NODES / 4).order(ORDER);
+            this.elems = ByteBuffer.allocate(BLOCK_BYTES).order(ORDER);
+            this.count = 0;
+        }
+
+        private void add(int shape, T elem) throws IOException {
+            int length = this.codec.sizeOf(elem);
+            int fixed = this.codec.fixedSize();
+            Verification.require(fixed != IElementCodec.VARIABLE_SIZE || length <= MAX_ELEMENT_BYTES,
+                    "The element is larger than the format allows");
+            this.ensureRoom(length + 5);
+
+            if (fixed == IElementCodec.VARIABLE_SIZE) {
+                int value = length;
+                while ((value & ~0x7F) != 0) {
+                    this.elems.put((byte) ((value & 0x7F) | 0x80));
+                    value >>>= 7;
+                }
+                this.elems.put((byte) value);
+            }
+
+            int start = this.elems.position();
+            ByteBuffer target = this.elems.slice(start, length).order(ORDER);
+            this.codec.write(elem, target);
+            Verification.check(!target.hasRemaining(), "The codec did not write sizeOf bytes");
+            this.elems.position(start + length);
+
+            int index = this.count >>> 2;
+            this.shapes.put(index, (byte) (this.shapes.get(index) | (shape << ((this.count & 3) * 2))));
+            this.count++;
+
+            if (this.count == BLOCK_NODES || this.elems.position() >= BLOCK_BYTES) {
+                this.flush();
+            }
+        }
+
+        private void finish() throws IOException {
+            this.flush();
+            this.header.clear();
+            this.header.putInt(0).putInt(0).flip();
+            writeFully(this.channel, this.header);
+        }
+
+        private void ensureRoom(int bytes) throws IOException {
+            if (this.elems.remaining() < bytes && this.count > 0) {
+                this.flush();
+            }
+            if (this.elems.remaining() < bytes) {
+                this.elems = ByteBuffer.allocate(bytes).order(ORDER);
+            }
+        }
+
+        private void flush() throws IOException {
+            if (this.count == 0) {
+                return;
+            }
+            int shapeBytes = (this.count + 3) / 4;
+            this.header.clear();
+            this.header.putInt(this.count).putInt(shapeBytes + this.elems.position()).flip();
+            this.shapes.clear().limit(shapeBytes);
+            this.elems.flip();
+
+            writeFully(this.channel, this.header);
+            writeFully(this.channel, this.shapes);
+            writeFully(this.channel, this.elems);
+
+            this.shapes.clear();
+            for (int i = 0; i < shapeBytes; i++) {
+                this.shapes.put(i, (byte) 0);
+            }
+            if (this.elems.capacity() > BLOCK_BYTES) {
+                this.elems = ByteBuffer.allocate(BLOCK_BYTES).order(ORDER);
+            } else {
+                this.elems.clear();
+            }
+            this.count = 0;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IList;
+import java.io.Serializable;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.UnaryOperator;
+
+/*
+ * A list kept as an AVL tree in list order: the position of a node is the size of everything to
+ * its left, so get, set, add and remove by index descend once using the subtree sizes BinaryNode
+ * already caches, and the rotations of AVLTree keep the descent O(log n). Searching by value
+ * (contains, indexOf, remove(elem)) is still a linear in-order walk.
+ */
+public class TreeList<T> implements IList<T>, Serializable {
+
+    private BinaryNode<T> root;
+    private int modCount;
+
+    public TreeList() {
+        this.root = null;
+        this.modCount = 0;
+
+        Verification.ensure(isEmpty());
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void addFirst(final T elem) {
+        Verification.require(elem != null);
+        this.add(0, elem);
+    }
+
+    @Override
+    public void addLast(final T elem) {
+        Verification.require(elem != null);
+        this.add(this.size(), elem);
+    }
+
+    @Override
+    public T getFirst() {
+        Verification.require(!isEmpty());
+        return this.get(0);
+    }
+
+    @Override
+    public T getLast() {
+        Verification.require(!isEmpty());
+        return this.get(this.size() - 1);
+    }
+
+    @Override
+    public void removeFirst() {
+        Verification.require(!isEmpty());
+        this.remove((Integer) 0);
+    }
+
+    @Override
+    public void removeLast() {
+        Verification.require(!isEmpty());
+        this.remove((Integer) (this.size() - 1));
+    }
+
+    @Override
+    public Boolean contains(final T elem) {
+        Verification.require(elem != null);
+        return this.indexOf(elem) >= 0;
+    }
+
+    @Override
+    public void remove(final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(elem != null);
+        int oldSize = this.size();
+
+        int index = this.indexOf(elem);
+        if (index >= 0) {
+            this.delete(this.select(index));
+        }
+
+        Verification.ensure((index < 0 && this.size() == oldSize) || (this.size() == oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void clear() {
+        this.root = null;
+        this.modCount++;
+
+        Verification.ensure(isEmpty());
+    }
+
+    @Override
+    public T get(Integer index) {
+        Verification.require(index != null && (index >= 0) && (index < this.size()));
+        return this.select(index).getElem();
+    }
+
+    @Override
+    public void set(Integer index, final T elem) {
+        Verification.require(index != null && (elem != null) && (index >= 0) && (index < this.size()));
+
+        BinaryNode<T> node = this.select(index);
+        node.setElem(elem);
+
+        Verification.ensure(node.getElem() == elem);
+    }
+
+    @Override
+    public void add(Integer index, final T elem) {
+        Verification.invariant(checkInvariant());
+        Verification.require(index != null && (elem != null) && (index >= 0) && (index <= this.size()));
+        int oldSize = this.size();
+
+        BinaryNode<T> node = new BinaryNode<>(elem, null, null);
+        if (this.root == null) {
+            this.root = node;
+        } else if (index == oldSize) {
+            BinaryNode<T> last = this.root;
+            while (last.getRight() != null) {
+                last = last.getRight();
+            }
+            last.setRight(node);
+            this.root = AVLTree.rebalance(last);
+        } else {
+            BinaryNode<T> next = this.select(index);
+            if (next.getLeft() == null) {
+                next.setLeft(node);
+                this.root = AVLTree.rebalance(next);
+            } else {
+                BinaryNode<T> previous = next.getLeft();
+                while (previous.getRight() != null) {
+                    previous = previous.getRight();
+                }
+                previous.setRight(node);
+                this.root = AVLTree.rebalance(previous);
+            }
+        }
+        this.modCount++;
+
+        if (Verification.isFull()) {
+            Verification.ensure((this.size() == (oldSize + 1)) && (this.select(index).getElem() == elem));
+        }
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public void remove(Integer index) {
+        Verification.invariant(checkInvariant());
+        Verification.require(index != null && (index >= 0) && (index < this.size()));
+        int oldSize = this.size();
+
+        this.delete(this.select(index));
+
+        Verification.ensure(this.size() == (oldSize - 1));
+        Verification.invariant(checkInvariant());
+    }
+
+    @Override
+    public Integer indexOf(final T elem) {
+        Verification.require(elem != null);
+
+        int index = 0;
+        for (T curr : this) {
+            if (curr.equals(elem)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public Integer lastIndexOf(final T elem) {
+        Verification.require(elem != null);
+
+        ArrayStack<BinaryNode<T>> stack = new ArrayStack<>();
+        BinaryNode<T> node = this.root;
+        int index = this.size() - 1;
+
+        while (!stack.isEmpty() || node != null) {
+            if (node != null) {
+                stack.push(node);
+                node = node.getRight();
+            } else {
+                BinaryNode<T> curr = stack.peek();
+                stack.pop();
+                if (curr.getElem().equals(elem)) {
+                    return index;
+                }
+                index--;
+                node = curr.getLeft();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Boolean isEmpty() {
+        return this.root == null;
+    }
+
+    @Override
+    public Integer size() {
+        return this.root == null ? 0 : this.root.getSize();
+    }
+
+    public Integer height() {
+        return this.root == null ? 0 : this.root.getHeight();
+    }
+
+    @Override
+    public IList<T> deepCopy(UnaryOperator<T> copier) {
+        Verification.invariant(checkInvariant());
+        Verification.require(copier != null);
+
+        TreeList<T> deepCopy = new TreeList<>();
+        deepCopy.root = BinaryTree.copyNodes(this.root, elem -> {
+            T copy = copier.apply(elem);
+            Verification.require(copy != null, "The copier returned null");
+            return copy;
+        });
+
+        Verification.ensure(deepCopy.size().equals(this.size()));
+        Verification.invariant(deepCopy.checkInvariant());
+        return deepCopy;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeListIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.getClass().getName() + "[");
+
+        for (T elem : this) {
+            string.append(elem).append(", ");
+        }
+
+        string.append("]");
+        return string.toString();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) return true;
+
+        if (otherObject == null
+                || this.getClass() != otherObject.getClass())
+            return false;
+
+        TreeList<T> that = (TreeList<T>) otherObject;
+
+        if (!this.size().equals(that.size()))
+            return false;
+
+        Iterator<T> these = this.iterator();
+        Iterator<T> those = that.iterator();
+        while (these.hasNext()) {
+            if (!Objects.equals(these.next(), those.next()))
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 + this.size();
+        for (T elem : this) {
+            hash = 31 * hash + Objects.hashCode(elem);
+        }
+        return hash;
+    }
+
+    private BinaryNode<T> select(int index) {
+        BinaryNode<T> node = this.root;
+        while (true) {
+            int leftSize = node.getLeft() == null ? 0 : node.getLeft().getSize();
+            if (index < leftSize) {
+                node = node.getLeft();
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.getRight();
+            }
+        }
+    }
+
+    private void delete(BinaryNode<T> node) {
+        if (node.getLeft() != null && node.getRight() != null) {
+            BinaryNode<T> successor = node.getRight();
+            while (successor.getLeft() != null) {
+                successor = successor.getLeft();
+            }
+            node.setElem(successor.getElem());
+            node = successor;
+        }
+
+        BinaryNode<T> child = node.getLeft() != null ? node.getLeft() : node.getRight();
+        BinaryNode<T> parent = node.getParent();
+        node.setLeft(null);
+        node.setRight(null);
+
+        if (parent == null) {
+            this.root = child;
+        } else {
+            if (parent.getLeft() == node) {
+                parent.setLeft(child);
+            } else {
+                parent.setRight(child);
+            }
+            this.root = AVLTree.rebalance(parent);
+        }
+        this.modCount++;
+    }
+
+    private boolean checkInvariant() {
+        if (!Verification.isFull()) {
+            return true;
+        }
+        return this.root == null || (this.root.getParent() == null && this.root.isBalanced());
+    }
+
+    private class TreeListIterator implements Iterator<T> {
+
+        private ArrayStack<BinaryNode<T>> stack;
+        private int index;
+        private int lastReturned;
+        private int expectedModCount;
+
+        public TreeListIterator() {
+            this.stack = new ArrayStack<>();
+            this.index = 0;
+            this.lastReturned = -1;
+            this.expectedModCount = TreeList.this.modCount;
+            this.pushLeftPath(TreeList.this.root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.expectedModCount != TreeList.this.modCount)
+                throw new ConcurrentModificationException();
+
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            BinaryNode<T> curr = this.stack.peek();
+            this.stack.pop();
+            this.pushLeftPath(curr.getRight());
+
+            this.lastReturned = this.index;
+            this.index++;
+            return curr.getElem();
+        }
+
+        @Override
+        public void remove() {
+            if (this.expectedModCount != TreeList.this.modCount)
+                throw new ConcurrentModificationException();
+            if (this.lastReturned < 0)
+                throw new IllegalStateException();
+
+            TreeList.this.remove((Integer) this.lastReturned);
+            this.index = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedModCount = TreeList.this.modCount;
+            this.seek(this.index);
+        }
+
+        private void pushLeftPath(BinaryNode<T> node) {
+            while (node != null) {
+                this.stack.push(node);
+                node = node.getLeft();
+            }
+        }
+
+        /*
+         * Rebuilds the stack so the next element is the one at index: the nodes kept are the ones
+         * where the descent towards index turned left, plus the node at index itself.
+         */
+        private void seek(int index) {
+            this.stack = new ArrayStack<>();
+            BinaryNode<T> node = TreeList.this.root;
+            while (node != null) {
+                int leftSize = node.getLeft() == null ? 0 : node.getLeft().getSize();
+                if (index <= leftSize) {
+                    this.stack.push(node);
+                    if (index == leftSize) {
+                        return;
+                    }
+                    node = node.getLeft();
+                } else {
+                    index -= leftSize + 1;
+                    node = node.getRight();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.interfaces.IBinaryTree;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/*
+ * Position-wise merge: where both trees have a node the result holds combiner(first, second) and
+ * where only one of them has it the result takes that whole subtree. IN_PLACE reuses the nodes of
+ * the first tree and moves the unmatched subtrees of the second one into it, COPY leaves both trees
+ * untouched. Above the cutoff depth the two children of a matched node are merged in parallel;
+ * below it, and for trees under PARALLEL_THRESHOLD nodes, the merge walks an explicit stack.
+ */
+public final class TreeMerge {
+
+    public enum Mode {
+        IN_PLACE,
+        COPY
+    }
+
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private static final TreeMerge COMMON =
+            new TreeMerge(ForkJoinPool.commonPool(), ParallelTreeOps.DEFAULT_CUTOFF_DEPTH);
+
+    private final ForkJoinPool pool;
+    private final int cutoffDepth;
+
+    public TreeMerge(final ForkJoinPool pool, final int cutoffDepth) {
+        Verification.require(pool != null && cutoffDepth >= 0);
+        this.pool = pool;
+        this.cutoffDepth = cutoffDepth;
+    }
+
+    public static TreeMerge common() {
+        return COMMON;
+    }
+
+    public int getCutoffDepth() {
+        return this.cutoffDepth;
+    }
+
+    public ForkJoinPool getPool() {
+        return this.pool;
+    }
+
+    public <T> BinaryTree<T> merge(IBinaryTree<T> first, IBinaryTree<T> second, BinaryOperator<T> combiner) {
+        Verification.require(first != null && second != null && combiner != null);
+
+        BinaryTree<T> merged = new BinaryTree<>();
+        merged.setRoot(this.mergeNodes(BinaryTree.nodesOf(first), BinaryTree.nodesOf(second), combiner, false, false));
+        return merged;
+    }
+
+    public <T> BinaryTree<T> mergeAll(List<? extends IBinaryTree<T>> trees, BinaryOperator<T> combiner) {
+        Verification.require(trees != null && combiner != null);
+
+        BinaryNode<T> root = null;
+        for (int i = 0; i < trees.size(); i++) {
+            BinaryNode<T> next = BinaryTree.nodesOf(trees.get(i));
+            root = (i == 0) ? this.mergeNodes(next, null, combiner, false, false)
+                            : this.mergeNodes(root, next, combiner, true, false);
+        }
+
+        BinaryTree<T> merged = new BinaryTree<>();
+        merged.setRoot(root);
+        return merged;
+    }
+
+    /*
+     * reuseFirst keeps the nodes of first, otherwise every node of the result is new. stealSecond
+     * moves the subtrees found only in second, otherwise they are copied.
+     */
+    <T> BinaryNode<T> mergeNodes(BinaryNode<T> first, BinaryNode<T> second, BinaryOperator<T> combiner,
+                                 boolean reuseFirst, boolean stealSecond) {
+        if (first == null || second == null) {
+            return single(first, second, reuseFirst, stealSecond);
+        }
+        if (this.cutoffDepth == 0 || first.getSize() + second.getSize() < PARALLEL_THRESHOLD) {
+            return sequential(first, second, combiner, reuseFirst, stealSecond);
+        }
+        return this.pool.invoke(new MergeTask<>(first, second, combiner, reuseFirst, stealSecond, 0));
+    }
+
+    private static <T> BinaryNode<T> single(BinaryNode<T> first, BinaryNode<T> second,
+                                            boolean reuseFirst, boolean stealSecond) {
+        if (first != null) {
+            return reuseFirst ? first : BinaryTree.copyNodes(first, CopyStrategies.share());
+        }
+        if (!stealSecond) {
+            return BinaryTree.copyNodes(second, CopyStrategies.share());
+        }
+        // only the old parent is marked dirty, the second tree is emptied after an IN_PLACE merge
+        second.unlink(second.getParent());
+        return second;
+    }
+
+    private static <T> BinaryNode<T> sequential(BinaryNode<T> first, BinaryNode<T> second, BinaryOperator<T> combiner,
+                                                boolean reuseFirst, boolean stealSecond) {
+        BinaryNode<T> root = reuseFirst ? first : new BinaryNode<>();
+        ArrayStack<BinaryNode<T>> results = new ArrayStack<>();
+        ArrayStack<BinaryNode<T>> firsts = new ArrayStack<>();
+        ArrayStack<BinaryNode<T>> seconds = new ArrayStack<>();
+        results.push(root);
+        firsts.push(first);
+        seconds.push(second);
+
+        while (!results.isEmpty()) {
+            BinaryNode<T> result = results.peek();
+            BinaryNode<T> a = firsts.peek();
+            BinaryNode<T> b = seconds.peek();
+            results.pop();
+            firsts.pop();
+            seconds.pop();
+
+            result.setElem(combiner.apply(a.getElem(), b.getElem()), root);
+
+            BinaryNode<T> left = a.getLeft();
+            BinaryNode<T> otherLeft = b.getLeft();
+            if (left != null && otherLeft != null) {
+                BinaryNode<T> child = left;
+                if (!reuseFirst) {
+                    child = new BinaryNode<>();
+                    result.setLeft(child, root);
+                }
+                results.push(child);
+                firsts.push(left);
+                seconds.push(otherLeft);
+            } else if (left != null || otherLeft != null) {
+                BinaryNode<T> child = single(left, otherLeft, reuseFirst, stealSecond);
+                if (child != left) {
+                    result.setLeft(child, root);
+                }
+            }
+
+            BinaryNode<T> right = a.getRight();
+            BinaryNode<T> otherRight = b.getRight();
+            if (right != null && otherRight != null) {
+                BinaryNode<T> child = right;
+                if (!reuseFirst) {
+                    child = new BinaryNode<>();
+                    result.setRight(child, root);
+                }
+                results.push(child);
+                firsts.push(right);
+                seconds.push(otherRight);
+            } else if (right != null || otherRight != null) {
+                BinaryNode<T> child = single(right, otherRight, reuseFirst, stealSecond);
+                if (child != right) {
+                    result.setRight(child, root);
+                }
+            }
+        }
+
+        return root;
+    }
+
+    private final class MergeTask<T> extends RecursiveTask<BinaryNode<T>> {
+
+        private final BinaryNode<T> first;
+        private final BinaryNode<T> second;
+        private final BinaryOperator<T> combiner;
+        private final boolean reuseFirst;
+        private final boolean stealSecond;
+        private final int depth;
+
+        private MergeTask(final BinaryNode<T> first, final BinaryNode<T> second, final BinaryOperator<T> combiner,
+                          final boolean reuseFirst, final boolean stealSecond, final int depth) {
+            this.first = first;
+            this.second = second;
+            this.combiner = combiner;
+            this.reuseFirst = reuseFirst;
+            this.stealSecond = stealSecond;
+            this.depth = depth;
+        }
+
+        @Override
+        protected BinaryNode<T> compute() {
+            if (this.first == null || this.second == null) {
+                return single(this.first, this.second, this.reuseFirst, this.stealSecond);
+            }
+            if (this.depth >= TreeMerge.this.cutoffDepth) {
+                return sequential(this.first, this.second, this.combiner, this.reuseFirst, this.stealSecond);
+            }
+
+            MergeTask<T> leftTask = this.child(this.first.getLeft(), this.second.getLeft());
+            leftTask.fork();
+            BinaryNode<T> right = this.child(this.first.getRight(), this.second.getRight()).compute();
+            BinaryNode<T> left = leftTask.join();
+            T elem = this.combiner.apply(this.first.getElem(), this.second.getElem());
+
+            if (!this.reuseFirst) {
+                return new BinaryNode<>(elem, left, right);
+            }
+
+            this.first.setElem(elem, this.first);
+            if (left != this.first.getLeft()) {
+                this.first.setLeft(left, this.first);
+            }
+            if (right != this.first.getRight()) {
+                this.first.setRight(right, this.first);
+            }
+            if ((left != null && left.isDirty()) || (right != null && right.isDirty())) {
+                this.first.invalidate(this.first);
+            }
+            return this.first;
+        }
+
+        private MergeTask<T> child(BinaryNode<T> first, BinaryNode<T> second) {
+            return new MergeTask<>(first, second, this.combiner, this.reuseFirst, this.stealSecond, this.depth + 1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jalasoft.main;
+
+import com.jalasoft.integration.Verification;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/*
+ * The current version of a PersistentBinaryTree behind an AtomicReference. Readers take a
+ * snapshot in O(1) and keep reading it for as long as they like while writers publish new
+ * versions: an update applies a function to the current tree and retries on a lost
+ * compare-and-set, so the function must have no side effects. Every published version gets the
+ * next number.
+ */
+public final class VersionedBinaryTree<T> {
+
+    private final AtomicReference<Version<T>> current;
+
+    public VersionedBinaryTree() {
+        this(PersistentBinaryTree.empty());
+    }
+
+    public VersionedBinaryTree(final PersistentBinaryTree<T> initial) {
+        Verification.require(initial != null);
+        this.current = new AtomicReference<>(new Version<>(0, initial));
+    }
+
+    public PersistentBinaryTree<T> snapshot() {
+        return this.current.get().tree;
+    }
+
+    public long version() {
+        return this.current.get().number;
+    }
+
+    public PersistentBinaryTree<T> update(final UnaryOperator<PersistentBinaryTree<T>> change) {
+        Verification.require(change != null);
+
+        while (true) {
+            Version<T> old = this.current.get();
+            PersistentBinaryTree<T> tree = change.apply(old.tree);
+            Verification.require(tree != null, "The update returned null");
+            if (tree == old.tree || this.current.compareAndSet(old, new Version<>(old.number + 1, tree))) {
+                return tree;
+            }
+        }
+    }
+
+    /*
+     * Publishes next only if expected is still the current version.
+     */
+    public boolean compareAndSet(final PersistentBinaryTree<T> expected, final PersistentBinaryTree<T> next) {
+        Verification.require(expected != null && next != null);
+
+        Version<T> old = this.current.get();
+        return old.tree == expected
+                && this.current.compareAndSet(old, new Version<>(old.number + 1, next));
+    }
+
+    private static final class Version<T> {
+
+        final long number;
+        final PersistentBinaryTree<T> tree;
+
+        Version(final long number, final PersistentBinaryTree<T> tree) {
+            this.number = number;
+            this.tree = tree;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.AVLTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.TreeDiff;
+import com.jalasoft.main.TreeMerge;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AVLTreeTest
+{
+
+    @Test
+    public void testMatchesTreeSet() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(17L);
+
+        for (int i = 0; i < 5_000; i++) {
+            int elem = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(elem), tree.delete(elem));
+            } else {
+                assertEquals(expected.add(elem), tree.insert(elem));
+            }
+        }
+
+        assertEquals(expected.size(), (int) tree.size());
+        assertEquals(new ArrayList<>(expected), toList(tree.inorderView()));
+        assertTrue(tree.isBalanced());
+        assertTrue(tree.height() <= 1.45 * (Math.log(expected.size() + 2) / Math.log(2)));
+        for (int elem = -1; elem <= 2_000; elem += 7) {
+            assertEquals(expected.contains(elem), tree.contains(elem));
+            assertEquals(expected.floor(elem), tree.floor(elem));
+            assertEquals(expected.ceiling(elem), tree.ceiling(elem));
+        }
+        assertEquals(expected.first(), tree.first());
+        assertEquals(expected.last(), tree.last());
+    }
+
+    @Test
+    public void testSortedInsertionsStayShallow() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (int i = 0; i < 10_000; i++) {
+            tree.insert(i);
+        }
+        assertEquals(14, tree.height());
+        for (int i = 0; i < 10_000; i += 2) {
+            tree.delete(i);
+        }
+        assertEquals(5_000, (int) tree.size());
+        assertTrue(tree.isBalanced());
+        assertEquals(1, tree.first());
+    }
+
+    @Test
+    public void testRangeIsLazyAndInclusive() {
+        AVLTree<String> tree = new AVLTree<>(Comparator.reverseOrder());
+        for (String elem : List.of("a", "b", "c", "d", "e", "f")) {
+            tree.insert(elem);
+        }
+
+        assertEquals(List.of("e", "d", "c"), toList(tree.rangeView("e", "c")));
+        assertEquals(List.of(), toList(tree.rangeView("c", "e")));
+        assertEquals(List.of("f", "e", "d", "c", "b", "a"), toList(tree.rangeView("z", "0")));
+
+        Iterator<String> range = tree.range("b", "a");
+        assertEquals("b", range.next());
+        assertEquals("a", range.next());
+        assertFalse(range.hasNext());
+        Assertions.assertThrows(java.util.NoSuchElementException.class, range::next);
+        assertNull(tree.floor("z"));
+        assertEquals("a", tree.floor("0"));
+    }
+
+    @Test
+    public void testCopyAndMerge() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i);
+        }
+
+        IBinaryTree<Integer> copy = tree.deepCopy();
+        assertTrue(copy instanceof AVLTree);
+        ((AVLTree<Integer>) copy).delete(50);
+        assertTrue(tree.contains(50));
+        assertEquals(99, (int) copy.size());
+
+        IBinaryTree<Integer> merged = tree.mergetree(new BinaryTree<>(1_000), Integer::sum);
+        assertEquals(tree.getRoot().getElem() + 1_000, (int) merged.getRoot().getElem());
+
+        AVLTree<Integer> odds = new AVLTree<>();
+        for (int i = 1; i < 200; i += 2) {
+            odds.insert(i);
+        }
+        assertSame(tree, tree.mergetree(odds, Math::max, TreeMerge.Mode.IN_PLACE));
+        assertTrue(odds.isEmpty());
+        assertEquals(150, (int) tree.size());
+        assertTrue(tree.isBalanced());
+        assertEquals(199, tree.last());
+        BinaryTree<Integer> source = new BinaryTree<>(1);
+        source.getRoot().setLeft(new BinaryNode<>(300, null, null));
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> tree.mergetree(source, Integer::sum, TreeMerge.Mode.IN_PLACE));
+        assertEquals(150, (int) tree.size());
+        assertFalse(tree.contains(300));
+        assertEquals(2, (int) source.size());
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.insert(null));
+        Assertions.assertThrows(ContractViolationException.class, () -> new AVLTree<Integer>().first());
+    }
+
+    @Test
+    public void testChangesOutsideTheTreeAreNoticed() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (int i = 0; i < 50; i++) {
+            tree.insert(i);
+        }
+        AVLTree<Integer> before = (AVLTree<Integer>) tree.deepCopy();
+        tree.insert(100);
+        tree.delete(7);
+        TreeDiff.Patch<Integer> patch = TreeDiff.diff(before, tree);
+
+        before.apply(patch);
+        assertEquals(toList(tree.inorderView()), toList(before.inorderView()));
+        assertTrue(before.contains(100));
+
+        BinaryTree<Integer> shuffled = (BinaryTree<Integer>) tree.deepCopy(elem -> elem);
+        shuffled.getRoot().setElem(-1);
+        AVLTree<Integer> target = (AVLTree<Integer>) tree.deepCopy();
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> target.apply(TreeDiff.diff(tree, shuffled)));
+        assertEquals(tree, target);
+        assertTrue(target.contains(100));
+
+        tree.getRoot().getLeft().setLeft(null);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> tree.contains(1));
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> tree.insert(200));
+        tree.makeEmpty();
+        assertTrue(tree.insert(1));
+    }
+}
@@ -0,0 +1,110 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IList;
+import com.jalasoft.main.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ArrayListTest
+{
+
+    private IList<String> list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new ArrayList<>(2);
+    }
+
+    @Test
+    public void testConstructorEnsuresListIsEmpty() {
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void testConstructorPrecondition() {
+        Assertions.assertThrows(ContractViolationException.class, () -> new ArrayList<String>(-1));
+    }
+
+    @Test
+    public void testAddGrowsPastCapacity() {
+        for (int i = 0; i < 100; i++) {
+            list.addLast("e" + i);
+        }
+        assertEquals(100, list.size());
+        assertEquals("e0", list.getFirst());
+        assertEquals("e99", list.getLast());
+        assertEquals("e42", list.get(42));
+    }
+
+    @Test
+    public void testPositionalOperations() {
+        list.addLast("b");
+        list.addFirst("a");
+        list.addLast("d");
+        list.add(2, "c");
+        assertEquals("com.jalasoft.main.ArrayList[a, b, c, d, ]", list.toString());
+
+        list.set(1, "B");
+        list.remove((Integer) 2);
+        list.removeFirst();
+        list.removeLast();
+        assertEquals("com.jalasoft.main.ArrayList[B, ]", list.toString());
+    }
+
+    @Test
+    public void testSearchAndRemoveByElement() {
+        list.addLast("x");
+        list.addLast("y");
+        list.addLast("x");
+        assertTrue(list.contains("y"));
+        assertEquals(0, list.indexOf("x"));
+        assertEquals(2, list.lastIndexOf("x"));
+        assertEquals(-1, list.indexOf("z"));
+
+        list.remove("x");
+        assertEquals("com.jalasoft.main.ArrayList[y, x, ]", list.toString());
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testPreconditions() {
+        Assertions.assertThrows(ContractViolationException.class, () -> list.getFirst());
+        Assertions.assertThrows(ContractViolationException.class, () -> list.get(0));
+        Assertions.assertThrows(ContractViolationException.class, () -> list.addLast(null));
+        Assertions.assertThrows(ContractViolationException.class, () -> list.add(1, "a"));
+    }
+
+    @Test
+    public void testIteratorRemoveAndFailFast() {
+        list.addLast("a");
+        list.addLast("b");
+        list.addLast("c");
+
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals("com.jalasoft.main.ArrayList[b, c, ]", list.toString());
+
+        Iterator<String> stale = list.iterator();
+        list.addLast("d");
+        Assertions.assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+
+    @Test
+    public void testEqualsHashCodeAndDeepCopy() {
+        list.addLast("a");
+        list.addLast("b");
+        IList<String> copy = list.deepCopy();
+        assertEquals(list, copy);
+        assertEquals(list.hashCode(), copy.hashCode());
+        assertEquals("a,b", list.stream().collect(Collectors.joining(",")));
+    }
+}
@@ -0,0 +1,98 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IQueue;
+import com.jalasoft.interfaces.IStack;
+import com.jalasoft.main.ArrayQueue;
+import com.jalasoft.main.ArrayStack;
+import com.jalasoft.main.LinkedQueue;
+import com.jalasoft.main.LinkedStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ArrayStackQueueTest
+{
+
+    @Test
+    public void testStackBehavesLikeLinkedStack() {
+        IStack<Integer> array = new ArrayStack<>(1);
+        IStack<Integer> linked = new LinkedStack<>();
+        for (int i = 0; i < 50; i++) {
+            array.push(i);
+            linked.push(i);
+            if (i % 3 == 0) {
+                array.pop();
+                linked.pop();
+            }
+        }
+        assertEquals(linked.size(), array.size());
+        assertEquals(linked.toString().replace("Linked", "Array"), array.toString());
+        while (!linked.isEmpty()) {
+            assertEquals(linked.peek(), array.peek());
+            linked.pop();
+            array.pop();
+        }
+        assertTrue(array.isEmpty());
+    }
+
+    @Test
+    public void testStackPreconditions() {
+        IStack<Integer> stack = new ArrayStack<>();
+        Assertions.assertThrows(ContractViolationException.class, stack::pop);
+        Assertions.assertThrows(ContractViolationException.class, stack::peek);
+        Assertions.assertThrows(ContractViolationException.class, () -> stack.push(null));
+    }
+
+    @Test
+    public void testQueueWrapsAroundAndGrows() {
+        IQueue<Integer> array = new ArrayQueue<>(4);
+        IQueue<Integer> linked = new LinkedQueue<>();
+        for (int i = 0; i < 100; i++) {
+            array.enqueue(i);
+            linked.enqueue(i);
+            if (i % 2 == 0) {
+                array.dequeue();
+                linked.dequeue();
+            }
+        }
+        assertEquals(linked.size(), array.size());
+        assertEquals(linked.toString().replace("Linked", "Array"), array.toString());
+        while (!linked.isEmpty()) {
+            assertEquals(linked.front(), array.front());
+            linked.dequeue();
+            array.dequeue();
+        }
+        assertTrue(array.isEmpty());
+    }
+
+    @Test
+    public void testQueuePreconditions() {
+        IQueue<Integer> queue = new ArrayQueue<>(0);
+        Assertions.assertThrows(ContractViolationException.class, queue::dequeue);
+        Assertions.assertThrows(ContractViolationException.class, queue::front);
+        queue.enqueue(1);
+        assertEquals(1, queue.front());
+    }
+
+    @Test
+    public void testEqualsAndDeepCopy() {
+        IStack<String> stack = new ArrayStack<>();
+        stack.push("a");
+        stack.push("b");
+        assertEquals(stack, stack.deepCopy());
+        assertEquals(stack.hashCode(), stack.deepCopy().hashCode());
+
+        IQueue<String> queue = new ArrayQueue<>(2);
+        queue.enqueue("a");
+        queue.dequeue();
+        queue.enqueue("b");
+        queue.enqueue("c");
+        IQueue<String> other = new ArrayQueue<>();
+        other.enqueue("b");
+        other.enqueue("c");
+        assertEquals(other, queue);
+        assertEquals(other.hashCode(), queue.hashCode());
+        assertEquals(queue, queue.deepCopy());
+    }
+}
@@ -1,11 +1,19 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.jalasoft.benchmark.TreeShapes;
 import com.jalasoft.integration.exceptions.ContractViolationException;
 import com.jalasoft.interfaces.IBinaryTree;
 import com.jalasoft.interfaces.IList;
 import com.jalasoft.main.BinaryNode;
 import com.jalasoft.main.BinaryTree;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -161,7 +169,7 @@ public class BinaryTreeTest
         IList<Integer> list = tree.preorder();
         assertTrue(list.size() >= 0);
         String result =
-            list.toString().replaceFirst("com.jalasoft.main.LinkedList", "");
+            list.toString().replaceFirst("com.jalasoft.main.ArrayList", "");
         assertEquals("[1, 2, 4, 5, 3, ]", result);
     }
 
@@ -171,7 +179,7 @@ public class BinaryTreeTest
         IList<Integer> list = tree.inorder();
         assertTrue(list.size() >= 0);
         String result =
-            list.toString().replaceFirst("com.jalasoft.main.LinkedList", "");
+            list.toString().replaceFirst("com.jalasoft.main.ArrayList", "");
         assertEquals("[4, 2, 5, 1, 3, ]", result);
     }
 
@@ -181,7 +189,7 @@ public class BinaryTreeTest
         IList<Integer> list = tree.postorder();
         assertTrue(list.size() >= 0);
         String result =
-            list.toString().replaceFirst("com.jalasoft.main.LinkedList", "");
+            list.toString().replaceFirst("com.jalasoft.main.ArrayList", "");
         assertEquals("[4, 5, 2, 3, 1, ]", result);
     }
 
@@ -191,7 +199,7 @@ public class BinaryTreeTest
         IList<Integer> list = tree.preorder();
         assertTrue(list.size() >= 0);
         String result =
-            list.toString().replaceFirst("com.jalasoft.main.LinkedList", "");
+            list.toString().replaceFirst("com.jalasoft.main.ArrayList", "");
         assertEquals("[1, 2, 4, 7, 5, 3, ]", result);
     }
 
@@ -201,7 +209,7 @@ public class BinaryTreeTest
         IList<Integer> list = tree.inorder();
         assertTrue(list.size() >= 0);
         String result =
-            list.toString().replaceFirst("com.jalasoft.main.LinkedList", "");
+            list.toString().replaceFirst("com.jalasoft.main.ArrayList", "");
         assertEquals("[4, 7, 2, 5, 1, 3, ]", result);
     }
 
@@ -211,7 +219,7 @@ public class BinaryTreeTest
         IList<Integer> list = tree.postorder();
         assertTrue(list.size() >= 0);
         String result =
-            list.toString().replaceFirst("com.jalasoft.main.LinkedList", "");
+            list.toString().replaceFirst("com.jalasoft.main.ArrayList", "");
         assertEquals("[7, 4, 5, 2, 3, 1, ]", result);
     }
 
@@ -221,7 +229,7 @@ public class BinaryTreeTest
         IList<Integer> list = tree.levelorder();
         assertTrue(list.size() >= 0);
         String result =
-            list.toString().replaceFirst("com.jalasoft.main.LinkedList", "");
+            list.toString().replaceFirst("com.jalasoft.main.ArrayList", "");
         assertEquals("[1, 2, 3, 4, 5, ]", result);
     }
 
@@ -234,6 +242,237 @@ public class BinaryTreeTest
         assertTrue(tree.equals(clone));
     }
 
+    @Test
+    public void testMetricsFollowMutations() {
+        tree = makeTree();
+        assertEquals(5, tree.size());
+        assertEquals(3, tree.height());
+        assertEquals(3, tree.leaves());
+
+        BinaryNode<Integer> four = tree.getLeftChild().getLeft();
+        four.setLeft(new BinaryNode<>(6, new BinaryNode<>(7, null, null), null));
+        assertEquals(7, tree.size());
+        assertEquals(5, tree.height());
+        assertEquals(3, tree.leaves());
+        assertTrue(!tree.isBalanced());
+
+        tree.getLeftChild().setLeft(null);
+        assertEquals(4, tree.size());
+        assertEquals(3, tree.height());
+        assertEquals(2, tree.leaves());
+        assertTrue(tree.isBalanced());
+    }
+
+    @Test
+    public void testNodeHangsFromOneParent() {
+        BinaryNode<Integer> shared = new BinaryNode<>(1, null, null);
+        BinaryNode<Integer> first = new BinaryNode<>(2, shared, null);
+        BinaryNode<Integer> second = new BinaryNode<>(3, null, null);
+
+        Assertions.assertThrows(ContractViolationException.class, () -> second.setLeft(shared));
+        Assertions.assertThrows(ContractViolationException.class, () -> new BinaryNode<>(4, null, shared));
+        assertEquals(null, second.getLeft());
+
+        first.setRight(shared);
+        first.setLeft(null);
+        assertEquals(first, shared.getParent());
+        first.setRight(null);
+        second.setLeft(shared);
+        shared.setLeft(new BinaryNode<>(5, null, null));
+        assertEquals(1, first.getSize());
+        assertEquals(3, second.getSize());
+    }
+
+    @Test
+    public void testMetricsOnDeepSkewedTree() {
+        tree = new BinaryTree<>(0);
+        BinaryNode<Integer> last = tree.getRoot();
+        for (int i = 1; i < 200_000; i++) {
+            BinaryNode<Integer> next = new BinaryNode<>(i, null, null);
+            last.setLeft(next);
+            last = next;
+        }
+        assertEquals(200_000, tree.size());
+        assertEquals(200_000, tree.height());
+        assertEquals(1, tree.leaves());
+        assertTrue(!tree.isBalanced());
+        assertEquals(199_999, tree.getLeftChild().getSize());
+    }
+
+    @Test
+    public void testTraversalsPastRecursionBudget() {
+        tree = makeZigzagTree(3_000);
+        List<Integer> pre = new ArrayList<>();
+        List<Integer> in = new ArrayList<>();
+        List<Integer> post = new ArrayList<>();
+        collect(tree.getRoot(), pre, in, post);
+
+        assertEquals(pre, toList(tree.preorder()));
+        assertEquals(in, toList(tree.inorder()));
+        assertEquals(post, toList(tree.postorder()));
+    }
+
+    @Test
+    public void testIteratorsMatchTraversals() {
+        for (IBinaryTree<Integer> sample : List.of(makeTree(), makeAnotherTree(), makeZigzagTree(3_000))) {
+            assertEquals(toList(sample.preorder()), toList(sample.preorderView()));
+            assertEquals(toList(sample.inorder()), toList(sample.inorderView()));
+            assertEquals(toList(sample.postorder()), toList(sample.postorderView()));
+            assertEquals(toList(sample.levelorder()), toList(sample.levelorderView()));
+        }
+    }
+
+    @Test
+    public void testIteratorStopsEarly() {
+        tree = makeZigzagTree(3_000);
+        Iterator<Integer> iterator = tree.inorderIterator();
+        List<Integer> firstThree = new ArrayList<>();
+        while (firstThree.size() < 3 && iterator.hasNext()) {
+            firstThree.add(iterator.next());
+        }
+        assertEquals(toList(tree.inorder()).subList(0, 3), firstThree);
+    }
+
+    @Test
+    public void testIteratorsOnEmptyTree() {
+        assertTrue(!tree.preorderIterator().hasNext());
+        assertTrue(!tree.inorderIterator().hasNext());
+        assertTrue(!tree.postorderIterator().hasNext());
+        assertTrue(!tree.levelorderIterator().hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, () -> tree.inorderIterator().next());
+    }
+
+    @Test
+    public void testMorrisTraversalsMatchAndRestoreTree() {
+        BinaryTree<Integer> sample = (BinaryTree<Integer>) makeZigzagTree(3_000);
+        List<Integer> pre = toList(sample.preorder());
+        List<Integer> in = toList(sample.inorder());
+
+        List<Integer> morrisPre = new ArrayList<>();
+        sample.morrisPreorder(morrisPre::add);
+        List<Integer> morrisIn = new ArrayList<>();
+        sample.morrisInorder(morrisIn::add);
+
+        assertEquals(pre, morrisPre);
+        assertEquals(in, morrisIn);
+        assertEquals(pre, toList(sample.preorder()));
+        assertEquals(in, toList(sample.inorder()));
+        assertEquals(6_000 - 1, sample.size());
+    }
+
+    @Test
+    public void testMorrisTraversalMode() {
+        BinaryTree<Integer> sample = (BinaryTree<Integer>) makeAnotherTree();
+        sample.setTraversalMode(BinaryTree.TraversalMode.MORRIS);
+        assertEquals(List.of(1, 2, 4, 7, 5, 3), toList(sample.preorder()));
+        assertEquals(List.of(4, 7, 2, 5, 1, 3), toList(sample.inorder()));
+        assertEquals(List.of(7, 4, 5, 2, 3, 1), toList(sample.postorder()));
+    }
+
+    @Test
+    public void testMorrisTraversalHidesItsThreadsAndRestoresOnFailure() {
+        BinaryTree<Integer> sample = (BinaryTree<Integer>) makeAnotherTree();
+        List<Integer> before = toList(sample.inorder());
+        List<Integer> levels = toList(sample.levelorder());
+
+        Iterator<Integer> started = sample.inorderIterator();
+        started.next();
+        List<Integer> seen = new ArrayList<>();
+        sample.morrisInorder(elem -> {
+            assertEquals(6, sample.size());
+            assertEquals(levels, toList(sample.levelorder()));
+            if (started.hasNext()) {
+                seen.add(started.next());
+            }
+        });
+        assertEquals(before.subList(1, before.size()), seen);
+
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> {
+            sample.morrisInorder(elem -> sample.morrisPreorder(other -> { }));
+        });
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> {
+            sample.morrisPreorder(elem -> sample.makeEmpty());
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            sample.morrisPreorder(elem -> {
+                throw new IllegalStateException();
+            });
+        });
+
+        assertEquals(before, toList(sample.inorder()));
+        assertEquals(6, sample.size());
+    }
+
+    @Test
+    public void testStreamFollowsInorder() {
+        for (IBinaryTree<Integer> sample : List.of(makeTree(), makeAnotherTree(), makeZigzagTree(3_000))) {
+            assertEquals(toList(sample.inorder()), sample.stream().collect(Collectors.toList()));
+            assertEquals(toList(sample.inorder()), sample.parallelStream().collect(Collectors.toList()));
+        }
+        assertEquals(0, tree.stream().count());
+    }
+
+    @Test
+    public void testParallelStreamOnLargeTree() {
+        tree = TreeShapes.RANDOM.tree(200_000, 11L);
+        long expected = tree.stream().mapToLong(Integer::longValue).sum();
+        assertEquals(expected, tree.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(toList(tree.inorderView()), tree.parallelStream().collect(Collectors.toList()));
+        assertEquals(200_000, tree.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testSpliteratorSplitsIntoSizedParts() {
+        tree = TreeShapes.COMPLETE.tree(100_000, 0L);
+        Spliterator<Integer> suffix = tree.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertTrue(prefix != null);
+        assertEquals(100_000, prefix.estimateSize() + suffix.estimateSize());
+        assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED));
+
+        List<Integer> elems = new ArrayList<>();
+        prefix.forEachRemaining(elems::add);
+        suffix.forEachRemaining(elems::add);
+        assertEquals(toList(tree.inorderView()), elems);
+    }
+
+    private IBinaryTree<Integer> makeZigzagTree(int depth) {
+        IBinaryTree<Integer> tree = new BinaryTree<>(0);
+        BinaryNode<Integer> last = tree.getRoot();
+        for (int i = 1; i < depth; i++) {
+            BinaryNode<Integer> next = new BinaryNode<>(2 * i, null, null);
+            BinaryNode<Integer> leaf = new BinaryNode<>(2 * i + 1, null, null);
+            if (i % 2 == 0) {
+                last.setLeft(next);
+                last.setRight(leaf);
+            } else {
+                last.setLeft(leaf);
+                last.setRight(next);
+            }
+            last = next;
+        }
+        return tree;
+    }
+
+    private void collect(BinaryNode<Integer> node, List<Integer> pre, List<Integer> in, List<Integer> post) {
+        if (node == null) {
+            return;
+        }
+        pre.add(node.getElem());
+        collect(node.getLeft(), pre, in, post);
+        in.add(node.getElem());
+        collect(node.getRight(), pre, in, post);
+        post.add(node.getElem());
+    }
+
+    private List<Integer> toList(Iterable<Integer> list) {
+        List<Integer> result = new ArrayList<>();
+        for (Integer elem : list) {
+            result.add(elem);
+        }
+        return result;
+    }
+
     private IBinaryTree<Integer> makeAnotherTree() {
         IBinaryTree<Integer> tree = new BinaryTree<>(1);
 
@@ -0,0 +1,131 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IList;
+import com.jalasoft.main.AVLTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.CachingBinaryTree;
+import com.jalasoft.main.TreeMerge;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CachingBinaryTreeTest
+{
+
+    private static CachingBinaryTree<Integer> makeTree() {
+        CachingBinaryTree<Integer> tree = new CachingBinaryTree<>(1);
+        tree.getRoot().setLeft(new BinaryNode<>(2, new BinaryNode<>(4, null, null), new BinaryNode<>(5, null, null)));
+        tree.getRoot().setRight(new BinaryNode<>(3, null, null));
+        return tree;
+    }
+
+    @Test
+    public void testModCountFollowsEveryMutation() {
+        BinaryTree<Integer> tree = TreeShapes.RANDOM.tree(500, 42L);
+        long last = tree.getModCount();
+        assertEquals(last, tree.getModCount());
+
+        BinaryNode<Integer> deep = tree.getRoot();
+        while (deep.getLeft() != null) {
+            deep = deep.getLeft();
+        }
+        deep.setElem(-5);
+        last = assertGrew(tree, last);
+        deep.setLeft(new BinaryNode<>(-6, null, null));
+        last = assertGrew(tree, last);
+        deep.setLeft(null);
+        last = assertGrew(tree, last);
+
+        tree.mergetree(TreeShapes.COMPLETE.tree(10, 1L), Integer::sum, TreeMerge.Mode.IN_PLACE);
+        last = assertGrew(tree, last);
+        tree.makeEmpty();
+        last = assertGrew(tree, last);
+        assertEquals(last, tree.getModCount());
+
+        AVLTree<Integer> avl = new AVLTree<>();
+        last = avl.getModCount();
+        for (int i = 0; i < 100; i++) {
+            avl.insert(i);
+            last = assertGrew(avl, last);
+        }
+        avl.delete(50);
+        assertGrew(avl, last);
+    }
+
+    @Test
+    public void testUnchangedTreeServesTheSameSnapshots() {
+        CachingBinaryTree<Integer> tree = makeTree();
+
+        IList<Integer> inorder = tree.inorder();
+        assertEquals(List.of(4, 2, 5, 1, 3), toList(inorder));
+        assertSame(inorder, tree.inorder());
+        assertSame(tree.preorder(), tree.preorder());
+        assertSame(tree.postorder(), tree.postorder());
+        assertSame(tree.levelorder(), tree.levelorder());
+        assertSame(tree.toString(), tree.toString());
+        assertEquals(5, (int) tree.size());
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> inorder.addLast(9));
+        Assertions.assertThrows(UnsupportedOperationException.class, inorder::removeFirst);
+        Iterator<Integer> iterator = inorder.iterator();
+        iterator.next();
+        Assertions.assertThrows(UnsupportedOperationException.class, iterator::remove);
+        IList<Integer> copy = inorder.deepCopy(elem -> elem);
+        copy.addLast(9);
+        assertEquals(6, (int) copy.size());
+        assertEquals(5, (int) inorder.size());
+    }
+
+    @Test
+    public void testMutationsThroughNodesInvalidate() {
+        CachingBinaryTree<Integer> tree = makeTree();
+        IList<Integer> before = tree.levelorder();
+        int hash = tree.hashCode();
+        String string = tree.toString();
+
+        tree.getLeftChild().getRight().setElem(50);
+        assertNotSame(before, tree.levelorder());
+        assertEquals(List.of(1, 2, 3, 4, 50), toList(tree.levelorder()));
+        assertNotEquals(hash, tree.hashCode());
+        assertNotEquals(string, tree.toString());
+
+        tree.getRightChild().setLeft(new BinaryNode<>(6, null, null));
+        assertEquals(List.of(4, 2, 50, 1, 6, 3), toList(tree.inorder()));
+        assertEquals(6, (int) tree.size());
+        assertEquals(List.of(1, 2, 4, 50, 3, 6), toList(tree.preorder()));
+
+        tree.setTraversalMode(BinaryTree.TraversalMode.MORRIS);
+        tree.getRoot().setRight(null);
+        assertEquals(List.of(4, 2, 50, 1), toList(tree.inorder()));
+    }
+
+    @Test
+    public void testEqualsAndCopies() {
+        CachingBinaryTree<Integer> tree = makeTree();
+        IBinaryTree<Integer> copy = tree.deepCopy(elem -> elem);
+
+        assertTrue(copy instanceof CachingBinaryTree);
+        assertEquals(tree, copy);
+        assertEquals(tree.hashCode(), copy.hashCode());
+
+        copy.getRoot().setElem(10);
+        assertNotEquals(tree, copy);
+        copy.getRoot().setElem(1);
+        assertEquals(tree, copy);
+    }
+
+    private static long assertGrew(BinaryTree<?> tree, long last) {
+        long now = tree.getModCount();
+        assertTrue(now > last, now + " after " + last);
+        return now;
+    }
+}
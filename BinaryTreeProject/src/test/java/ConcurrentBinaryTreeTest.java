@@ -0,0 +1,200 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.CachingBinaryTree;
+import com.jalasoft.main.ConcurrentBinaryTree;
+import com.jalasoft.main.TreeMerge;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentBinaryTreeTest
+{
+
+    private static final int THREADS = 4;
+
+    @Test
+    public void testTraversalsOfOneTreeAreReentrant() throws Exception {
+        for (TreeShapes shape : List.of(TreeShapes.RANDOM, TreeShapes.LEFT_SKEWED)) {
+            BinaryTree<Integer> tree = shape.tree(1_200, 42L);
+            List<Integer> preorder = toList(tree.preorder());
+            List<Integer> inorder = toList(tree.inorder());
+            List<Integer> postorder = toList(tree.postorder());
+            List<Integer> levelorder = toList(tree.levelorder());
+
+            runAll(() -> {
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(preorder, toList(tree.preorder()));
+                    assertEquals(inorder, toList(tree.inorder()));
+                    assertEquals(postorder, toList(tree.postorder()));
+                    assertEquals(levelorder, toList(tree.levelorder()));
+                }
+                return null;
+            });
+        }
+    }
+
+    @Test
+    public void testReadersShareTheCachesOfACachingTree() throws Exception {
+        CachingBinaryTree<Integer> caching = new CachingBinaryTree<>(0);
+        caching.getRoot().setLeft(TreeShapes.RANDOM.build(500, 3L));
+        ConcurrentBinaryTree<Integer> tree = new ConcurrentBinaryTree<>(caching);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS - 1; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 300; i++) {
+                    tree.read(snapshot -> {
+                        int size = snapshot.size();
+                        assertEquals(size, snapshot.preorder().size());
+                        assertEquals(size, snapshot.inorder().size());
+                        assertEquals(size, snapshot.levelorder().size());
+                        assertTrue(snapshot.toString().startsWith(CachingBinaryTree.class.getName()));
+                        return size;
+                    });
+                }
+            }));
+        }
+
+        futures.add(executor.submit(() -> {
+            for (int i = 0; i < 300; i++) {
+                int elem = i;
+                tree.write(snapshot -> snapshot.getRoot().setRight(
+                        elem % 2 == 0 ? new BinaryNode<>(elem, null, null) : null));
+            }
+        }));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(501, (int) tree.size());
+        assertEquals(caching.inorder().toString(), tree.inorder().toString());
+    }
+
+    @Test
+    public void testReadersSeeWholeWrites() throws Exception {
+        BinaryTree<Integer> complete = new BinaryTree<>(0);
+        complete.getRoot().setLeft(TreeShapes.COMPLETE.build(127, 1L));
+        complete.getRoot().setRight(TreeShapes.COMPLETE.build(127, 2L));
+        ConcurrentBinaryTree<Integer> tree = new ConcurrentBinaryTree<>(complete);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS - 1; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    int size = tree.size();
+                    assertTrue(size == 255 || size == 257, "size " + size);
+                    int height = tree.height();
+                    assertTrue(height == 8 || height == 10, "height " + height);
+                    int traversed = tree.read(snapshot -> {
+                        assertEquals(snapshot.size(), snapshot.inorder().size());
+                        return snapshot.size();
+                    });
+                    assertTrue(traversed == 255 || traversed == 257);
+                }
+            }));
+        }
+
+        futures.add(executor.submit(() -> {
+            for (int i = 0; i < 500; i++) {
+                boolean grow = i % 2 == 0;
+                tree.write(snapshot -> {
+                    BinaryNode<Integer> node = snapshot.getRoot();
+                    while (node.getLeft() != null) {
+                        node = node.getLeft();
+                    }
+                    if (grow) {
+                        node.setLeft(new BinaryNode<>(-1, null, null));
+                        node.getLeft().setLeft(new BinaryNode<>(-2, null, null));
+                    } else {
+                        BinaryNode<Integer> parent = node.getParent();
+                        BinaryNode<Integer> leaf = parent.getParent();
+                        parent.setLeft(null);
+                        leaf.setLeft(null);
+                    }
+                });
+            }
+        }));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(255, (int) tree.size());
+        assertTrue(tree.isBalanced());
+    }
+
+    @Test
+    public void testMorrisTreesCanBeSharedToo() throws Exception {
+        BinaryTree<Integer> morris = TreeShapes.RANDOM.tree(1_000, 7L);
+        morris.setTraversalMode(BinaryTree.TraversalMode.MORRIS);
+        List<Integer> inorder = toList(morris.inorder());
+        ConcurrentBinaryTree<Integer> tree = new ConcurrentBinaryTree<>(morris);
+
+        runAll(() -> {
+            for (int i = 0; i < 5; i++) {
+                assertEquals(inorder, toList(tree.inorder()));
+                assertEquals(inorder.size(), (int) tree.size());
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testWritesThroughTheWrapper() {
+        ConcurrentBinaryTree<Integer> first = new ConcurrentBinaryTree<>(TreeShapes.COMPLETE.tree(7, 42L));
+        ConcurrentBinaryTree<Integer> second = new ConcurrentBinaryTree<>(TreeShapes.COMPLETE.tree(7, 42L));
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        IBinaryTree<Integer> copy = first.mergetree(second, Integer::sum);
+        assertEquals(List.of(-2, 0, 2, 4, 6, 8, 10), toList(copy.levelorder()));
+        assertEquals(7, (int) second.size());
+
+        first.mergetree(second, Integer::sum, TreeMerge.Mode.IN_PLACE);
+        assertEquals(List.of(-2, 0, 2, 4, 6, 8, 10), toList(first.levelorder()));
+        assertTrue(second.isEmpty());
+        assertEquals(0, (int) second.height());
+
+        IBinaryTree<Integer> deepCopy = first.deepCopy(elem -> elem);
+        assertTrue(deepCopy instanceof ConcurrentBinaryTree);
+        first.makeEmpty();
+        assertTrue(first.isEmpty());
+        assertEquals(7, (int) deepCopy.size());
+        assertEquals(List.of(-2, 0, 2, 4, 6, 8, 10), toList(deepCopy.levelorderView()));
+
+        Assertions.assertThrows(ContractViolationException.class, () -> new ConcurrentBinaryTree<>(first));
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> first.mergetree(first, Integer::sum, TreeMerge.Mode.IN_PLACE));
+    }
+
+    private static void runAll(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(task));
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
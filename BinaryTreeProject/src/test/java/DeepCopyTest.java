@@ -0,0 +1,116 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IList;
+import com.jalasoft.interfaces.IQueue;
+import com.jalasoft.interfaces.IStack;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.CopyStrategies;
+import com.jalasoft.main.LinkedList;
+import com.jalasoft.main.LinkedQueue;
+import com.jalasoft.main.LinkedStack;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DeepCopyTest
+{
+
+    @Test
+    public void testDeepSkewedTreeIsCopied() {
+        for (TreeShapes shape : List.of(TreeShapes.LEFT_SKEWED, TreeShapes.ZIGZAG)) {
+            BinaryTree<Integer> tree = shape.tree(10_000, 1L);
+            IBinaryTree<Integer> copy = tree.deepCopy();
+
+            assertEquals(10_000, (int) copy.size());
+            assertEquals(tree.height(), copy.height());
+            assertEquals(tree.getRoot().getLeft().getLeft().getElem(), copy.getRoot().getLeft().getLeft().getElem());
+            assertNotSame(tree.getRoot().getLeft(), copy.getRoot().getLeft());
+        }
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        BinaryTree<Integer> tree = TreeShapes.RANDOM.tree(500, 9L);
+        IBinaryTree<Integer> copy = tree.deepCopy();
+        assertEquals(tree, copy);
+
+        copy.getRoot().setRight(new BinaryNode<>(1_000, null, null));
+        copy.getRoot().getLeft().setElem(-5);
+
+        assertEquals(500, (int) tree.size());
+        assertEquals(501, (int) copy.size());
+        assertTrue(tree.getRoot().getLeft().getElem() != -5);
+    }
+
+    @Test
+    public void testStrategies() {
+        BinaryTree<List<Integer>> tree = new BinaryTree<>(new ArrayList<>(List.of(1)));
+        tree.getRoot().setLeft(new BinaryNode<>(new ArrayList<>(List.of(2)), null, null));
+
+        IBinaryTree<List<Integer>> shared = tree.deepCopy(CopyStrategies.share());
+        IBinaryTree<List<Integer>> deep = tree.deepCopy();
+        IBinaryTree<List<Integer>> custom = tree.deepCopy(elem -> List.of(elem.get(0) * 10));
+
+        assertSame(tree.getRoot().getElem(), shared.getRoot().getElem());
+        assertNotSame(tree.getRoot().getElem(), deep.getRoot().getElem());
+        assertEquals(tree.getRoot().getLeft().getElem(), deep.getRoot().getLeft().getElem());
+        assertEquals(List.of(20), custom.getRoot().getLeft().getElem());
+
+        Integer boxed = 1_000_000;
+        assertSame(boxed, new BinaryTree<>(boxed).deepCopy().getRoot().getElem());
+    }
+
+    @Test
+    public void testCopyFailuresAreReported() {
+        BinaryTree<Object> tree = new BinaryTree<>(new Object());
+        Assertions.assertThrows(IllegalArgumentException.class, tree::deepCopy);
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.deepCopy(null));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.deepCopy(elem -> null));
+        BinaryTree<Object> holes = new BinaryTree<>(1);
+        holes.getRoot().setLeft(new BinaryNode<>());
+        assertEquals(2, holes.deepCopy(elem -> elem).size());
+
+        IList<String> list = new LinkedList<>();
+        list.addLast("a");
+        Assertions.assertThrows(ContractViolationException.class, () -> list.deepCopy(elem -> null));
+    }
+
+    @Test
+    public void testLinkedStructures() {
+        IList<String> list = new LinkedList<>();
+        IQueue<String> queue = new LinkedQueue<>();
+        IStack<String> stack = new LinkedStack<>();
+        for (String elem : List.of("a", "b", "c")) {
+            list.addLast(elem);
+            queue.enqueue(elem);
+            stack.push(elem);
+        }
+
+        IList<String> listCopy = list.deepCopy();
+        IQueue<String> queueCopy = queue.deepCopy();
+        IStack<String> stackCopy = stack.deepCopy(String::toUpperCase);
+
+        assertEquals(list, listCopy);
+        assertEquals(queue, queueCopy);
+        assertEquals("C", stackCopy.peek());
+        assertEquals(3, (int) stackCopy.size());
+
+        listCopy.removeFirst();
+        queueCopy.dequeue();
+        stackCopy.pop();
+        assertEquals("a", list.getFirst());
+        assertEquals("a", queue.front());
+        assertEquals("c", stack.peek());
+        assertEquals("B", stackCopy.peek());
+        queueCopy.enqueue("d");
+        assertEquals(3, (int) queueCopy.size());
+    }
+}
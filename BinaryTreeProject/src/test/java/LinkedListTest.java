@@ -0,0 +1,57 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.interfaces.IList;
+import com.jalasoft.main.LinkedList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LinkedListTest
+{
+
+    private IList<Integer> list;
+
+    @BeforeEach
+    public void setUp() {
+        list = new LinkedList<>();
+        for (int i = 0; i < 5_000; i++) {
+            list.addLast(i);
+        }
+    }
+
+    @Test
+    public void testStreamKeepsOrder() {
+        List<Integer> expected = IntStream.range(0, 5_000).boxed().collect(Collectors.toList());
+        assertEquals(expected, list.stream().collect(Collectors.toList()));
+        assertEquals(expected, list.parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testParallelReduction() {
+        long expected = 5_000L * 4_999L / 2;
+        assertEquals(expected, list.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    public void testSpliteratorSplitsInBatches() {
+        Spliterator<Integer> suffix = list.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertTrue(prefix != null);
+        assertEquals(5_000, prefix.estimateSize() + suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+    }
+
+    @Test
+    public void testSpliteratorFailsFast() {
+        Spliterator<Integer> spliterator = list.spliterator();
+        list.addLast(5_000);
+        Assertions.assertThrows(ConcurrentModificationException.class,
+                () -> spliterator.tryAdvance(elem -> { }));
+    }
+}
@@ -0,0 +1,135 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.main.LockFreeSearchTree;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LockFreeSearchTreeTest
+{
+
+    @Test
+    public void testSequentialMatchesTreeSet() {
+        LockFreeSearchTree<Integer> tree = new LockFreeSearchTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(3L);
+
+        for (int i = 0; i < 20_000; i++) {
+            int elem = random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(elem), tree.insert(elem));
+            } else {
+                assertEquals(expected.remove(elem), tree.delete(elem));
+            }
+            assertEquals(expected.contains(i % 1_000), tree.contains(i % 1_000));
+        }
+
+        assertEquals(new ArrayList<>(expected), toList(tree));
+        assertEquals(expected.size(), tree.size());
+    }
+
+    @Test
+    public void testConcurrentWritersKeepEveryOperation() throws Exception {
+        LockFreeSearchTree<Integer> tree = new LockFreeSearchTree<>();
+        int threads = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<TreeSet<Integer>>> results = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            results.add(pool.submit(() -> {
+                TreeSet<Integer> mine = new TreeSet<>();
+                Random random = new Random(id);
+                for (int i = 0; i < 20_000; i++) {
+                    int elem = random.nextInt(500) * threads + id;
+                    if (random.nextInt(3) > 0) {
+                        assertEquals(mine.add(elem), tree.insert(elem));
+                    } else {
+                        assertEquals(mine.remove(elem), tree.delete(elem));
+                    }
+                }
+                return mine;
+            }));
+        }
+
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (Future<TreeSet<Integer>> result : results) {
+            expected.addAll(result.get());
+        }
+        pool.shutdown();
+
+        assertEquals(new ArrayList<>(expected), toList(tree));
+    }
+
+    @Test
+    public void testContendedKeysAndWeakIterator() throws Exception {
+        LockFreeSearchTree<Integer> tree = new LockFreeSearchTree<>();
+        for (int i = 0; i < 100; i += 2) {
+            tree.insert(i);
+        }
+        AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            int seed = t;
+            writers.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                while (!stop.get()) {
+                    int elem = 2 * random.nextInt(50) + 1;
+                    if (random.nextBoolean()) {
+                        tree.insert(elem);
+                    } else {
+                        tree.delete(elem);
+                    }
+                }
+            }));
+        }
+
+        for (int round = 0; round < 200; round++) {
+            List<Integer> seen = toList(tree);
+            for (int i = 1; i < seen.size(); i++) {
+                assertTrue(seen.get(i - 1) < seen.get(i));
+            }
+            for (int even = 0; even < 100; even += 2) {
+                assertTrue(seen.contains(even));
+            }
+        }
+        stop.set(true);
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        pool.shutdown();
+
+        for (int odd = 1; odd < 100; odd += 2) {
+            tree.delete(odd);
+        }
+        assertEquals(50, tree.size());
+    }
+
+    @Test
+    public void testComparatorAndContracts() {
+        LockFreeSearchTree<String> tree = new LockFreeSearchTree<>(Comparator.reverseOrder());
+        assertTrue(tree.isEmpty());
+        tree.insert("a");
+        tree.insert("c");
+        tree.insert("b");
+        assertFalse(tree.insert("b"));
+
+        assertEquals(List.of("c", "b", "a"), toList(tree));
+        assertEquals(List.of("C", "B", "A"), tree.stream().map(String::toUpperCase).toList());
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.insert(null));
+        Assertions.assertThrows(ContractViolationException.class, () -> new LockFreeSearchTree<String>(null));
+    }
+}
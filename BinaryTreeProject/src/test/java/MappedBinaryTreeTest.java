@@ -0,0 +1,86 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ElementCodecs;
+import com.jalasoft.main.MappedBinaryTree;
+import com.jalasoft.main.TreeMerge;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedBinaryTreeTest
+{
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testMatchesPointerTree() throws IOException {
+        for (TreeShapes shape : TreeShapes.values()) {
+            BinaryTree<Integer> pointer = shape.tree(3_000, 7L);
+            Path file = this.dir.resolve(shape.name());
+            MappedBinaryTree.write(pointer, ElementCodecs.INT, file);
+            MappedBinaryTree<Integer> mapped = MappedBinaryTree.open(file, ElementCodecs.INT);
+
+            assertEquals(pointer.size(), mapped.size());
+            assertEquals(pointer.height(), mapped.height());
+            assertEquals(pointer.leaves(), mapped.leaves());
+            assertEquals(toList(pointer.preorder()), toList(mapped.preorder()));
+            assertEquals(toList(pointer.inorder()), toList(mapped.inorderView()));
+            assertEquals(toList(pointer.levelorder()), toList(mapped.levelorder()));
+            assertEquals(0, mapped.root());
+            assertEquals(pointer.getRoot().getLeft().getElem(), mapped.elem(mapped.left(mapped.root())));
+        }
+    }
+
+    @Test
+    public void testVariableSizeElementsAndCopy() throws IOException {
+        BinaryTree<String> tree = new BinaryTree<>("raíz");
+        tree.getRoot().setLeft(new BinaryNode<>("", new BinaryNode<>("木", null, null), null));
+        tree.getRoot().setRight(new BinaryNode<>("z".repeat(200_000), null, null));
+        Path file = this.dir.resolve("strings");
+        MappedBinaryTree.write(tree, ElementCodecs.STRING, file);
+
+        MappedBinaryTree<String> mapped = MappedBinaryTree.open(file, ElementCodecs.STRING);
+        assertEquals(toList(tree.levelorder()), toList(mapped.levelorder()));
+
+        IBinaryTree<String> copy = mapped.deepCopy();
+        assertEquals(toList(mapped.preorder()), toList(copy.preorder()));
+        Assertions.assertThrows(UnsupportedOperationException.class, mapped::makeEmpty);
+
+        IBinaryTree<String> merged = mapped.mergetree(tree, String::concat);
+        assertEquals("raízraíz", merged.levelorder().getFirst());
+        assertEquals(toList(mapped.preorder()), toList(copy.preorder()));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> mapped.mergetree(tree, String::concat, TreeMerge.Mode.IN_PLACE));
+        assertEquals(4, (int) tree.size());
+    }
+
+    @Test
+    public void testEmptyTreeAndBadFiles() throws IOException {
+        Path file = this.dir.resolve("empty");
+        MappedBinaryTree.write(new BinaryTree<Long>(), ElementCodecs.LONG, file);
+        MappedBinaryTree<Long> empty = MappedBinaryTree.open(file, ElementCodecs.LONG);
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.height());
+
+        Assertions.assertThrows(StreamCorruptedException.class, () -> MappedBinaryTree.open(file, ElementCodecs.INT));
+
+        Path tree = this.dir.resolve("tree");
+        MappedBinaryTree.write(TreeShapes.RANDOM.tree(100, 2L), ElementCodecs.INT, tree);
+        byte[] bytes = Files.readAllBytes(tree);
+        Path truncated = Files.write(this.dir.resolve("truncated"), Arrays.copyOf(bytes, bytes.length - 4));
+        Assertions.assertThrows(StreamCorruptedException.class,
+                () -> MappedBinaryTree.open(truncated, ElementCodecs.INT));
+    }
+}
@@ -0,0 +1,139 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IElementCodec;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ElementCodecs;
+import com.jalasoft.main.OffHeapBinaryTree;
+import com.jalasoft.main.PooledBinaryTree;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapBinaryTreeTest
+{
+
+    @Test
+    public void testMatchesPointerTree() {
+        for (TreeShapes shape : TreeShapes.values()) {
+            BinaryTree<Integer> pointer = shape.tree(3_000, 5L);
+            OffHeapBinaryTree<Integer> offHeap = OffHeapBinaryTree.fromNodes(pointer.getRoot(), ElementCodecs.INT);
+
+            assertEquals(pointer.size(), offHeap.size());
+            assertEquals(pointer.height(), offHeap.height());
+            assertEquals(pointer.leaves(), offHeap.leaves());
+            assertEquals(toList(pointer.preorder()), toList(offHeap.preorder()));
+            assertEquals(toList(pointer.inorder()), toList(offHeap.inorder()));
+            assertEquals(toList(pointer.postorder()), toList(offHeap.postorder()));
+            assertEquals(toList(pointer.levelorder()), toList(offHeap.levelorderView()));
+        }
+    }
+
+    @Test
+    public void testSpansSeveralNodeChunks() {
+        PooledBinaryTree<Long> pooled = PooledBinaryTree.fromNodes(null);
+        int node = pooled.addRoot(0L);
+        for (long i = 1; i < 70_000; i++) {
+            node = (i % 2 == 0) ? pooled.addLeft(node, i) : pooled.addRight(node, i);
+        }
+
+        OffHeapBinaryTree<Long> offHeap = OffHeapBinaryTree.copyOf(pooled, ElementCodecs.LONG);
+
+        assertEquals(70_000, offHeap.size());
+        assertEquals(70_000, offHeap.height());
+        assertEquals(toList(pooled.inorderView()), toList(offHeap.inorderView()));
+    }
+
+    @Test
+    public void testVariableSizeElements() {
+        String big = "x".repeat(1 << 21);
+        OffHeapBinaryTree<String> tree = new OffHeapBinaryTree<>(ElementCodecs.STRING, "raíz");
+        int left = tree.addLeft(tree.root(), "木");
+        int right = tree.addRight(tree.root(), "🌳");
+        tree.addLeft(left, "");
+        tree.addRight(left, big);
+
+        assertEquals(List.of("raíz", "木", "🌳", "", big), toList(tree.levelorder()));
+
+        tree.setElem(right, "tree");
+        assertEquals("tree", tree.elem(right));
+        assertEquals(tree, tree.deepCopy());
+    }
+
+    @Test
+    public void testRemoveReuseAndCompact() {
+        OffHeapBinaryTree<Integer> tree =
+                OffHeapBinaryTree.fromNodes(TreeShapes.COMPLETE.build(1_000, 1L), ElementCodecs.INT);
+        PooledBinaryTree<Integer> expected = PooledBinaryTree.fromNodes(TreeShapes.COMPLETE.build(1_000, 1L));
+
+        tree.removeRight(tree.root());
+        expected.removeRight(expected.root());
+        assertEquals(expected.size(), tree.size());
+
+        int reused = tree.addRight(tree.root(), 7);
+        expected.addRight(expected.root(), 299_999);
+        for (int i = 0; i < 300_000; i++) {
+            tree.setElem(reused, i);
+        }
+        long before = tree.offHeapBytes();
+
+        tree.compact();
+
+        assertTrue(tree.offHeapBytes() < before);
+        assertEquals(toList(expected.inorder()), toList(tree.inorder()));
+        assertEquals(toList(expected.levelorder()), toList(tree.levelorder()));
+    }
+
+    @Test
+    public void testEqualityFollowsShape() {
+        OffHeapBinaryTree<Integer> leftSkewed = OffHeapBinaryTree.fromNodes(TreeShapes.LEFT_SKEWED.build(100, 1L), ElementCodecs.INT);
+        OffHeapBinaryTree<Integer> zigzag = OffHeapBinaryTree.fromNodes(TreeShapes.ZIGZAG.build(100, 1L), ElementCodecs.INT);
+
+        assertEquals(toList(leftSkewed.levelorder()), toList(zigzag.levelorder()));
+        assertNotEquals(leftSkewed, zigzag);
+        assertNotEquals(leftSkewed.hashCode(), zigzag.hashCode());
+        assertEquals(leftSkewed, OffHeapBinaryTree.fromNodes(TreeShapes.LEFT_SKEWED.build(100, 1L), ElementCodecs.INT));
+        assertEquals(leftSkewed.hashCode(), OffHeapBinaryTree.fromNodes(TreeShapes.LEFT_SKEWED.build(100, 1L), ElementCodecs.INT).hashCode());
+    }
+
+    @Test
+    public void testContracts() {
+        OffHeapBinaryTree<Integer> tree = new OffHeapBinaryTree<>(ElementCodecs.INT, 1);
+        Assertions.assertThrows(ContractViolationException.class, () -> new OffHeapBinaryTree<Integer>(null));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.addLeft(tree.root(), null));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.left(3));
+        Assertions.assertThrows(UnsupportedOperationException.class, tree::getRightChild);
+
+        IElementCodec<Integer> lying = new IElementCodec<>() {
+            @Override
+            public int fixedSize() {
+                return 8;
+            }
+
+            @Override
+            public int sizeOf(Integer elem) {
+                return 8;
+            }
+
+            @Override
+            public void write(Integer elem, ByteBuffer target) {
+                target.putInt(elem);
+            }
+
+            @Override
+            public Integer read(ByteBuffer source, int length) {
+                return source.getInt();
+            }
+        };
+        Assertions.assertThrows(ContractViolationException.class, () -> new OffHeapBinaryTree<>(lying, 1));
+
+        tree.makeEmpty();
+        assertTrue(tree.isEmpty());
+        assertEquals(0L, tree.offHeapBytes());
+    }
+}
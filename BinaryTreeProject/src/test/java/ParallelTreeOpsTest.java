@@ -0,0 +1,61 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ParallelTreeOps;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTreeOpsTest
+{
+
+    @Test
+    public void testParallelMetricsMatchCachedMetrics() {
+        ParallelTreeOps ops = new ParallelTreeOps(ForkJoinPool.commonPool(), 4);
+        for (TreeShapes shape : TreeShapes.values()) {
+            IBinaryTree<Integer> tree = shape.tree(20_000, 7L);
+            assertEquals(tree.size(), ops.size(tree));
+            assertEquals(tree.height(), ops.height(tree));
+            assertEquals(tree.leaves(), ops.leaves(tree));
+            assertEquals(tree.isBalanced(), ops.isBalanced(tree));
+        }
+    }
+
+    @Test
+    public void testSequentialCutoffMatchesCachedMetrics() {
+        ParallelTreeOps ops = new ParallelTreeOps(ForkJoinPool.commonPool(), 0);
+        IBinaryTree<Integer> tree = TreeShapes.RANDOM.tree(10_000, 3L);
+        assertEquals(tree.size(), ops.size(tree));
+        assertEquals(tree.height(), ops.height(tree));
+        assertEquals(tree.leaves(), ops.leaves(tree));
+        assertEquals(tree.isBalanced(), ops.isBalanced(tree));
+    }
+
+    @Test
+    public void testBalancedCompleteTree() {
+        IBinaryTree<Integer> tree = new BinaryTree<>(0);
+        tree.getRoot().setLeft(TreeShapes.COMPLETE.build(1_000, 0L));
+        tree.getRoot().setRight(TreeShapes.COMPLETE.build(1_000, 0L));
+        assertEquals(Boolean.TRUE, ParallelTreeOps.common().isBalanced(tree));
+        assertEquals(2_001, ParallelTreeOps.common().size(tree));
+    }
+
+    @Test
+    public void testEmptyTree() {
+        IBinaryTree<Integer> tree = new BinaryTree<>();
+        assertEquals(0, ParallelTreeOps.common().size(tree));
+        assertEquals(0, ParallelTreeOps.common().height(tree));
+        assertEquals(0, ParallelTreeOps.common().leaves(tree));
+        assertEquals(Boolean.TRUE, ParallelTreeOps.common().isBalanced(tree));
+    }
+
+    @Test
+    public void testConstructorPrecondition() {
+        Assertions.assertThrows(ContractViolationException.class, () -> new ParallelTreeOps(null, 1));
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> new ParallelTreeOps(ForkJoinPool.commonPool(), -1));
+    }
+}
@@ -0,0 +1,200 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.PersistentBinaryTree;
+import com.jalasoft.main.TreeMerge;
+import com.jalasoft.main.VersionedBinaryTree;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PersistentBinaryTreeTest
+{
+
+    private static BinaryTree<Integer> sample() {
+        BinaryTree<Integer> tree = new BinaryTree<>(1);
+        BinaryNode<Integer> four = new BinaryNode<>(4, null, null);
+        BinaryNode<Integer> five = new BinaryNode<>(5, null, null);
+        BinaryNode<Integer> two = new BinaryNode<>(2, four, five);
+        BinaryNode<Integer> six = new BinaryNode<>(6, null, null);
+        BinaryNode<Integer> three = new BinaryNode<>(3, null, six);
+        tree.getRoot().setLeft(two);
+        tree.getRoot().setRight(three);
+        return tree;
+    }
+
+    @Test
+    public void testMatchesBinaryTree() {
+        BinaryTree<Integer> tree = sample();
+        PersistentBinaryTree<Integer> persistent = PersistentBinaryTree.fromNodes(tree.getRoot());
+
+        assertEquals(toList(tree.preorder()), toList(persistent.preorder()));
+        assertEquals(toList(tree.inorder()), toList(persistent.inorder()));
+        assertEquals(toList(tree.postorder()), toList(persistent.postorder()));
+        assertEquals(toList(tree.levelorder()), toList(persistent.levelorder()));
+        assertEquals(tree.size(), persistent.size());
+        assertEquals(tree.height(), persistent.height());
+        assertEquals(tree.leaves(), persistent.leaves());
+        assertEquals(tree.isBalanced(), persistent.isBalanced());
+        assertEquals(toList(tree.levelorder()), toList(persistent.toBinaryTree().levelorder()));
+    }
+
+    @Test
+    public void testUpdatesLeaveOldVersionsUntouched() {
+        PersistentBinaryTree<Integer> v0 = PersistentBinaryTree.fromNodes(sample().getRoot());
+        PersistentBinaryTree<Integer> v1 = v0.setElem("LR", 50);
+        PersistentBinaryTree<Integer> v2 = v1.addLeft("R", 7);
+        PersistentBinaryTree<Integer> v3 = v2.prune("L");
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), toList(v0.levelorder()));
+        assertEquals(List.of(1, 2, 3, 4, 50, 6), toList(v1.levelorder()));
+        assertEquals(List.of(1, 2, 3, 4, 50, 7, 6), toList(v2.levelorder()));
+        assertEquals(List.of(1, 3, 7, 6), toList(v3.levelorder()));
+        assertEquals(3, (int) v0.leaves());
+        assertEquals(4, (int) v2.leaves());
+        assertEquals(2, (int) v3.leaves());
+        assertFalse(v3.isBalanced());
+        assertEquals(50, (int) v1.get("LR"));
+        assertFalse(v3.exists("L"));
+    }
+
+    @Test
+    public void testPathCopyingSharesUntouchedSubtrees() {
+        PersistentBinaryTree<Integer> v0 = PersistentBinaryTree.fromNodes(sample().getRoot());
+        PersistentBinaryTree<Integer> v1 = v0.setElem("RR", 60);
+
+        assertEquals(v0.subtree("L"), v1.subtree("L"));
+        assertNotEquals(v0.subtree("R"), v1.subtree("R"));
+        assertEquals(v0.subtree("L").hashCode(), v1.subtree("L").hashCode());
+        assertEquals(v0, v1.setElem("RR", 6));
+        assertEquals(v0.hashCode(), v1.setElem("RR", 6).hashCode());
+    }
+
+    @Test
+    public void testGraft() {
+        PersistentBinaryTree<String> config = PersistentBinaryTree.of("root");
+        PersistentBinaryTree<String> section = PersistentBinaryTree.<String>of("db").addLeft("", "host").addRight("", "port");
+
+        PersistentBinaryTree<String> grafted = config.graft("L", section).graft("R", section);
+        assertEquals(List.of("root", "db", "db", "host", "port", "host", "port"), toList(grafted.levelorder()));
+        assertEquals(section, grafted.subtree("L"));
+        assertEquals(section, grafted.subtree("R"));
+        assertEquals(List.of("root", "db", "host", "port"), toList(grafted.graft("R", PersistentBinaryTree.empty()).preorder()));
+        assertTrue(grafted.graft("", PersistentBinaryTree.empty()).isEmpty());
+    }
+
+    @Test
+    public void testEqualsIsShapeSensitive() {
+        PersistentBinaryTree<Integer> left = PersistentBinaryTree.of(1).addLeft("", 2);
+        PersistentBinaryTree<Integer> right = PersistentBinaryTree.of(1).addRight("", 2);
+
+        assertEquals(toList(left.levelorder()), toList(right.levelorder()));
+        assertNotEquals(left, right);
+        assertEquals(left, PersistentBinaryTree.of(1).addLeft("", 2));
+    }
+
+    @Test
+    public void testDeepSkewedTree() {
+        PersistentBinaryTree<Integer> tree = PersistentBinaryTree.of(0);
+        StringBuilder path = new StringBuilder();
+        for (int i = 1; i < 2_000; i++) {
+            tree = tree.addRight(path.toString(), i);
+            path.append('R');
+        }
+
+        assertEquals(2_000, (int) tree.size());
+        assertEquals(2_000, (int) tree.height());
+        assertEquals(1, (int) tree.leaves());
+        assertEquals(tree.deepCopy(elem -> elem), tree);
+        assertEquals(1_999, (int) tree.postorderIterator().next());
+    }
+
+    @Test
+    public void testMergeBuildsANewVersion() {
+        BinaryTree<Integer> tree = sample();
+        PersistentBinaryTree<Integer> persistent = PersistentBinaryTree.fromNodes(tree.getRoot());
+        PersistentBinaryTree<Integer> other = PersistentBinaryTree.<Integer>of(10).addLeft("", 20).addLeft("L", 40)
+                .addLeft("LL", 80);
+
+        IBinaryTree<Integer> merged = persistent.mergetree(other, Integer::sum);
+        BinaryTree<Integer> expected = TreeMerge.common().merge(tree, other.toBinaryTree(), Integer::sum);
+        assertTrue(merged instanceof PersistentBinaryTree);
+        assertEquals(toList(expected.preorder()), toList(merged.preorder()));
+        assertEquals(toList(expected.inorder()), toList(merged.inorder()));
+        assertEquals(PersistentBinaryTree.fromNodes(tree.getRoot()), persistent);
+        assertEquals(6, (int) persistent.size());
+        assertEquals(expected.height(), merged.height());
+        assertEquals(persistent.subtree("R"), ((PersistentBinaryTree<Integer>) merged).subtree("R"));
+
+        BinaryTree<Integer> source = sample();
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> persistent.mergetree(source, (a, b) -> null, TreeMerge.Mode.IN_PLACE));
+        assertEquals(sample(), source);
+        IBinaryTree<Integer> moved = persistent.mergetree(source, Integer::sum, TreeMerge.Mode.IN_PLACE);
+        assertTrue(source.isEmpty());
+        assertEquals(toList(persistent.preorder()).stream().map(elem -> 2 * elem).toList(),
+                toList(moved.preorder()));
+        assertEquals(persistent, persistent.deepCopy(elem -> elem));
+    }
+
+    @Test
+    public void testUnsupportedAndContracts() {
+        PersistentBinaryTree<Integer> tree = PersistentBinaryTree.of(1);
+
+        Assertions.assertThrows(UnsupportedOperationException.class, tree::getRoot);
+        Assertions.assertThrows(UnsupportedOperationException.class, tree::makeEmpty);
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> tree.mergetree(PersistentBinaryTree.of(1), Integer::sum, TreeMerge.Mode.IN_PLACE));
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> tree.mergetree(tree, (a, b) -> null));
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> new VersionedBinaryTree<Integer>().update(version -> null));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.get("L"));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.get("X"));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.addLeft("L", 2));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.addLeft("", 2).addLeft("", 3));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.setElem("", null));
+    }
+
+    @Test
+    public void testVersionedUpdatesAreNotLost() throws Exception {
+        VersionedBinaryTree<Integer> versions = new VersionedBinaryTree<>(PersistentBinaryTree.of(0));
+        PersistentBinaryTree<Integer> before = versions.snapshot();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    versions.update(tree -> tree.setElem("", tree.get("") + 1));
+                    IBinaryTree<Integer> snapshot = versions.snapshot();
+                    assertEquals(1, (int) snapshot.size());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1_000, (int) versions.snapshot().get(""));
+        assertEquals(1_000L, versions.version());
+        assertEquals(0, (int) before.get(""));
+        assertFalse(versions.compareAndSet(before, PersistentBinaryTree.of(-1)));
+        assertTrue(versions.compareAndSet(versions.snapshot(), PersistentBinaryTree.of(-1)));
+        assertEquals(1_001L, versions.version());
+    }
+}
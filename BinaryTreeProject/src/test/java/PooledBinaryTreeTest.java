@@ -0,0 +1,139 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.interfaces.IIndexedBinaryTree;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ConcurrentBinaryTree;
+import com.jalasoft.main.ParallelTreeOps;
+import com.jalasoft.main.PooledBinaryTree;
+import com.jalasoft.main.TreeMerge;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PooledBinaryTreeTest
+{
+
+    @Test
+    public void testMatchesPointerTree() {
+        for (TreeShapes shape : TreeShapes.values()) {
+            BinaryTree<Integer> pointer = shape.tree(3_000, 11L);
+            PooledBinaryTree<Integer> pooled = PooledBinaryTree.fromNodes(pointer.getRoot());
+
+            assertEquals(pointer.size(), pooled.size());
+            assertEquals(pointer.height(), pooled.height());
+            assertEquals(pointer.leaves(), pooled.leaves());
+            assertEquals(pointer.isBalanced(), pooled.isBalanced());
+            assertEquals(toList(pointer.preorder()), toList(pooled.preorder()));
+            assertEquals(toList(pointer.inorder()), toList(pooled.inorder()));
+            assertEquals(toList(pointer.postorder()), toList(pooled.postorder()));
+            assertEquals(toList(pointer.levelorder()), toList(pooled.levelorder()));
+            assertEquals(toList(pooled.preorder()), toList(pooled.preorderView()));
+            assertEquals(toList(pooled.inorder()), toList(pooled.inorderView()));
+            assertEquals(toList(pooled.postorder()), toList(pooled.postorderView()));
+            assertEquals(toList(pooled.levelorder()), toList(pooled.levelorderView()));
+        }
+    }
+
+    @Test
+    public void testNavigationAndFreeListReuse() {
+        PooledBinaryTree<String> tree = new PooledBinaryTree<>("root");
+        int root = tree.root();
+        int left = tree.addLeft(root, "left");
+        int right = tree.addRight(root, "right");
+        tree.addLeft(left, "left.left");
+        tree.addRight(left, "left.right");
+
+        assertEquals("left", tree.elem(tree.left(root)));
+        assertEquals(right, tree.right(root));
+        assertEquals(IIndexedBinaryTree.NIL, tree.left(right));
+        assertEquals(5, tree.size());
+
+        tree.removeLeft(root);
+        assertEquals(2, tree.size());
+        assertTrue(!tree.isNode(left));
+        assertEquals(List.of("root", "right"), toList(tree.preorder()));
+
+        int reused = tree.addLeft(right, "reused");
+        assertTrue(reused < 5);
+        assertEquals(List.of("root", "right", "reused"), toList(tree.levelorder()));
+    }
+
+    @Test
+    public void testCompactKeepsTheTree() {
+        PooledBinaryTree<Integer> tree = PooledBinaryTree.fromNodes(TreeShapes.RANDOM.build(500, 3L));
+        tree.removeRight(tree.root());
+        tree.removeLeft(tree.left(tree.root()));
+        List<Integer> inorder = toList(tree.inorder());
+        List<Integer> levelorder = toList(tree.levelorder());
+
+        tree.compact();
+
+        assertEquals(0, tree.root());
+        assertEquals(inorder, toList(tree.inorder()));
+        assertEquals(levelorder, toList(tree.levelorder()));
+        for (int node = 0; node < tree.size(); node++) {
+            assertTrue(tree.isNode(node));
+        }
+    }
+
+    @Test
+    public void testEqualityFollowsShape() {
+        PooledBinaryTree<Integer> leftSkewed = PooledBinaryTree.fromNodes(TreeShapes.LEFT_SKEWED.build(100, 1L));
+        PooledBinaryTree<Integer> zigzag = PooledBinaryTree.fromNodes(TreeShapes.ZIGZAG.build(100, 1L));
+
+        assertEquals(toList(leftSkewed.levelorder()), toList(zigzag.levelorder()));
+        assertNotEquals(leftSkewed, zigzag);
+        assertNotEquals(leftSkewed.hashCode(), zigzag.hashCode());
+        assertEquals(leftSkewed, PooledBinaryTree.fromNodes(TreeShapes.LEFT_SKEWED.build(100, 1L)));
+        assertEquals(leftSkewed.hashCode(), PooledBinaryTree.fromNodes(TreeShapes.LEFT_SKEWED.build(100, 1L)).hashCode());
+    }
+
+    @Test
+    public void testContractsAndUnsupportedNodes() {
+        PooledBinaryTree<Integer> tree = new PooledBinaryTree<>(1);
+        tree.addLeft(tree.root(), 2);
+
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.addLeft(tree.root(), 3));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.addRight(tree.root(), null));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.elem(42));
+        Assertions.assertThrows(ContractViolationException.class, () -> tree.addRoot(5));
+        Assertions.assertThrows(UnsupportedOperationException.class, tree::getRoot);
+
+        IBinaryTree<Integer> copy = tree.deepCopy();
+        assertEquals(tree, copy);
+        tree.makeEmpty();
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    public void testNodeConsumersGoThroughIndices() {
+        BinaryTree<Integer> pointer = TreeShapes.RANDOM.tree(5_000, 5L);
+        PooledBinaryTree<Integer> pooled = PooledBinaryTree.fromNodes(pointer.getRoot());
+        ParallelTreeOps ops = new ParallelTreeOps(ForkJoinPool.commonPool(), 3);
+
+        assertEquals(pointer.size(), ops.size(pooled));
+        assertEquals(pointer.height(), ops.height(pooled));
+        assertEquals(pointer.leaves(), ops.leaves(pooled));
+        assertEquals(pointer.isBalanced(), ops.isBalanced(pooled));
+
+        BinaryTree<Integer> doubled = TreeMerge.common().merge(pointer, pooled, Integer::sum);
+        assertEquals(toList(pointer.levelorder()).stream().map(elem -> 2 * elem).collect(Collectors.toList()),
+                toList(doubled.levelorder()));
+        assertEquals(doubled, pointer.mergetree(pooled, Integer::sum));
+
+        ConcurrentBinaryTree<Integer> shared = new ConcurrentBinaryTree<>(pooled);
+        assertEquals(pooled, PooledBinaryTree.fromNodes(shared.getRoot()));
+        assertEquals(pointer.getLeftChild().getSize(), shared.getLeftChild().getSize());
+        assertEquals(pointer.getRightChild(), shared.getRightChild());
+    }
+}
@@ -0,0 +1,181 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IIntBinaryTree;
+import com.jalasoft.interfaces.IIntList;
+import com.jalasoft.interfaces.IIntQueue;
+import com.jalasoft.interfaces.IIntStack;
+import com.jalasoft.interfaces.ILongList;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.IntBinaryNode;
+import com.jalasoft.main.IntBinaryTree;
+import com.jalasoft.main.IntList;
+import com.jalasoft.main.IntQueue;
+import com.jalasoft.main.IntStack;
+import com.jalasoft.main.LongBinaryNode;
+import com.jalasoft.main.LongBinaryTree;
+import com.jalasoft.main.LongList;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveCollectionsTest
+{
+
+    @Test
+    public void testIntListOperations() {
+        IIntList list = new IntList(1);
+        for (int i = 0; i < 20; i++) {
+            list.addLast(i);
+        }
+        list.addFirst(-1);
+        list.add(5, 100);
+        list.removeAt(0);
+        list.removeElement(19);
+        list.set(0, 7);
+
+        assertEquals(20, list.size());
+        assertEquals(7, list.getFirst());
+        assertEquals(18, list.getLast());
+        assertEquals(100, list.get(4));
+        assertEquals(4, list.indexOf(100));
+        assertTrue(!list.contains(19));
+        assertEquals(8, list.lastIndexOf(7));
+        assertEquals(list.stream().sum(), sum(list.toArray()));
+        assertEquals(list, list.deepCopy());
+        assertEquals(list.hashCode(), list.deepCopy().hashCode());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        Assertions.assertThrows(ContractViolationException.class, list::getFirst);
+        Assertions.assertThrows(ContractViolationException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void testIntListIteratorIsFailFast() {
+        IIntList list = new IntList(new int[] {1, 2, 3, 4});
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        assertEquals(1, iterator.nextInt());
+        iterator.remove();
+        assertEquals(2, iterator.nextInt());
+        assertEquals("com.jalasoft.main.IntList[2, 3, 4, ]", list.toString());
+
+        list.addLast(5);
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    @Test
+    public void testIntStackAndQueue() {
+        IIntStack stack = new IntStack(1);
+        IIntQueue queue = new IntQueue(2);
+        for (int i = 0; i < 50; i++) {
+            stack.push(i);
+            queue.enqueue(i);
+            if (i % 3 == 0) {
+                stack.pop();
+                queue.dequeue();
+            }
+        }
+        assertEquals(33, stack.size());
+        assertEquals(49, stack.peek());
+        assertEquals(33, queue.size());
+        assertEquals(17, queue.front());
+        assertEquals(stack, stack.deepCopy());
+        assertEquals(queue, queue.deepCopy());
+
+        while (!queue.isEmpty()) {
+            queue.dequeue();
+        }
+        Assertions.assertThrows(ContractViolationException.class, queue::front);
+        Assertions.assertThrows(ContractViolationException.class, new IntStack()::pop);
+    }
+
+    @Test
+    public void testIntTreeMatchesBoxedTree() {
+        for (TreeShapes shape : TreeShapes.values()) {
+            BinaryTree<Integer> boxed = shape.tree(2_000, 7L);
+            IIntBinaryTree tree = new IntBinaryTree(-1);
+            tree.getRoot().setLeft(toIntNode(boxed.getLeftChild()));
+
+            assertEquals(boxed.size(), tree.size());
+            assertEquals(boxed.height(), tree.height());
+            assertEquals(boxed.leaves(), tree.leaves());
+            assertEquals(boxed.isBalanced(), tree.isBalanced());
+            assertArrayEquals(toArray(boxed.preorder()), tree.preorderArray());
+            assertArrayEquals(toArray(boxed.inorder()), tree.inorderArray());
+            assertArrayEquals(toArray(boxed.postorder()), tree.postorderArray());
+            assertArrayEquals(toArray(boxed.levelorder()), tree.levelorderArray());
+            assertArrayEquals(tree.inorderArray(), tree.inorder().toArray());
+            assertEquals(tree, tree.deepCopy());
+        }
+    }
+
+    @Test
+    public void testEmptyIntTree() {
+        IIntBinaryTree tree = new IntBinaryTree();
+        assertTrue(tree.isEmpty());
+        assertTrue(tree.isBalanced());
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.height());
+        assertEquals(0, tree.preorderArray().length);
+        assertTrue(tree.levelorder().isEmpty());
+        assertEquals(tree, tree.deepCopy());
+        Assertions.assertThrows(ContractViolationException.class, tree::getLeftChild);
+    }
+
+    @Test
+    public void testIntTreeEqualityFollowsShape() {
+        IntBinaryTree leftLeaning = new IntBinaryTree(2);
+        leftLeaning.getRoot().setLeft(new IntBinaryNode(1, new IntBinaryNode(0), null));
+        IntBinaryTree rightLeaning = new IntBinaryTree(2);
+        rightLeaning.getRoot().setLeft(new IntBinaryNode(1, null, new IntBinaryNode(0)));
+
+        assertArrayEquals(leftLeaning.levelorderArray(), rightLeaning.levelorderArray());
+        assertNotEquals(leftLeaning, rightLeaning);
+        assertNotEquals(leftLeaning.hashCode(), rightLeaning.hashCode());
+
+        rightLeaning.getRoot().setLeft(new IntBinaryNode(1, new IntBinaryNode(0), null));
+        assertEquals(leftLeaning, rightLeaning);
+        assertEquals(leftLeaning.hashCode(), rightLeaning.hashCode());
+    }
+
+    @Test
+    public void testLongVariants() {
+        LongBinaryTree tree = new LongBinaryTree(1L << 40);
+        tree.getRoot().setLeft(new LongBinaryNode(1L));
+        tree.getRoot().setRight(new LongBinaryNode(Long.MAX_VALUE));
+
+        assertArrayEquals(new long[] {1L, 1L << 40, Long.MAX_VALUE}, tree.inorderArray());
+        ILongList list = tree.levelorder();
+        assertEquals(Long.MAX_VALUE, list.getLast());
+        assertEquals("com.jalasoft.main.LongList[1099511627776, 1, 9223372036854775807, ]", list.toString());
+        assertEquals(new LongList(new long[] {1L << 40, 1L, Long.MAX_VALUE}), list);
+    }
+
+    private static IntBinaryNode toIntNode(BinaryNode<Integer> node) {
+        if (node == null) {
+            return null;
+        }
+        return new IntBinaryNode(node.getElem(), toIntNode(node.getLeft()), toIntNode(node.getRight()));
+    }
+
+    private static int[] toArray(Iterable<Integer> elems) {
+        return StreamSupport.stream(elems.spliterator(), false)
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int sum(int[] elems) {
+        int result = 0;
+        for (int elem : elems) {
+            result += elem;
+        }
+        return result;
+    }
+}
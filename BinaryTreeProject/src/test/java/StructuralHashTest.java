@@ -0,0 +1,95 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.TreeMerge;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class StructuralHashTest
+{
+
+    @Test
+    public void testEqualTreesHashEqual() {
+        for (TreeShapes shape : TreeShapes.values()) {
+            BinaryTree<Integer> tree = shape.tree(3_000, 42L);
+            IBinaryTree<Integer> copy = tree.deepCopy(elem -> elem);
+
+            assertEquals(tree, copy);
+            assertEquals(tree.hashCode(), copy.hashCode());
+        }
+        assertEquals(0, new BinaryTree<Integer>().hashCode());
+        assertEquals(new BinaryTree<Integer>(), new BinaryTree<Integer>());
+    }
+
+    @Test
+    public void testEqualsTellsShapesApart() {
+        BinaryTree<Integer> left = new BinaryTree<>(1);
+        left.getRoot().setLeft(new BinaryNode<>(2, null, null));
+        BinaryTree<Integer> right = new BinaryTree<>(1);
+        right.getRoot().setRight(new BinaryNode<>(2, null, null));
+
+        assertEquals(left.levelorder(), right.levelorder());
+        assertNotEquals(left, right);
+        assertNotEquals(left.hashCode(), right.hashCode());
+
+        BinaryTree<Integer> leftSkewed = TreeShapes.LEFT_SKEWED.tree(100, 1L);
+        BinaryTree<Integer> zigzag = TreeShapes.ZIGZAG.tree(100, 1L);
+        assertEquals(leftSkewed.levelorder(), zigzag.levelorder());
+        assertNotEquals(leftSkewed, zigzag);
+    }
+
+    @Test
+    public void testHashFollowsMutations() {
+        BinaryTree<Integer> tree = TreeShapes.RANDOM.tree(2_000, 7L);
+        BinaryTree<Integer> twin = TreeShapes.RANDOM.tree(2_000, 7L);
+        int before = tree.hashCode();
+
+        BinaryNode<Integer> node = tree.getRoot();
+        while (node.getRight() != null) {
+            node = node.getRight();
+        }
+        node.setElem(-7);
+        assertNotEquals(before, tree.hashCode());
+        assertNotEquals(twin, tree);
+
+        node.setElem(findRightmost(twin).getElem());
+        assertEquals(before, tree.hashCode());
+        assertEquals(twin, tree);
+
+        node.setRight(new BinaryNode<>(5, null, null));
+        assertNotEquals(twin, tree);
+        node.setRight(null);
+        assertEquals(twin, tree);
+
+        tree.mergetree(TreeShapes.RANDOM.tree(2_000, 7L), (a, b) -> a, TreeMerge.Mode.IN_PLACE);
+        assertEquals(twin, tree);
+        assertEquals(twin.hashCode(), tree.hashCode());
+    }
+
+    @Test
+    public void testTreesAsMapKeys() {
+        Map<BinaryTree<Integer>, String> cache = new HashMap<>();
+        for (TreeShapes shape : TreeShapes.values()) {
+            cache.put(shape.tree(500, 3L), shape.name());
+        }
+        assertEquals(TreeShapes.values().length, cache.size());
+        for (TreeShapes shape : TreeShapes.values()) {
+            assertEquals(shape.name(), cache.get(shape.tree(500, 3L)));
+        }
+        assertFalse(cache.containsKey(TreeShapes.RANDOM.tree(500, 4L)));
+    }
+
+    private static BinaryNode<Integer> findRightmost(BinaryTree<Integer> tree) {
+        BinaryNode<Integer> node = tree.getRoot();
+        while (node.getRight() != null) {
+            node = node.getRight();
+        }
+        return node;
+    }
+}
@@ -0,0 +1,226 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.DeepCloneable;
+import com.jalasoft.main.AVLTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ConcurrentBinaryTree;
+import com.jalasoft.main.PersistentBinaryTree;
+import com.jalasoft.main.PooledBinaryTree;
+import com.jalasoft.main.TreeDiff;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeDiffTest
+{
+
+    private static BinaryTree<Integer> copyOf(BinaryTree<Integer> tree) {
+        return (BinaryTree<Integer>) tree.deepCopy(elem -> elem);
+    }
+
+    @Test
+    public void testEqualTreesGiveAnEmptyPatch() {
+        for (TreeShapes shape : TreeShapes.values()) {
+            BinaryTree<Integer> tree = shape.tree(2_000, 42L);
+            BinaryTree<Integer> copy = copyOf(tree);
+
+            for (TreeDiff.Pruning pruning : TreeDiff.Pruning.values()) {
+                TreeDiff.Patch<Integer> patch = TreeDiff.diff(tree, copy, pruning);
+                assertTrue(patch.isEmpty());
+                copy.apply(patch);
+                assertEquals(tree, copy);
+            }
+        }
+        assertTrue(TreeDiff.diff(new BinaryTree<Integer>(), new BinaryTree<Integer>()).isEmpty());
+    }
+
+    @Test
+    public void testPatchHoldsOnlyTheChanges() {
+        BinaryTree<Integer> before = TreeShapes.RANDOM.tree(3_000, 7L);
+        BinaryTree<Integer> after = copyOf(before);
+        BinaryTree<Integer> replica = copyOf(before);
+
+        BinaryNode<Integer> node = after.getRoot();
+        String leftmost = "";
+        while (node.getLeft() != null) {
+            node = node.getLeft();
+            leftmost += "L";
+        }
+        node.setElem(-1);
+        node.setLeft(new BinaryNode<>(-2, new BinaryNode<>(-3, null, null), null));
+        node = after.getLeftChild();
+        String rightmost = "LR";
+        while (node.getRight().getRight() != null) {
+            node = node.getRight();
+            rightmost += "R";
+        }
+        node.setRight(null);
+        after.getRoot().setElem(-4);
+
+        TreeDiff.Patch<Integer> patch = TreeDiff.diff(before, after);
+        List<String> edits = new ArrayList<>();
+        patch.getEdits().forEach(edit -> edits.add(edit.getKind() + " " + edit.getPath()));
+        assertEquals(List.of("REPLACE ", "REPLACE " + leftmost, "GRAFT " + leftmost + "L", "PRUNE " + rightmost), edits);
+        assertEquals(2, patch.getEdits().get(2).getSubtree().getSize());
+
+        replica.apply(patch);
+        assertEquals(after, replica);
+        assertEquals(after.levelorder().toString(), replica.levelorder().toString());
+        assertEquals(patch.getEdits().toString(), TreeDiff.diff(before, after, TreeDiff.Pruning.HASH).getEdits().toString());
+    }
+
+    @Test
+    public void testRootsAndEmptyTrees() {
+        BinaryTree<Integer> empty = new BinaryTree<>();
+        BinaryTree<Integer> tree = TreeShapes.COMPLETE.tree(100, 1L);
+
+        BinaryTree<Integer> target = new BinaryTree<>();
+        target.apply(TreeDiff.diff(empty, tree));
+        assertEquals(tree, target);
+
+        target.apply(TreeDiff.diff(tree, empty));
+        assertTrue(target.isEmpty());
+
+        BinaryTree<Integer> other = TreeShapes.ZIGZAG.tree(50, 1L);
+        BinaryTree<Integer> replica = copyOf(tree);
+        replica.apply(TreeDiff.diff(tree, other));
+        assertEquals(other, replica);
+    }
+
+    @Test
+    public void testPatchesTravelAndRejectOtherTrees() throws Exception {
+        AVLTree<Integer> source = new AVLTree<>();
+        for (int i = 0; i < 1_000; i++) {
+            source.insert(i * 3);
+        }
+        BinaryTree<Integer> replica = copyOf(source);
+        BinaryTree<Integer> second = copyOf(source);
+        BinaryTree<Integer> before = copyOf(source);
+
+        source.insert(1);
+        source.delete(600);
+        source.insert(2_000);
+        TreeDiff.Patch<Integer> patch = DeepCloneable.deepCopy(TreeDiff.diff(before, source));
+        assertTrue(patch.getEdits().size() < 60, patch.toString());
+
+        replica.apply(patch);
+        second.apply(patch);
+        assertEquals(source, replica);
+        assertEquals(source, second);
+        assertEquals(source.inorder().toString(), replica.inorder().toString());
+
+        Assertions.assertThrows(ContractViolationException.class, () -> replica.apply(patch));
+        assertNotEquals(before, replica);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> patch.getEdits().removeFirst());
+    }
+
+    @Test
+    public void testPatchesDoNotDependOnElementHashes() throws Exception {
+        BinaryTree<Name> before = new BinaryTree<>(new Name("root"));
+        before.getRoot().setLeft(new BinaryNode<>(new Name("left"), null, null));
+        before.getRoot().setRight(new BinaryNode<>(new Name("right"), null, null));
+        BinaryTree<Name> after = (BinaryTree<Name>) before.deepCopy(name -> name);
+        after.getRoot().getLeft().setElem(new Name("changed"));
+        after.getRoot().getRight().setRight(new BinaryNode<>(new Name("new"), null, null));
+
+        BinaryTree<Name> replica = DeepCloneable.deepCopy(before);
+        TreeDiff.Patch<Name> patch = DeepCloneable.deepCopy(TreeDiff.diff(before, after));
+        assertNotEquals(before.getRoot().getElem().hashCode(), replica.getRoot().getElem().hashCode());
+
+        replica.apply(patch);
+        assertEquals(after.preorder().toString(), replica.preorder().toString());
+        Assertions.assertThrows(ContractViolationException.class, () -> replica.apply(patch));
+
+        BinaryTree<Name> other = (BinaryTree<Name>) before.deepCopy(name -> name);
+        other.getRoot().getLeft().setElem(new Name("other"));
+        Assertions.assertThrows(ContractViolationException.class, () -> other.apply(patch));
+        assertEquals("other", other.getLeftChild().getElem().toString());
+    }
+
+    @Test
+    public void testTreesWithoutNodesAndSharedTrees() {
+        BinaryTree<Integer> before = TreeShapes.RANDOM.tree(500, 5L);
+        BinaryTree<Integer> after = copyOf(before);
+        after.getRoot().getLeft().setElem(-5);
+        TreeDiff.Patch<Integer> expected = TreeDiff.diff(before, after);
+
+        PooledBinaryTree<Integer> pooled = PooledBinaryTree.fromNodes(copyOf(before).getRoot());
+        PersistentBinaryTree<Integer> persistent = PersistentBinaryTree.fromNodes(copyOf(after).getRoot());
+        assertEquals(expected.toString(), TreeDiff.diff(pooled, persistent).toString());
+        assertEquals(expected.toString(), TreeDiff.diff(pooled, after, TreeDiff.Pruning.HASH).toString());
+
+        ConcurrentBinaryTree<Integer> first = new ConcurrentBinaryTree<>(copyOf(before));
+        ConcurrentBinaryTree<Integer> second = new ConcurrentBinaryTree<>(copyOf(after));
+        assertEquals(expected.toString(), TreeDiff.diff(first, second).toString());
+        assertEquals(expected.toString(), TreeDiff.diff(before, second).toString());
+        assertTrue(TreeDiff.diff(first, first).isEmpty());
+
+        first.apply(TreeDiff.diff(first, second));
+        assertEquals(after.inorder().toString(), first.inorder().toString());
+    }
+
+    @Test
+    public void testPersistentVersionsOnlyVisitTheChangedPaths() {
+        PersistentBinaryTree<Integer> v0 = PersistentBinaryTree.fromNodes(TreeShapes.COMPLETE.tree(10_000, 1L).getRoot());
+        PersistentBinaryTree<Integer> v1 = v0.setElem("LRLR", -1).prune("LLR").addRight("LRRRRRRRRRRRR", -2);
+
+        TreeDiff.Patch<Integer> patch = TreeDiff.diff(v0, v1);
+        assertEquals(3, patch.getEdits().size());
+        assertTrue(patch.getCompared() <= 20, "compared " + patch.getCompared());
+
+        BinaryTree<Integer> before = v0.toBinaryTree();
+        TreeDiff.Patch<Integer> copied = TreeDiff.diff(before, v1.toBinaryTree());
+        assertEquals(patch.toString(), copied.toString());
+        assertTrue(copied.getCompared() > 7_000, "compared " + copied.getCompared());
+
+        before.apply(patch);
+        assertEquals(v1.toBinaryTree(), before);
+    }
+
+    @Test
+    public void testConcurrentTreeAppliesUnderItsLock() {
+        BinaryTree<Integer> before = TreeShapes.RANDOM.tree(1_000, 3L);
+        BinaryTree<Integer> after = copyOf(before);
+        after.getRoot().getLeft().setRight(null);
+        ConcurrentBinaryTree<Integer> shared = new ConcurrentBinaryTree<>(copyOf(before));
+
+        shared.apply(TreeDiff.diff(before, after));
+        assertEquals(after.size(), shared.size());
+        assertEquals(after.height(), shared.height());
+        assertEquals(after.inorder().toString(), shared.inorder().toString());
+    }
+
+    /*
+     * Equal by value, hashed by identity, so the hashes change from one process to the next.
+     */
+    private static final class Name implements Serializable {
+
+        private final String value;
+
+        private Name(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Name && ((Name) other).value.equals(this.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return this.value;
+        }
+    }
+}
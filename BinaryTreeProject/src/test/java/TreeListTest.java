@@ -0,0 +1,115 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IList;
+import com.jalasoft.main.TreeList;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeListTest
+{
+
+    @Test
+    public void testPositionalOperationsMatchArrayList() {
+        TreeList<String> list = new TreeList<>();
+        List<String> expected = new ArrayList<>();
+        Random random = new Random(5L);
+
+        for (int i = 0; i < 5_000; i++) {
+            int op = random.nextInt(5);
+            if (op < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, "e" + i);
+                expected.add(index, "e" + i);
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                list.remove((Integer) index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list.set(index, "s" + i);
+                expected.set(index, "s" + i);
+            }
+        }
+
+        assertEquals(expected.size(), (int) list.size());
+        assertEquals(expected, toList(list));
+        for (int i = 0; i < expected.size(); i += 37) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertTrue(list.height() <= 1.45 * (Math.log(expected.size() + 2) / Math.log(2)));
+    }
+
+    @Test
+    public void testDequeAndSearchOperations() {
+        IList<String> list = new TreeList<>();
+        list.addLast("b");
+        list.addFirst("a");
+        list.addLast("c");
+        list.addLast("b");
+
+        assertEquals("a", list.getFirst());
+        assertEquals("b", list.getLast());
+        assertEquals(1, (int) list.indexOf("b"));
+        assertEquals(3, (int) list.lastIndexOf("b"));
+        assertEquals(-1, (int) list.indexOf("z"));
+
+        list.remove("b");
+        list.removeFirst();
+        list.removeLast();
+        assertEquals(List.of("c"), toList(list));
+        assertTrue(list.contains("c"));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        Assertions.assertThrows(ContractViolationException.class, list::getFirst);
+        Assertions.assertThrows(ContractViolationException.class, () -> list.add(1, "x"));
+    }
+
+    @Test
+    public void testIteratorRemoveAndFailFast() {
+        TreeList<String> list = new TreeList<>();
+        for (int i = 0; i < 200; i++) {
+            list.addLast("e" + i);
+        }
+
+        Iterator<String> iterator = list.iterator();
+        int index = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            if (index++ % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(100, (int) list.size());
+        assertEquals("e1", list.get(0));
+        assertEquals("e199", list.getLast());
+
+        Iterator<String> stale = list.iterator();
+        list.addLast("x");
+        Assertions.assertThrows(ConcurrentModificationException.class, stale::hasNext);
+    }
+
+    @Test
+    public void testCopyEqualsAndStream() {
+        TreeList<String> list = new TreeList<>();
+        for (int i = 0; i < 50; i++) {
+            list.addLast("e" + i);
+        }
+
+        IList<String> copy = list.deepCopy();
+        assertEquals(list, copy);
+        assertEquals(list.hashCode(), copy.hashCode());
+        copy.set(0, "changed");
+        assertEquals("e0", list.get(0));
+        assertEquals(50, list.stream().count());
+        Assertions.assertThrows(ContractViolationException.class, () -> list.deepCopy(elem -> null));
+    }
+}
@@ -0,0 +1,164 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ParallelTreeOps;
+import com.jalasoft.main.PooledBinaryTree;
+import com.jalasoft.main.TreeMerge;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeMergeTest
+{
+
+    @Test
+    public void testMergeCombinesMatchingPositions() {
+        BinaryTree<Integer> first = new BinaryTree<>(1);
+        first.getRoot().setLeft(new BinaryNode<>(2, new BinaryNode<>(4, null, null), new BinaryNode<>(5, null, null)));
+        first.getRoot().setRight(new BinaryNode<>(3, null, new BinaryNode<>(6, null, null)));
+        BinaryTree<Integer> second = new BinaryTree<>(4);
+        second.getRoot().setLeft(new BinaryNode<>(1, new BinaryNode<>(3, null, null), null));
+        second.getRoot().setRight(new BinaryNode<>(7, new BinaryNode<>(2, null, null), new BinaryNode<>(6, null, null)));
+
+        IBinaryTree<Integer> merged = first.mergetree(second, Integer::sum);
+
+        assertEquals(List.of(5, 3, 10, 7, 5, 2, 12), toList(merged.levelorder()));
+        assertEquals(7, (int) merged.size());
+        assertEquals(3, (int) merged.height());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), toList(first.levelorder()));
+        assertEquals(6, (int) second.size());
+        assertNotSame(second.getRoot().getRight().getLeft(), merged.getRoot().getRight().getLeft());
+    }
+
+    @Test
+    public void testInPlaceMovesTheSecondTree() {
+        BinaryTree<Integer> first = new BinaryTree<>(TreeShapes.COMPLETE.build(100, 1L).getElem());
+        first.getRoot().setLeft(TreeShapes.COMPLETE.build(100, 1L));
+        BinaryTree<Integer> second = TreeShapes.RANDOM.tree(300, 2L);
+        List<Object> expected = shape(first.mergetree(second, Integer::sum).getRoot());
+        BinaryNode<Integer> firstRoot = first.getRoot();
+
+        IBinaryTree<Integer> merged = first.mergetree(second, Integer::sum, TreeMerge.Mode.IN_PLACE);
+
+        assertSame(first, merged);
+        assertSame(firstRoot, merged.getRoot());
+        assertTrue(second.isEmpty());
+        assertEquals(expected, shape(merged.getRoot()));
+        assertMetrics(merged);
+        Assertions.assertThrows(ContractViolationException.class,
+                () -> first.mergetree(first, Integer::sum, TreeMerge.Mode.IN_PLACE));
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        TreeMerge parallel = new TreeMerge(ForkJoinPool.commonPool(), 4);
+        TreeMerge sequential = new TreeMerge(ForkJoinPool.commonPool(), 0);
+        for (TreeShapes shape : List.of(TreeShapes.COMPLETE, TreeShapes.RANDOM)) {
+            BinaryTree<Integer> first = wrap(shape.build(40_000, 3L));
+            BinaryTree<Integer> second = wrap(TreeShapes.RANDOM.build(30_000, 4L));
+
+            BinaryTree<Integer> expected = sequential.merge(first, second, Integer::sum);
+            BinaryTree<Integer> actual = parallel.merge(first, second, Integer::sum);
+            assertEquals(shape(expected.getRoot()), shape(actual.getRoot()));
+            assertMetrics(actual);
+
+            first.mergetree(second, Integer::sum, TreeMerge.Mode.IN_PLACE);
+            assertEquals(shape(expected.getRoot()), shape(first.getRoot()));
+            assertMetrics(first);
+        }
+    }
+
+    @Test
+    public void testDeepTreesAndKWayMerge() {
+        BinaryTree<Integer> left = TreeShapes.LEFT_SKEWED.tree(20_000, 1L);
+        BinaryTree<Integer> zigzag = TreeShapes.ZIGZAG.tree(20_000, 1L);
+        BinaryTree<Integer> ones = new BinaryTree<>(1);
+
+        BinaryTree<Integer> merged = TreeMerge.common().mergeAll(List.of(left, zigzag, ones), Integer::sum);
+
+        assertEquals(-1, merged.getRoot().getElem());
+        assertEquals(0, merged.getRoot().getLeft().getElem());
+        assertEquals(2, merged.getRoot().getLeft().getLeft().getElem());
+        assertEquals(20_000, merged.height());
+        assertMetrics(merged);
+        assertEquals(20_000, (int) left.size());
+
+        assertTrue(TreeMerge.common().mergeAll(List.of(), Integer::sum).isEmpty());
+        IBinaryTree<Integer> empty = new BinaryTree<Integer>().mergetree(ones, Integer::sum);
+        assertEquals(List.of(1), toList(empty.levelorder()));
+        assertEquals(List.of(2), toList(new PooledBinaryTree<>(1).mergetree(ones, Integer::sum).levelorder()));
+    }
+
+    @Test
+    public void testIndexedTreesMergeThroughIndices() {
+        BinaryTree<Integer> first = TreeShapes.RANDOM.tree(3_000, 4L);
+        BinaryTree<Integer> second = TreeShapes.ZIGZAG.tree(2_000, 9L);
+        BinaryTree<Integer> expected = TreeMerge.common().merge(first, second, Integer::sum);
+
+        PooledBinaryTree<Integer> pooled = PooledBinaryTree.fromNodes(first.getRoot());
+        IBinaryTree<Integer> copy = pooled.mergetree(PooledBinaryTree.fromNodes(second.getRoot()), Integer::sum);
+        assertEquals(toList(expected.preorder()), toList(copy.preorder()));
+        assertEquals(toList(expected.inorder()), toList(copy.inorder()));
+        assertEquals(toList(first.levelorder()), toList(pooled.levelorder()));
+
+        BinaryTree<Integer> source = (BinaryTree<Integer>) second.deepCopy(elem -> elem);
+        assertSame(pooled, pooled.mergetree(source, Integer::sum, TreeMerge.Mode.IN_PLACE));
+        assertEquals(toList(expected.preorder()), toList(pooled.preorder()));
+        assertEquals(toList(expected.inorder()), toList(pooled.inorder()));
+        assertTrue(source.isEmpty());
+
+        PooledBinaryTree<Integer> empty = new PooledBinaryTree<>();
+        empty.mergetree(second.deepCopy(elem -> elem), Integer::sum, TreeMerge.Mode.IN_PLACE);
+        assertEquals(toList(second.preorder()), toList(empty.preorder()));
+        assertEquals(toList(second.inorder()), toList(empty.inorder()));
+    }
+
+    private static BinaryTree<Integer> wrap(BinaryNode<Integer> root) {
+        BinaryTree<Integer> tree = new BinaryTree<>(root.getElem());
+        BinaryNode<Integer> left = root.getLeft();
+        BinaryNode<Integer> right = root.getRight();
+        root.setLeft(null);
+        root.setRight(null);
+        tree.getRoot().setLeft(left);
+        tree.getRoot().setRight(right);
+        return tree;
+    }
+
+    private static void assertMetrics(IBinaryTree<Integer> tree) {
+        ParallelTreeOps ops = new ParallelTreeOps(ForkJoinPool.commonPool(), 0);
+        assertEquals(ops.size(tree.getRoot()), tree.size());
+        assertEquals(ops.height(tree.getRoot()), tree.height());
+        assertEquals(ops.leaves(tree.getRoot()), tree.leaves());
+        assertEquals(ops.isBalanced(tree.getRoot()), tree.isBalanced());
+    }
+
+    private static List<Object> shape(BinaryNode<Integer> root) {
+        List<Object> shape = new ArrayList<>();
+        Deque<BinaryNode<Integer>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            BinaryNode<Integer> node = stack.pop();
+            shape.add(node.getElem());
+            shape.add((node.getLeft() != null ? 1 : 0) + (node.getRight() != null ? 2 : 0));
+            if (node.getRight() != null) {
+                stack.push(node.getRight());
+            }
+            if (node.getLeft() != null) {
+                stack.push(node.getLeft());
+            }
+        }
+        return shape;
+    }
+}
@@ -0,0 +1,84 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.integration.exceptions.ContractViolationException;
+import com.jalasoft.main.LinkedList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VerificationTest
+{
+
+    private Verification.Level previous;
+
+    @BeforeEach
+    public void setUp() {
+        previous = Verification.getLevel();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Verification.setLevel(previous);
+    }
+
+    @Test
+    public void testTestsRunWithFullContracts() {
+        assertEquals(Verification.Level.FULL, Verification.getLevel());
+    }
+
+    @Test
+    public void testFullChecksEveryContract() {
+        Verification.setLevel(Verification.Level.FULL);
+        Assertions.assertThrows(ContractViolationException.class, () -> Verification.require(false));
+        Assertions.assertThrows(ContractViolationException.class, () -> Verification.ensure(false));
+        Assertions.assertThrows(ContractViolationException.class, () -> Verification.invariant(false));
+        Assertions.assertThrows(ContractViolationException.class, () -> Verification.check(false));
+    }
+
+    @Test
+    public void testCheapOnlyChecksPreconditions() {
+        Verification.setLevel(Verification.Level.CHEAP);
+        Assertions.assertThrows(ContractViolationException.class, () -> Verification.require(false));
+        Verification.ensure(false);
+        Verification.invariant(false);
+        Verification.check(false);
+    }
+
+    @Test
+    public void testOffChecksNothing() {
+        Verification.setLevel(Verification.Level.OFF);
+        Verification.require(false);
+        Verification.ensure(false);
+        Verification.invariant(false);
+        Verification.check(false);
+    }
+
+    @Test
+    public void testIsEnabled() {
+        Verification.setLevel(Verification.Level.CHEAP);
+        assertTrue(Verification.isEnabled(Verification.Level.OFF));
+        assertTrue(Verification.isEnabled(Verification.Level.CHEAP));
+        assertTrue(!Verification.isEnabled(Verification.Level.FULL));
+        assertTrue(!Verification.isFull());
+    }
+
+    @Test
+    public void testSetLevelPrecondition() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Verification.setLevel(null));
+    }
+
+    @Test
+    public void testCheapListKeepsPreconditions() {
+        Verification.setLevel(Verification.Level.CHEAP);
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(99, list.getLast());
+        Assertions.assertThrows(ContractViolationException.class, () -> list.addLast(null));
+    }
+}
@@ -0,0 +1,96 @@
+import static com.jalasoft.benchmark.TestLists.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jalasoft.benchmark.TreeShapes;
+import com.jalasoft.interfaces.IElementCodec;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ElementCodecs;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class WireFormatTest
+{
+
+    @Test
+    public void testRoundTripKeepsTheShape() throws IOException {
+        for (TreeShapes shape : TreeShapes.values()) {
+            BinaryTree<Integer> tree = shape.tree(40_000, 3L);
+            BinaryTree<Integer> read = read(write(tree, ElementCodecs.INT), ElementCodecs.INT);
+
+            assertEquals(tree.size(), read.size());
+            assertEquals(tree.height(), read.height());
+            assertEquals(toList(tree.preorderIterator()), toList(read.preorderIterator()));
+            assertEquals(toList(tree.inorderIterator()), toList(read.inorderIterator()));
+        }
+    }
+
+    @Test
+    public void testVariableSizeElements() throws IOException {
+        String big = "y".repeat(3 << 20);
+        BinaryTree<String> tree = new BinaryTree<>("raíz");
+        tree.getRoot().setLeft(new BinaryNode<>("", null, new BinaryNode<>(big, null, null)));
+        tree.getRoot().setRight(new BinaryNode<>("🌳", null, null));
+
+        byte[] bytes = write(tree, ElementCodecs.STRING);
+        BinaryTree<String> read = read(bytes, ElementCodecs.STRING);
+
+        assertEquals(tree, read);
+        assertEquals(big, read.getRoot().getLeft().getRight().getElem());
+    }
+
+    @Test
+    public void testEmptyAndSmallTrees() throws IOException {
+        BinaryTree<Long> empty = new BinaryTree<>();
+        assertTrue(read(write(empty, ElementCodecs.LONG), ElementCodecs.LONG).isEmpty());
+
+        BinaryTree<Long> single = new BinaryTree<>(7L);
+        byte[] bytes = write(single, ElementCodecs.LONG);
+        assertEquals(13 + 8 + 1 + 8 + 8, bytes.length);
+        assertEquals(single, read(bytes, ElementCodecs.LONG));
+    }
+
+    @Test
+    public void testCorruptedStreams() throws IOException {
+        byte[] bytes = write(TreeShapes.COMPLETE.tree(100, 1L), ElementCodecs.INT);
+
+        byte[] badMagic = bytes.clone();
+        badMagic[0] ^= 1;
+        Assertions.assertThrows(StreamCorruptedException.class, () -> read(badMagic, ElementCodecs.INT));
+        Assertions.assertThrows(StreamCorruptedException.class, () -> read(bytes, ElementCodecs.LONG));
+        Assertions.assertThrows(EOFException.class,
+                () -> read(Arrays.copyOf(bytes, bytes.length - 9), ElementCodecs.INT));
+
+        byte[] badCount = bytes.clone();
+        badCount[9] = 99;
+        Assertions.assertThrows(StreamCorruptedException.class, () -> read(badCount, ElementCodecs.INT));
+
+        byte[] hugeBlock = bytes.clone();
+        hugeBlock[17] = hugeBlock[18] = hugeBlock[19] = (byte) 0xFF;
+        hugeBlock[20] = 0x7F;
+        Assertions.assertThrows(StreamCorruptedException.class, () -> read(hugeBlock, ElementCodecs.INT));
+
+        byte[] strings = write(new BinaryTree<>("a"), ElementCodecs.STRING);
+        strings[17] = strings[18] = strings[19] = (byte) 0xFF;
+        strings[20] = 0x7F;
+        Assertions.assertThrows(StreamCorruptedException.class, () -> read(strings, ElementCodecs.STRING));
+    }
+
+    private static <T> byte[] write(BinaryTree<T> tree, IElementCodec<T> codec) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        tree.writeTo(Channels.newChannel(bytes), codec);
+        return bytes.toByteArray();
+    }
+
+    private static <T> BinaryTree<T> read(byte[] bytes, IElementCodec<T> codec) throws IOException {
+        return BinaryTree.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)), codec);
+    }
+}
@@ -0,0 +1,49 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.CachingBinaryTree;
+
+/*
+ * Runs ROUNDS rounds of READS reads (inorder, levelorder, size and hashCode) followed by one write
+ * to a leaf, on a plain BinaryTree and on a CachingBinaryTree of the same shape.
+ */
+public final class CachedReadBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int READS = 1_000;
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 1_000, 10_000);
+
+        System.out.printf("%10s %14s %14s %8s%n", "elements", "plain ms", "caching ms", "speedup");
+
+        for (int size : sizes) {
+            BinaryTree<Integer> plain = TreeShapes.RANDOM.tree(size, 42L);
+            CachingBinaryTree<Integer> caching = new CachingBinaryTree<>(-1);
+            caching.getRoot().setLeft(TreeShapes.RANDOM.build(size - 1, 42L));
+
+            double plainMillis = Harness.medianMillis(() -> run(plain), 1, 3);
+            double cachingMillis = Harness.medianMillis(() -> run(caching), 1, 3);
+
+            System.out.printf("%10d %14.3f %14.3f %7.1fx%n", size, plainMillis, cachingMillis, plainMillis / cachingMillis);
+        }
+    }
+
+    private static void run(BinaryTree<Integer> tree) {
+        long sum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < READS; i++) {
+                sum += tree.inorder().size() + tree.levelorder().size() + tree.size() + tree.hashCode();
+            }
+            BinaryNode<Integer> node = tree.getRoot();
+            while (node.getLeft() != null) {
+                node = node.getLeft();
+            }
+            node.setElem(round);
+        }
+        if (sum == 42) {
+            System.out.print("");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.LockFreeSearchTree;
+import java.util.Collections;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Threads run a mix of 50% contains, 25% insert and 25% delete over a fixed key range for a fixed
+ * time. Run with the thread counts as arguments, for example 1 4 16 64. The tree is not balanced,
+ * so it is filled in random order.
+ */
+public final class ContentionBenchmark {
+
+    private static final int KEY_RANGE = 100_000;
+    private static final long MILLIS = 1_000;
+
+    private interface Target {
+        boolean contains(int key);
+
+        boolean insert(int key);
+
+        boolean delete(int key);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] threads = Harness.sizes(args, 1, 2, 4, Runtime.getRuntime().availableProcessors());
+
+        System.out.printf("cpus %d, keys %d%n", Runtime.getRuntime().availableProcessors(), KEY_RANGE);
+        System.out.printf("%8s %16s %16s %16s%n", "threads", "lock-free op/ms", "skip list op/ms", "locked op/ms");
+
+        for (int count : threads) {
+            LockFreeSearchTree<Integer> lockFree = new LockFreeSearchTree<>();
+            ConcurrentSkipListSet<Integer> skipList = new ConcurrentSkipListSet<>();
+            SortedSet<Integer> locked = Collections.synchronizedSortedSet(new TreeSet<>());
+
+            double lockFreeRate = run(count, new Target() {
+                public boolean contains(int key) { return lockFree.contains(key); }
+                public boolean insert(int key) { return lockFree.insert(key); }
+                public boolean delete(int key) { return lockFree.delete(key); }
+            });
+            double skipListRate = run(count, new Target() {
+                public boolean contains(int key) { return skipList.contains(key); }
+                public boolean insert(int key) { return skipList.add(key); }
+                public boolean delete(int key) { return skipList.remove(key); }
+            });
+            double lockedRate = run(count, new Target() {
+                public boolean contains(int key) { return locked.contains(key); }
+                public boolean insert(int key) { return locked.add(key); }
+                public boolean delete(int key) { return locked.remove(key); }
+            });
+
+            System.out.printf("%8d %16.1f %16.1f %16.1f%n", count, lockFreeRate, skipListRate, lockedRate);
+        }
+    }
+
+    private static double run(int threads, Target target) throws InterruptedException {
+        Random fill = new Random(42L);
+        for (int i = 0; i < KEY_RANGE / 2; i++) {
+            target.insert(fill.nextInt(KEY_RANGE));
+        }
+
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] deadline = new long[1];
+
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long done = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    int key = random.nextInt(KEY_RANGE);
+                    int op = random.nextInt(4);
+                    if (op < 2) {
+                        target.contains(key);
+                    } else if (op == 2) {
+                        target.insert(key);
+                    } else {
+                        target.delete(key);
+                    }
+                    done++;
+                }
+                operations.add(done);
+            });
+            workers[i].start();
+        }
+
+        deadline[0] = System.nanoTime() + MILLIS * 1_000_000;
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return operations.sum() / (double) MILLIS;
+    }
+}
@@ -0,0 +1,49 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.interfaces.DeepCloneable;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.LinkedList;
+import java.io.Serializable;
+
+public final class DeepCopyBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 100_000, 1_000_000);
+
+        System.out.printf("%-12s %10s %16s %12s %8s%n", "structure", "elements", "serialization ms", "copier ms", "speedup");
+
+        for (int size : sizes) {
+            for (TreeShapes shape : TreeShapes.values()) {
+                BinaryTree<Integer> tree = shape.tree(size, 42L);
+                report(shape.name(), size, tree, () -> tree.deepCopy());
+            }
+
+            LinkedList<Integer> list = new LinkedList<>();
+            for (int i = 0; i < size; i++) {
+                list.addLast(i);
+            }
+            report("LinkedList", size, list, () -> list.deepCopy());
+        }
+    }
+
+    private static void report(String structure, int size, Serializable source, Runnable copier) {
+        double serialization;
+        try {
+            serialization = Harness.medianMillis(() -> serialize(source), 1, 3);
+        } catch (StackOverflowError e) {
+            serialization = Double.NaN;
+        }
+        double copy = Harness.medianMillis(copier, 2, 5);
+
+        System.out.printf("%-12s %10d %16.3f %12.3f %7.2fx%n",
+                structure, size, serialization, copy, serialization / copy);
+    }
+
+    private static void serialize(Serializable source) {
+        try {
+            DeepCloneable.deepCopy(source);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
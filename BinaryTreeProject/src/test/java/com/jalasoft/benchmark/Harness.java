@@ -0,0 +1,32 @@
+package com.jalasoft.benchmark;
+
+import java.util.Arrays;
+
+public final class Harness {
+
+    private Harness() {
+    }
+
+    public static double medianMillis(Runnable task, int warmups, int runs) {
+        for (int i = 0; i < warmups; i++) {
+            task.run();
+        }
+
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        return samples[runs / 2] / 1_000_000.0;
+    }
+
+    public static int[] sizes(String[] args, int... defaults) {
+        if (args.length == 0) {
+            return defaults;
+        }
+        return Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -0,0 +1,81 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryTree;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * The structural hashCode() is compared with hashing the level order of the tree, which is what
+ * it did before, and equals() on two different trees with comparing their level orders. A hit in
+ * a HashMap keyed by trees still walks both equal trees once to confirm the match.
+ */
+public final class HashKeyBenchmark {
+
+    private static final int KEYS = 16;
+    private static final int LOOKUPS = 1_000;
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 10_000, 100_000);
+
+        System.out.printf("%10s %18s %18s %18s %18s %12s%n", "elements",
+                "levelorder hash us", "structural hash us", "levelorder eq us", "structural eq us", "map hit us");
+
+        for (int size : sizes) {
+            Map<BinaryTree<Integer>, Integer> cache = new HashMap<>();
+            BinaryTree<Integer>[] probes = newTrees(KEYS);
+            for (int i = 0; i < KEYS; i++) {
+                cache.put(TreeShapes.RANDOM.tree(size, i), i);
+                probes[i] = TreeShapes.RANDOM.tree(size, i);
+            }
+            BinaryTree<Integer> twin = TreeShapes.RANDOM.tree(size, 0L);
+
+            double levelorderHash = Harness.medianMillis(() -> {
+                for (int i = 0; i < LOOKUPS / 100; i++) {
+                    levelorderHash(probes[i % KEYS]);
+                }
+            }, 1, 3) * 1_000 / (LOOKUPS / 100);
+            double structuralHash = Harness.medianMillis(() -> {
+                for (int i = 0; i < LOOKUPS; i++) {
+                    probes[i % KEYS].hashCode();
+                }
+            }, 2, 5) * 1_000 / LOOKUPS;
+            double levelorderEquals = Harness.medianMillis(() -> {
+                for (int i = 0; i < LOOKUPS / 100; i++) {
+                    Objects.equals(probes[0].levelorder(), probes[1].levelorder());
+                }
+            }, 1, 3) * 1_000 / (LOOKUPS / 100);
+            double structuralEquals = Harness.medianMillis(() -> {
+                for (int i = 0; i < LOOKUPS; i++) {
+                    probes[0].equals(probes[1]);
+                }
+            }, 2, 5) * 1_000 / LOOKUPS;
+            double mapHit = Harness.medianMillis(() -> {
+                for (int i = 0; i < LOOKUPS / 100; i++) {
+                    cache.get(probes[i % KEYS]);
+                }
+            }, 1, 3) * 1_000 / (LOOKUPS / 100);
+
+            System.out.printf("%10d %18.3f %18.3f %18.3f %18.3f %12.3f%n", size,
+                    levelorderHash, structuralHash, levelorderEquals, structuralEquals, mapHit);
+            if (!probes[0].equals(twin)) {
+                throw new IllegalStateException("equal trees compare unequal");
+            }
+        }
+    }
+
+    private static int levelorderHash(BinaryTree<Integer> tree) {
+        Object[] array = new Object[tree.size() + 1];
+        array[0] = tree.size();
+        int i = 1;
+        for (Integer elem : tree.levelorder()) {
+            array[i++] = elem;
+        }
+        return Objects.hash(array);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BinaryTree<Integer>[] newTrees(int count) {
+        return (BinaryTree<Integer>[]) new BinaryTree<?>[count];
+    }
+}
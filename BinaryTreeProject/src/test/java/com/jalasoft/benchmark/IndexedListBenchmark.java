@@ -0,0 +1,52 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.interfaces.IList;
+import com.jalasoft.main.ArrayList;
+import com.jalasoft.main.LinkedList;
+import com.jalasoft.main.TreeList;
+import java.util.Random;
+import java.util.function.Supplier;
+
+public final class IndexedListBenchmark {
+
+    private static final int OPERATIONS = 2_000;
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 100_000, 1_000_000);
+
+        System.out.printf("%-12s %10s %12s %12s %12s%n", "list", "elements", "get us", "add us", "remove us");
+
+        for (int size : sizes) {
+            report("TreeList", size, TreeList::new);
+            report("ArrayList", size, ArrayList::new);
+            report("LinkedList", size, LinkedList::new);
+        }
+    }
+
+    private static void report(String name, int size, Supplier<IList<Long>> factory) {
+        IList<Long> list = factory.get();
+        for (int i = 0; i < size; i++) {
+            list.addLast((long) i);
+        }
+        Random random = new Random(42L);
+        int[] indices = random.ints(OPERATIONS, 0, size).toArray();
+
+        double get = Harness.medianMillis(() -> {
+            for (int index : indices) {
+                list.get(index);
+            }
+        }, 1, 3) * 1_000 / OPERATIONS;
+        double add = Harness.medianMillis(() -> {
+            for (int index : indices) {
+                list.add(index, (long) index);
+            }
+        }, 0, 1) * 1_000 / OPERATIONS;
+        double remove = Harness.medianMillis(() -> {
+            for (int index : indices) {
+                list.remove((Integer) index);
+            }
+        }, 0, 1) * 1_000 / OPERATIONS;
+
+        System.out.printf("%-12s %10d %12.3f %12.3f %12.3f%n", name, size, get, add, remove);
+    }
+}
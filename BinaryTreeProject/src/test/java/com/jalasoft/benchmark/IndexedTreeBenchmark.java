@@ -0,0 +1,38 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.PooledBinaryTree;
+import java.util.function.Function;
+
+public final class IndexedTreeBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 100_000, 1_000_000);
+
+        System.out.printf("%-12s %10s %-10s %12s %12s %8s%n",
+                "shape", "nodes", "operation", "pointer ms", "pooled ms", "speedup");
+
+        for (TreeShapes shape : TreeShapes.values()) {
+            for (int size : sizes) {
+                BinaryTree<Integer> pointer = shape.tree(size, 42L);
+                PooledBinaryTree<Integer> pooled = PooledBinaryTree.fromNodes(pointer.getRoot());
+
+                report(shape, size, "preorder", pointer, pooled, IBinaryTree::preorder);
+                report(shape, size, "inorder", pointer, pooled, IBinaryTree::inorder);
+                report(shape, size, "postorder", pointer, pooled, IBinaryTree::postorder);
+                report(shape, size, "levelorder", pointer, pooled, IBinaryTree::levelorder);
+                report(shape, size, "height", pointer, pooled, IBinaryTree::height);
+            }
+        }
+    }
+
+    private static void report(TreeShapes shape, int size, String operation,
+                               IBinaryTree<Integer> pointer, IBinaryTree<Integer> pooled,
+                               Function<IBinaryTree<Integer>, ?> task) {
+        double pointerMillis = Harness.medianMillis(() -> task.apply(pointer), 3, 7);
+        double pooledMillis = Harness.medianMillis(() -> task.apply(pooled), 3, 7);
+        System.out.printf("%-12s %10d %-10s %12.3f %12.3f %7.2fx%n",
+                shape, size, operation, pointerMillis, pooledMillis, pointerMillis / pooledMillis);
+    }
+}
@@ -0,0 +1,57 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.integration.Verification;
+import com.jalasoft.main.LinkedList;
+import com.jalasoft.main.LinkedQueue;
+import com.jalasoft.main.LinkedStack;
+
+public final class ListBuildingBenchmark {
+
+    private static final int FULL_LEVEL_LIMIT = 10_000;
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 1_000, 10_000, 100_000, 1_000_000);
+        Verification.Level previous = Verification.getLevel();
+
+        System.out.printf("%-6s %10s %14s %14s %14s%n", "level", "elements", "list ms", "queue ms", "stack ms");
+        try {
+            for (Verification.Level level : Verification.Level.values()) {
+                Verification.setLevel(level);
+                for (int size : sizes) {
+                    if (level == Verification.Level.FULL && size > FULL_LEVEL_LIMIT) {
+                        System.out.printf("%-6s %10d %14s %14s %14s%n", level, size, "skipped", "skipped", "skipped");
+                        continue;
+                    }
+                    int runs = size > 100_000 ? 3 : 7;
+                    double list = Harness.medianMillis(() -> buildList(size), 2, runs);
+                    double queue = Harness.medianMillis(() -> buildQueue(size), 2, runs);
+                    double stack = Harness.medianMillis(() -> buildStack(size), 2, runs);
+                    System.out.printf("%-6s %10d %14.3f %14.3f %14.3f%n", level, size, list, queue, stack);
+                }
+            }
+        } finally {
+            Verification.setLevel(previous);
+        }
+    }
+
+    private static void buildList(int size) {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+    }
+
+    private static void buildQueue(int size) {
+        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+    }
+
+    private static void buildStack(int size) {
+        LinkedStack<Integer> stack = new LinkedStack<>();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+    }
+}
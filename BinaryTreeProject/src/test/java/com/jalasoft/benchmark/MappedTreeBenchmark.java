@@ -0,0 +1,60 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ElementCodecs;
+import com.jalasoft.main.MappedBinaryTree;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class MappedTreeBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = Harness.sizes(args, 1_000_000, 5_000_000);
+
+        System.out.printf("%-12s %10s %12s %12s %14s%n", "shape", "nodes", "open ms", "read ms", "mapped walk");
+
+        for (int size : sizes) {
+            for (TreeShapes shape : TreeShapes.values()) {
+                BinaryTree<Integer> tree = shape.tree(size, 42L);
+                Path mappedFile = Files.createTempFile("tree", ".mapped");
+                Path streamFile = Files.createTempFile("tree", ".stream");
+                try {
+                    MappedBinaryTree.write(tree, ElementCodecs.INT, mappedFile);
+                    try (FileChannel channel = FileChannel.open(streamFile, StandardOpenOption.WRITE)) {
+                        tree.writeTo(channel, ElementCodecs.INT);
+                    }
+
+                    double open = Harness.medianMillis(() -> open(mappedFile), 2, 5);
+                    double read = Harness.medianMillis(() -> read(streamFile), 1, 3);
+                    MappedBinaryTree<Integer> mapped = open(mappedFile);
+                    double mappedWalk = Harness.medianMillis(mapped::leaves, 1, 3);
+
+                    System.out.printf("%-12s %10d %12.3f %12.3f %14.3f%n", shape.name(), size, open, read, mappedWalk);
+                } finally {
+                    Files.deleteIfExists(mappedFile);
+                    Files.deleteIfExists(streamFile);
+                }
+            }
+        }
+    }
+
+    private static MappedBinaryTree<Integer> open(Path file) {
+        try {
+            return MappedBinaryTree.open(file, ElementCodecs.INT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BinaryTree<Integer> read(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return BinaryTree.readFrom(channel, ElementCodecs.INT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.CopyStrategies;
+import com.jalasoft.main.TreeMerge;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+public final class MergeBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 1_000_000, 4_000_000);
+        TreeMerge sequential = new TreeMerge(ForkJoinPool.commonPool(), 0);
+        TreeMerge parallel = TreeMerge.common();
+
+        System.out.printf("parallelism %d, cutoff depth %d%n",
+                ForkJoinPool.getCommonPoolParallelism(), parallel.getCutoffDepth());
+        System.out.printf("%-12s %10s %12s %12s %8s %14s%n", "shape", "nodes", "seq ms", "par ms", "speedup", "in place ms");
+
+        for (TreeShapes shape : TreeShapes.values()) {
+            for (int size : sizes) {
+                BinaryTree<Integer> first = tree(shape.build(size, 42L));
+                BinaryTree<Integer> second = tree(shape.build(size, 43L));
+
+                double seq = Harness.medianMillis(() -> sequential.merge(first, second, Integer::sum), 2, 5);
+                double par = Harness.medianMillis(() -> parallel.merge(first, second, Integer::sum), 2, 5);
+                double inPlace = inPlace(first, second, 5);
+
+                System.out.printf("%-12s %10d %12.3f %12.3f %7.2fx %14.3f%n", shape, size, seq, par, seq / par, inPlace);
+            }
+        }
+    }
+
+    private static double inPlace(BinaryTree<Integer> first, BinaryTree<Integer> second, int runs) {
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            IBinaryTree<Integer> target = first.deepCopy(CopyStrategies.share());
+            IBinaryTree<Integer> other = second.deepCopy(CopyStrategies.share());
+            long start = System.nanoTime();
+            target.mergetree(other, Integer::sum, TreeMerge.Mode.IN_PLACE);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[runs / 2] / 1_000_000.0;
+    }
+
+    private static BinaryTree<Integer> tree(BinaryNode<Integer> root) {
+        BinaryTree<Integer> tree = new BinaryTree<>(root.getElem());
+        tree.getRoot().setLeft(root.getLeft());
+        tree.getRoot().setRight(root.getRight());
+        return tree;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ElementCodecs;
+import com.jalasoft.main.OffHeapBinaryTree;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+public final class OffHeapGcBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 1_000_000, 4_000_000);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        System.out.printf("%-10s %10s %12s %12s %12s %12s%n",
+                "storage", "nodes", "heap MB", "off-heap MB", "full gc ms", "inorder ms");
+
+        for (int size : sizes) {
+            BinaryTree<Integer> pointer = TreeShapes.COMPLETE.tree(size, 42L);
+            report("pointer", size, pointer, 0L, memory);
+
+            OffHeapBinaryTree<Integer> offHeap = OffHeapBinaryTree.fromNodes(pointer.getRoot(), ElementCodecs.INT);
+            pointer = null;
+            report("off-heap", size, offHeap, offHeap.offHeapBytes(), memory);
+        }
+    }
+
+    private static void report(String storage, int size, IBinaryTree<Integer> tree, long offHeapBytes,
+                               MemoryMXBean memory) {
+        double gcMillis = Harness.medianMillis(System::gc, 1, 5);
+        long heapBytes = memory.getHeapMemoryUsage().getUsed();
+        double inorderMillis = Harness.medianMillis(tree::inorder, 2, 5);
+
+        System.out.printf("%-10s %10d %12.1f %12.1f %12.3f %12.3f%n", storage, size,
+                heapBytes / 1_048_576.0, offHeapBytes / 1_048_576.0, gcMillis, inorderMillis);
+    }
+}
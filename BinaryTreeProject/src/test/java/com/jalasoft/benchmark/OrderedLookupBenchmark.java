@@ -0,0 +1,56 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.AVLTree;
+import com.jalasoft.main.BinaryTree;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeSet;
+
+public final class OrderedLookupBenchmark {
+
+    private static final int LOOKUPS = 10_000;
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 100_000, 1_000_000);
+
+        System.out.printf("%10s %12s %14s %14s %16s%n", "elements", "insert ms", "avl lookup us", "TreeSet us", "linear scan us");
+
+        for (int size : sizes) {
+            Random random = new Random(42L);
+            int[] keys = random.ints(size, 0, Integer.MAX_VALUE).toArray();
+            int[] probes = random.ints(LOOKUPS, 0, Integer.MAX_VALUE).toArray();
+
+            AVLTree<Integer> avl = new AVLTree<>();
+            TreeSet<Integer> treeSet = new TreeSet<>();
+            double insert = Harness.medianMillis(() -> {
+                avl.makeEmpty();
+                for (int key : keys) {
+                    avl.insert(key);
+                }
+            }, 1, 3);
+            for (int key : keys) {
+                treeSet.add(key);
+            }
+            BinaryTree<Integer> unordered = TreeShapes.RANDOM.tree(size, 42L);
+
+            double avlLookup = Harness.medianMillis(() -> {
+                for (int probe : probes) {
+                    avl.contains(probe);
+                }
+            }, 2, 5) * 1_000 / LOOKUPS;
+            double treeSetLookup = Harness.medianMillis(() -> {
+                for (int probe : probes) {
+                    treeSet.contains(probe);
+                }
+            }, 2, 5) * 1_000 / LOOKUPS;
+            double scan = Harness.medianMillis(() -> {
+                for (int i = 0; i < 10; i++) {
+                    Integer probe = probes[i];
+                    unordered.stream().anyMatch(elem -> Objects.equals(elem, probe));
+                }
+            }, 1, 3) * 1_000 / 10;
+
+            System.out.printf("%10d %12.3f %14.3f %14.3f %16.3f%n", size, insert, avlLookup, treeSetLookup, scan);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.ParallelTreeOps;
+import java.util.concurrent.ForkJoinPool;
+
+public final class ParallelMetricsBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 1_000_000, 4_000_000);
+        ParallelTreeOps sequential = new ParallelTreeOps(ForkJoinPool.commonPool(), 0);
+        ParallelTreeOps parallel = ParallelTreeOps.common();
+
+        System.out.printf("parallelism %d, cutoff depth %d%n",
+                ForkJoinPool.getCommonPoolParallelism(), parallel.getCutoffDepth());
+        System.out.printf("%-12s %10s %-10s %12s %12s %8s%n", "shape", "nodes", "metric", "seq ms", "par ms", "speedup");
+
+        for (TreeShapes shape : TreeShapes.values()) {
+            for (int size : sizes) {
+                BinaryNode<Integer> root = shape.build(size, 42L);
+                report(shape, size, "size", Harness.medianMillis(() -> sequential.size(root), 3, 7),
+                        Harness.medianMillis(() -> parallel.size(root), 3, 7));
+                report(shape, size, "height", Harness.medianMillis(() -> sequential.height(root), 3, 7),
+                        Harness.medianMillis(() -> parallel.height(root), 3, 7));
+                report(shape, size, "leaves", Harness.medianMillis(() -> sequential.leaves(root), 3, 7),
+                        Harness.medianMillis(() -> parallel.leaves(root), 3, 7));
+                report(shape, size, "balanced", Harness.medianMillis(() -> sequential.isBalanced(root), 3, 7),
+                        Harness.medianMillis(() -> parallel.isBalanced(root), 3, 7));
+            }
+        }
+    }
+
+    private static void report(TreeShapes shape, int size, String metric, double sequential, double parallel) {
+        System.out.printf("%-12s %10d %-10s %12.3f %12.3f %7.2fx%n",
+                shape, size, metric, sequential, parallel, sequential / parallel);
+    }
+}
@@ -0,0 +1,104 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.interfaces.IBinaryTree;
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ConcurrentBinaryTree;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/*
+ * Threads share one tree of NODES nodes: out of every 1000 operations 1 is a write (hang or
+ * remove a leaf), 10 are inorder traversals and the rest read size() and height(). Run with the
+ * thread counts as arguments, for example 1 4 16. The StampedLock wrapper is compared with the
+ * same tree behind a synchronized block.
+ */
+public final class SharedTreeBenchmark {
+
+    private static final int NODES = 10_000;
+    private static final long MILLIS = 1_000;
+
+    private interface Target {
+        int metrics();
+
+        int traverse();
+
+        void write(Consumer<IBinaryTree<Integer>> writer);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] threads = Harness.sizes(args, 1, 2, 4, Runtime.getRuntime().availableProcessors());
+
+        System.out.printf("cpus %d, nodes %d%n", Runtime.getRuntime().availableProcessors(), NODES);
+        System.out.printf("%8s %18s %18s%n", "threads", "stamped op/ms", "synchronized op/ms");
+
+        for (int count : threads) {
+            ConcurrentBinaryTree<Integer> stamped = new ConcurrentBinaryTree<>(TreeShapes.RANDOM.tree(NODES, 42L));
+            double stampedRate = run(count, new Target() {
+                public int metrics() { return stamped.size() + stamped.height(); }
+                public int traverse() { return stamped.inorder().size(); }
+                public void write(Consumer<IBinaryTree<Integer>> writer) { stamped.write(writer); }
+            });
+
+            BinaryTree<Integer> plain = TreeShapes.RANDOM.tree(NODES, 42L);
+            Object lock = new Object();
+            double synchronizedRate = run(count, new Target() {
+                public int metrics() { synchronized (lock) { return plain.size() + plain.height(); } }
+                public int traverse() { synchronized (lock) { return plain.inorder().size(); } }
+                public void write(Consumer<IBinaryTree<Integer>> writer) { synchronized (lock) { writer.accept(plain); } }
+            });
+
+            System.out.printf("%8d %18.1f %18.1f%n", count, stampedRate, synchronizedRate);
+        }
+    }
+
+    private static double run(int threads, Target target) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] deadline = new long[1];
+
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long done = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    int op = random.nextInt(1_000);
+                    if (op == 0) {
+                        target.write(SharedTreeBenchmark::toggleLeaf);
+                    } else if (op <= 10) {
+                        target.traverse();
+                    } else {
+                        target.metrics();
+                    }
+                    done++;
+                }
+                operations.add(done);
+            });
+            workers[i].start();
+        }
+
+        deadline[0] = System.nanoTime() + MILLIS * 1_000_000;
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return operations.sum() / (double) MILLIS;
+    }
+
+    private static void toggleLeaf(IBinaryTree<Integer> tree) {
+        BinaryNode<Integer> root = tree.getRoot();
+        if (root.getRight() == null) {
+            root.setRight(new BinaryNode<>(-2, null, null));
+        } else {
+            root.setRight(null);
+        }
+    }
+}
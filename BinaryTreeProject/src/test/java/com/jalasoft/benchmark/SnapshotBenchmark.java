@@ -0,0 +1,70 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.PersistentBinaryTree;
+import com.jalasoft.main.VersionedBinaryTree;
+import java.util.Random;
+
+public final class SnapshotBenchmark {
+
+    private static final int UPDATES = 10_000;
+    private static final int COPIES = 5;
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 100_000, 1_000_000);
+
+        System.out.printf("%10s %18s %18s %16s%n", "elements", "path copy us/op", "deep copy us/op", "snapshot ns/op");
+
+        for (int size : sizes) {
+            BinaryTree<Integer> tree = new BinaryTree<>(0);
+            tree.getRoot().setLeft(TreeShapes.COMPLETE.build(size - 1, 42L));
+            PersistentBinaryTree<Integer> persistent = PersistentBinaryTree.fromNodes(tree.getRoot());
+            String[] paths = paths(persistent, new Random(42L));
+
+            double pathCopy = Harness.medianMillis(() -> {
+                VersionedBinaryTree<Integer> versions = new VersionedBinaryTree<>(persistent);
+                for (int i = 0; i < UPDATES; i++) {
+                    String path = paths[i];
+                    versions.update(version -> version.setElem(path, -version.get(path)));
+                }
+            }, 2, 5) * 1_000 / UPDATES;
+
+            double deepCopy = Harness.medianMillis(() -> {
+                BinaryTree<Integer> current = tree;
+                for (int i = 0; i < COPIES; i++) {
+                    current = (BinaryTree<Integer>) current.deepCopy(elem -> elem);
+                    current.getRoot().setElem(i);
+                }
+            }, 1, 3) * 1_000 / COPIES;
+
+            VersionedBinaryTree<Integer> versions = new VersionedBinaryTree<>(persistent);
+            double snapshot = Harness.medianMillis(() -> {
+                long sum = 0;
+                for (int i = 0; i < 1_000_000; i++) {
+                    sum += versions.snapshot().size();
+                }
+                if (sum == 42) {
+                    System.out.print("");
+                }
+            }, 2, 5);
+
+            System.out.printf("%10d %18.3f %18.3f %16.3f%n", size, pathCopy, deepCopy, snapshot);
+        }
+    }
+
+    private static String[] paths(PersistentBinaryTree<Integer> tree, Random random) {
+        String[] paths = new String[UPDATES];
+        for (int i = 0; i < UPDATES; i++) {
+            StringBuilder path = new StringBuilder();
+            while (true) {
+                path.append(random.nextBoolean() ? 'L' : 'R');
+                if (!tree.exists(path.toString())) {
+                    path.setLength(path.length() - 1);
+                    break;
+                }
+            }
+            paths[i] = path.toString();
+        }
+        return paths;
+    }
+}
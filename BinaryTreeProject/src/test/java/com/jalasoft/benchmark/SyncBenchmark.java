@@ -0,0 +1,88 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ElementCodecs;
+import com.jalasoft.main.TreeDiff;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+/*
+ * Brings a replica up to date after CHANGES elements of a random tree change: by sending the
+ * whole tree in the wire format and reading it back, or by sending a TreeDiff patch and applying
+ * it. The patch columns are the diff, the bytes of the serialized patch and one apply. The replica
+ * is a copy that shares no nodes, so the diff prunes on hashes; IDENTITY would walk every node.
+ */
+public final class SyncBenchmark {
+
+    private static final int CHANGES = 10;
+
+    public static void main(String[] args) {
+        int[] sizes = Harness.sizes(args, 100_000, 1_000_000);
+
+        System.out.printf("%10s %12s %12s %12s %12s %12s%n", "elements", "tree bytes", "resend ms",
+                "patch bytes", "diff ms", "apply ms");
+
+        for (int size : sizes) {
+            BinaryTree<Integer> before = TreeShapes.RANDOM.tree(size, 42L);
+            BinaryTree<Integer> after = (BinaryTree<Integer>) before.deepCopy(elem -> elem);
+            Random random = new Random(7L);
+            for (int i = 0; i < CHANGES; i++) {
+                BinaryNode<Integer> node = after.getRoot();
+                while (node.getLeft() != null || node.getRight() != null) {
+                    node = (random.nextBoolean() && node.getLeft() != null) || node.getRight() == null
+                            ? node.getLeft() : node.getRight();
+                }
+                node.setElem(-i);
+            }
+
+            byte[] tree = write(after);
+            double resendMillis = Harness.medianMillis(() -> read(write(after)), 1, 3);
+
+            TreeDiff.Patch<Integer> forward = TreeDiff.diff(before, after, TreeDiff.Pruning.HASH);
+            TreeDiff.Patch<Integer> backward = TreeDiff.diff(after, before, TreeDiff.Pruning.HASH);
+            double diffMillis = Harness.medianMillis(() -> TreeDiff.diff(before, after, TreeDiff.Pruning.HASH), 2, 5);
+            double applyMillis = Harness.medianMillis(() -> {
+                before.apply(forward);
+                before.apply(backward);
+            }, 2, 5) / 2;
+
+            System.out.printf("%10d %12d %12.3f %12d %12.3f %12.3f%n", size, tree.length, resendMillis,
+                    serialize(forward).length, diffMillis, applyMillis);
+        }
+    }
+
+    private static byte[] write(BinaryTree<Integer> tree) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            tree.writeTo(Channels.newChannel(bytes), ElementCodecs.INT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static BinaryTree<Integer> read(byte[] format) {
+        try {
+            return BinaryTree.readFrom(Channels.newChannel(new ByteArrayInputStream(format)), ElementCodecs.INT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] serialize(Serializable patch) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(patch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,23 @@
+package com.jalasoft.benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public final class TestLists {
+
+    private TestLists() {
+    }
+
+    public static <T> List<T> toList(Iterable<T> elems) {
+        List<T> list = new ArrayList<>();
+        elems.forEach(list::add);
+        return list;
+    }
+
+    public static <T> List<T> toList(Iterator<T> elems) {
+        List<T> list = new ArrayList<>();
+        elems.forEachRemaining(list::add);
+        return list;
+    }
+}
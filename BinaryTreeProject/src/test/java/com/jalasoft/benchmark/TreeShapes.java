@@ -0,0 +1,78 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryNode;
+import com.jalasoft.main.BinaryTree;
+import java.util.Random;
+
+public enum TreeShapes {
+
+    COMPLETE {
+        @Override
+        public BinaryNode<Integer> build(int size, long seed) {
+            BinaryNode<Integer>[] nodes = newNodes(size);
+            for (int i = size - 1; i >= 0; i--) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                nodes[i] = new BinaryNode<>(i,
+                        left < size ? nodes[left] : null,
+                        right < size ? nodes[right] : null);
+                if (left < size) {
+                    nodes[left] = null;
+                }
+                if (right < size) {
+                    nodes[right] = null;
+                }
+            }
+            return nodes[0];
+        }
+    },
+    RANDOM {
+        @Override
+        public BinaryNode<Integer> build(int size, long seed) {
+            return random(new Random(seed), 0, size);
+        }
+    },
+    LEFT_SKEWED {
+        @Override
+        public BinaryNode<Integer> build(int size, long seed) {
+            BinaryNode<Integer> node = null;
+            for (int i = size - 1; i >= 0; i--) {
+                node = new BinaryNode<>(i, node, null);
+            }
+            return node;
+        }
+    },
+    ZIGZAG {
+        @Override
+        public BinaryNode<Integer> build(int size, long seed) {
+            BinaryNode<Integer> node = null;
+            for (int i = size - 1; i >= 0; i--) {
+                node = (i % 2 == 0) ? new BinaryNode<>(i, node, null) : new BinaryNode<>(i, null, node);
+            }
+            return node;
+        }
+    };
+
+    public abstract BinaryNode<Integer> build(int size, long seed);
+
+    public BinaryTree<Integer> tree(int size, long seed) {
+        BinaryTree<Integer> tree = new BinaryTree<>(-1);
+        tree.getRoot().setLeft(this.build(size - 1, seed));
+        return tree;
+    }
+
+    private static BinaryNode<Integer> random(Random random, int first, int size) {
+        if (size == 0) {
+            return null;
+        }
+        int leftSize = random.nextInt(size);
+        BinaryNode<Integer> left = random(random, first, leftSize);
+        BinaryNode<Integer> right = random(random, first + leftSize + 1, size - leftSize - 1);
+        return new BinaryNode<>(first + leftSize, left, right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BinaryNode<Integer>[] newNodes(int size) {
+        return (BinaryNode<Integer>[]) new BinaryNode<?>[size];
+    }
+}
@@ -0,0 +1,84 @@
+package com.jalasoft.benchmark;
+
+import com.jalasoft.main.BinaryTree;
+import com.jalasoft.main.ElementCodecs;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+
+public final class WireFormatBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = Harness.sizes(args, 100_000, 1_000_000);
+
+        System.out.printf("%-12s %10s %14s %14s %12s %12s %12s %12s%n", "shape", "nodes",
+                "java bytes", "format bytes", "java out ms", "format out", "java in ms", "format in");
+
+        for (int size : sizes) {
+            for (TreeShapes shape : TreeShapes.values()) {
+                BinaryTree<Integer> tree = shape.tree(size, 42L);
+
+                byte[] format = write(tree);
+                double formatOut = Harness.medianMillis(() -> write(tree), 2, 5);
+                double formatIn = Harness.medianMillis(() -> read(format), 2, 5);
+
+                long javaBytes = -1;
+                double javaOut = Double.NaN;
+                double javaIn = Double.NaN;
+                try {
+                    byte[] serialized = serialize(tree);
+                    javaBytes = serialized.length;
+                    javaOut = Harness.medianMillis(() -> serialize(tree), 1, 3);
+                    javaIn = Harness.medianMillis(() -> deserialize(serialized), 1, 3);
+                } catch (StackOverflowError e) {
+                    // deep trees overflow the recursive serialization
+                }
+
+                System.out.printf("%-12s %10d %14d %14d %12.3f %12.3f %12.3f %12.3f%n", shape.name(), size,
+                        javaBytes, format.length, javaOut, formatOut, javaIn, formatIn);
+            }
+        }
+    }
+
+    private static byte[] write(BinaryTree<Integer> tree) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            tree.writeTo(Channels.newChannel(bytes), ElementCodecs.INT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static BinaryTree<Integer> read(byte[] format) {
+        try {
+            return BinaryTree.readFrom(Channels.newChannel(new ByteArrayInputStream(format)), ElementCodecs.INT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] serialize(BinaryTree<Integer> tree) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] serialized) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}